@@ -4,6 +4,9 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.mygdx.game.assets.AssetManifest;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.screen.LoadingScreen;
 import com.mygdx.game.screen.MenuScreen;
 
 public class MyGdxGame extends Game {
@@ -12,21 +15,22 @@ public class MyGdxGame extends Game {
 
 	/**
 	 * This method is called when the application is created.
-	 * It initializes the SpriteBatch and the GameMap.
+	 * It initializes the SpriteBatch and shows the menu once the shared assets are loaded.
 	 */
 	@Override
 	public void create () {
 		batch = new SpriteBatch();
-		this.setScreen(new MenuScreen(this));
+		this.setScreen(new LoadingScreen(this, AssetManifest.MENU, () -> new MenuScreen(this)));
 	}
 
 	/**
 	 * This method is called when the application is disposed.
-	 * It disposes the SpriteBatch to free up resources.
+	 * It disposes the SpriteBatch and all shared assets to free up resources.
 	 */
 	@Override
 	public void dispose() {
 		batch.dispose();
+		Assets.dispose();
 		getScreen().dispose();
 	}
 
@@ -0,0 +1,162 @@
+package com.mygdx.game.assets;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.gui.Hud;
+
+/**
+ * Declares the assets a screen needs before it is shown.
+ * The assets of a manifest are loaded in the background by the loading screen,
+ * so creating the world or an item later never waits for a file to be read and decoded.
+ *
+ * @author Mykola Isaiev
+ */
+public final class AssetManifest {
+    /**
+     * The path of the skin used by the menu and the pause window.
+     */
+    public static final String SKIN = "menu/uiskin.json";
+
+    /**
+     * The path of the menu background.
+     */
+    public static final String MENU_BACKGROUND = "menu/BackMenu.jpg";
+
+    /**
+     * The path of the tiled map the world is generated on.
+     */
+    public static final String MAP = "map/map.tmx";
+
+    /**
+     * Assets shared by all screens. They stay loaded for the whole lifetime of the game.
+     */
+    public static final AssetManifest MENU = new AssetManifest()
+            .atlas()
+            .asset(SKIN, Skin.class)
+            .asset(MENU_BACKGROUND, Texture.class);
+
+    /**
+     * Assets used while playing: the map and every sprite of the world, the player, the inventory and the items.
+     */
+    public static final AssetManifest GAME = new AssetManifest()
+            .asset(MAP, TiledMap.class)
+            .sprites("break", 1, 5)
+            .sprite("actionPopUpBackground.png")
+            .sprite("inventory/inventoryBackground.png")
+            .sprite("inventory/inventorySlot.png")
+            .sprite("workbench/arrowLeft.png")
+            .sprite("workbench/arrowRight.png")
+            .sprite("player/drillRadiusNormal.png")
+            .sprite(Hud.WHITE)
+            .sprite("animations/player/player.png")
+            .sprites("animations/player/walkLeft", 1, 3)
+            .sprites("animations/player/walkRight", 1, 3)
+            .sprites("animations/player/rocket/rocket", 0, 7)
+            .sprite(Assets.WRAPPED)
+            .sprite("items/modules/crafting_tables/medium_workbench.png")
+            .sprite("items/modules/crafting_tables/big_workbench.png")
+            .sprite("items/modules/crafting_tables/large_workbench.png")
+            .sprite("items/modules/storages/medium_storage.png")
+            .sprite("items/modules/storages/big_storage.png")
+            .sprite("items/modules/storages/large_storage.png")
+            .sprite("items/modules/oxygen/station.png")
+            .sprite("items/modules/oxygen/mobile.png")
+            .sprite("items/modules/utils/jetpack.png")
+            .sprite("items/modules/utils/rocket.png")
+            .sprite("items/storages/SmallSoilStorage.png")
+            .sprite("items/resources/rawResources/aluminium.png")
+            .sprite("items/resources/rawResources/coal.png")
+            .sprite("items/resources/rawResources/compound.png")
+            .sprite("items/resources/rawResources/copper.png")
+            .sprite("items/resources/rawResources/iron.png")
+            .sprite("items/resources/rawResources/resin.png")
+            .sprite("items/resources/rawResources/ruby.png");
+
+    /**
+     * Indicates whether the texture atlas belongs to this manifest.
+     */
+    boolean includesAtlas = false;
+
+    /**
+     * The paths of the declared assets.
+     */
+    final Array<String> paths = new Array<>();
+
+    /**
+     * The types of the declared assets, in the same order as the paths.
+     */
+    final Array<Class<?>> types = new Array<>();
+
+    /**
+     * Indicates for every declared asset whether it is a sprite, which is not loaded separately if it is packed in the atlas.
+     */
+    final Array<Boolean> sprites = new Array<>();
+
+    /**
+     * The paths of the assets which were queued for loading and have to be unloaded with the manifest.
+     */
+    final Array<String> queued = new Array<>();
+
+    /**
+     * Adds the texture atlas to this manifest. The atlas is loaded only if it was packed.
+     *
+     * @return This manifest.
+     *
+     * @author Mykola Isaiev
+     */
+    public AssetManifest atlas() {
+        includesAtlas = true;
+        return this;
+    }
+
+    /**
+     * Adds an asset to this manifest.
+     *
+     * @param path The path of the asset.
+     * @param type The type of the asset.
+     * @return This manifest.
+     *
+     * @author Mykola Isaiev
+     */
+    public AssetManifest asset(String path, Class<?> type) {
+        paths.add(path);
+        types.add(type);
+        sprites.add(false);
+        return this;
+    }
+
+    /**
+     * Adds a sprite to this manifest.
+     * The sprite is loaded as a separate texture only if it is not packed in the texture atlas.
+     *
+     * @param path The path of the sprite.
+     * @return This manifest.
+     *
+     * @author Mykola Isaiev
+     */
+    public AssetManifest sprite(String path) {
+        paths.add(path);
+        types.add(Texture.class);
+        sprites.add(true);
+        return this;
+    }
+
+    /**
+     * Adds numbered animation frames to this manifest, e.g. break1.png to break5.png.
+     *
+     * @param prefix The path of the frames without the number and the extension.
+     * @param first The number of the first frame.
+     * @param last The number of the last frame.
+     * @return This manifest.
+     *
+     * @author Mykola Isaiev
+     */
+    public AssetManifest sprites(String prefix, int first, int last) {
+        for (int i = first; i <= last; i++) {
+            sprite(prefix + i + ".png");
+        }
+        return this;
+    }
+}
@@ -0,0 +1,322 @@
+package com.mygdx.game.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Central cache for all textures, maps and skins used by the screens, items, entities and user interface actors.
+ * Sprites are looked up in the texture atlas packed at build time by the packTextures task,
+ * so actors drawn one after another share the same texture and do not flush the batch.
+ * Sprites missing from the atlas are loaded as separate textures through an {@link AssetManager},
+ * which counts how many users hold a texture and disposes it when the last user releases it.
+ *
+ * @author Mykola Isaiev
+ */
+public final class Assets {
+    /**
+     * The path of the texture used for all wrapped items.
+     */
+    public static final String WRAPPED = "items/wrapped/wrapped.png";
+
+    /**
+     * The path of the texture atlas containing all item, animation and user interface sprites.
+     */
+    public static final String ATLAS = "atlas/game.atlas";
+
+    /**
+     * The asset manager holding all loaded assets.
+     */
+    private static AssetManager manager;
+
+    /**
+     * Shared texture regions covering whole textures, by texture path.
+     */
+    private static final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+
+    /**
+     * Regions found in the texture atlas, by texture path.
+     */
+    private static final ObjectMap<String, TextureRegion> atlasRegions = new ObjectMap<>();
+
+    /**
+     * The texture atlas, or null if the atlas was not packed.
+     */
+    private static TextureAtlas atlas;
+
+    /**
+     * The font shared by small labels drawn directly with the batch, such as stack counts.
+     */
+    private static BitmapFont font;
+
+    private Assets() {
+    }
+
+    /**
+     * Returns the asset manager, creating it on first use.
+     * The asset manager has no loader for tiled maps by default, the TMX loader is registered when it is created.
+     *
+     * @return The asset manager holding all loaded assets.
+     *
+     * @author Mykola Isaiev
+     */
+    public static AssetManager getManager() {
+        if (manager == null) {
+            manager = new AssetManager();
+            manager.setLoader(TiledMap.class, new TmxMapLoader(new InternalFileHandleResolver()));
+        }
+        return manager;
+    }
+
+    /**
+     * Queues all assets of a manifest for loading.
+     * The assets are loaded in the background by {@link #update(int)}: files are read and images are decoded
+     * on the loader thread of the asset manager, only the upload to the graphics card happens on the render thread.
+     * Sprites which are packed in the texture atlas are not loaded separately.
+     * The manifest holds its assets until {@link #unload(AssetManifest)} is called.
+     *
+     * @param manifest The manifest to load.
+     *
+     * @author Mykola Isaiev
+     */
+    public static void queue(AssetManifest manifest) {
+        if (manifest.includesAtlas && Gdx.files.internal(ATLAS).exists()) {
+            getManager().load(ATLAS, TextureAtlas.class);
+            manifest.queued.add(ATLAS);
+        }
+
+        for (int i = 0; i < manifest.paths.size; i++) {
+            String fileName = normalize(manifest.paths.get(i));
+            if (manifest.sprites.get(i) && findAtlasRegion(fileName) != null) {
+                continue;
+            }
+            getManager().load(fileName, manifest.types.get(i));
+            manifest.queued.add(fileName);
+        }
+    }
+
+    /**
+     * Continues loading the queued assets for at most the specified time.
+     * This method should be called once per frame while a loading screen is shown.
+     *
+     * @param millis The time budget of this frame in milliseconds.
+     * @return True if all queued assets are loaded, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public static boolean update(int millis) {
+        boolean finished = getManager().update(millis);
+        if (atlas == null && manager.isLoaded(ATLAS)) {
+            atlas = manager.get(ATLAS, TextureAtlas.class);
+        }
+        return finished;
+    }
+
+    /**
+     * Returns the loading progress of the queued assets.
+     *
+     * @return The progress between 0 and 1.
+     *
+     * @author Mykola Isaiev
+     */
+    public static float getProgress() {
+        return getManager().getProgress();
+    }
+
+    /**
+     * Releases all assets held by a manifest.
+     * Assets still used by other manifests or actors stay loaded.
+     *
+     * @param manifest The manifest to unload.
+     *
+     * @author Mykola Isaiev
+     */
+    public static void unload(AssetManifest manifest) {
+        for (String fileName : manifest.queued) {
+            release(fileName);
+        }
+        manifest.queued.clear();
+    }
+
+    /**
+     * Acquires an asset of any type.
+     * The asset is loaded if it is not loaded yet, otherwise its reference count is increased.
+     * Every call must be paired with a call to {@link #release(String)}.
+     *
+     * @param path The path of the asset.
+     * @param type The type of the asset.
+     * @param <T> The type of the asset.
+     * @return The shared asset.
+     *
+     * @author Mykola Isaiev
+     */
+    public static <T> T get(String path, Class<T> type) {
+        String fileName = normalize(path);
+        getManager().load(fileName, type);
+        manager.finishLoadingAsset(fileName);
+        return manager.get(fileName, type);
+    }
+
+    /**
+     * Acquires a texture.
+     * The texture is loaded if it is not loaded yet, otherwise its reference count is increased.
+     * Every call must be paired with a call to {@link #release(String)}.
+     *
+     * @param path The path of the texture.
+     * @return The shared texture.
+     *
+     * @author Mykola Isaiev
+     */
+    public static Texture getTexture(String path) {
+        return get(path, Texture.class);
+    }
+
+    /**
+     * Acquires a texture region for a sprite.
+     * The region is taken from the texture atlas, where it is named after its path without the extension.
+     * If the sprite is not packed, a region covering the whole separate texture is returned.
+     * All users of the same sprite share the same region, so the region must not be modified.
+     * Every call must be paired with a call to {@link #release(String)}.
+     *
+     * @param path The path of the texture.
+     * @return The shared texture region.
+     *
+     * @author Mykola Isaiev
+     */
+    public static TextureRegion getRegion(String path) {
+        String fileName = normalize(path);
+
+        TextureRegion atlasRegion = findAtlasRegion(fileName);
+        if (atlasRegion != null) {
+            return atlasRegion;
+        }
+
+        Texture texture = getTexture(fileName);
+
+        TextureRegion region = regions.get(fileName);
+        if (region == null || region.getTexture() != texture) {
+            region = new TextureRegion(texture);
+            regions.put(fileName, region);
+        }
+        return region;
+    }
+
+    /**
+     * Releases an asset acquired with {@link #get(String, Class)}, {@link #getTexture(String)} or {@link #getRegion(String)}.
+     * The asset is disposed when it is no longer used.
+     *
+     * @param path The path of the texture.
+     *
+     * @author Mykola Isaiev
+     */
+    public static void release(String path) {
+        String fileName = normalize(path);
+        if (atlasRegions.containsKey(fileName)) {
+            // packed sprites live as long as the atlas
+            return;
+        }
+        if (manager == null || !manager.contains(fileName)) {
+            return;
+        }
+
+        manager.unload(fileName);
+        if (!manager.contains(fileName)) {
+            regions.remove(fileName);
+            if (fileName.equals(ATLAS)) {
+                atlas = null;
+                atlasRegions.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the font shared by small labels, creating it on first use.
+     *
+     * @return The shared font.
+     *
+     * @author Mykola Isaiev
+     */
+    public static BitmapFont getFont() {
+        if (font == null) {
+            font = new BitmapFont();
+        }
+        return font;
+    }
+
+    /**
+     * Returns the number of textures which are currently loaded.
+     *
+     * @return The number of live textures.
+     *
+     * @author Mykola Isaiev
+     */
+    public static int getLoadedTextureCount() {
+        if (manager == null) {
+            return 0;
+        }
+        return manager.getAll(Texture.class, new Array<Texture>()).size;
+    }
+
+    /**
+     * Disposes all loaded assets.
+     *
+     * @author Mykola Isaiev
+     */
+    public static void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+        atlas = null;
+        regions.clear();
+        atlasRegions.clear();
+    }
+
+    /**
+     * Returns the region of a sprite in the texture atlas.
+     *
+     * @param fileName The normalized path of the texture.
+     * @return The region in the atlas, or null if the atlas is not loaded or does not contain the sprite.
+     */
+    private static TextureRegion findAtlasRegion(String fileName) {
+        if (atlas == null) {
+            return null;
+        }
+
+        TextureRegion region = atlasRegions.get(fileName);
+        if (region == null) {
+            int extension = fileName.lastIndexOf('.');
+            region = atlas.findRegion(extension < 0 ? fileName : fileName.substring(0, extension));
+            if (region != null) {
+                atlasRegions.put(fileName, region);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Converts a texture path to the file name used as the key of the asset.
+     * Some paths in the game are relative to the project root, they are converted to paths relative to the assets directory.
+     *
+     * @param path The path of the texture.
+     * @return The file name of the texture.
+     */
+    private static String normalize(String path) {
+        if (path.startsWith("assets/")) {
+            return path.substring("assets/".length());
+        }
+        return path;
+    }
+}
@@ -0,0 +1,308 @@
+package com.mygdx.game.drill;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.mygdx.game.world.GameMap;
+import com.mygdx.game.world.TileType;
+
+/**
+ * Breaks the tiles under the drill.
+ * The tiles of the footprint are read from the map once when the cursor enters a new tile and kept in a cache,
+ * together with the damage every tile has taken. Every tick the damage grows by the power of the drill,
+ * and all tiles whose damage reached their hardness are broken in one batch, which also removes them from the cache.
+ * A bigger footprint costs one bigger scan per cursor tile, not one scan per tick.
+ *
+ * @author Yehor Nesterenko
+ */
+public class DrillEngine {
+    /**
+     * The power of a drill without upgrades.
+     */
+    public static final float DEFAULT_POWER = 1;
+
+    /**
+     * The tile type which replaces the broken tiles.
+     */
+    private static final TileType BROKEN_TILE = TileType.SKY;
+
+    /**
+     * The map the drill works on.
+     */
+    private final GameMap map;
+
+    /**
+     * The stencil of tiles the drill works on.
+     */
+    private DrillFootprint footprint;
+
+    /**
+     * The damage dealt to every tile per second.
+     */
+    private float power = DEFAULT_POWER;
+
+    /**
+     * The column of the tile under the cursor when the cache was filled.
+     */
+    private int aimColumn;
+
+    /**
+     * The row of the tile under the cursor when the cache was filled.
+     */
+    private int aimRow;
+
+    /**
+     * Indicates whether the cache matches the tiles of the map.
+     */
+    private boolean valid = false;
+
+    /**
+     * The column of every cached tile which can be broken.
+     */
+    private final IntArray targetColumns = new IntArray(false, 64);
+
+    /**
+     * The row of every cached tile which can be broken.
+     */
+    private final IntArray targetRows = new IntArray(false, 64);
+
+    /**
+     * The layer of every cached tile which can be broken.
+     */
+    private final IntArray targetLayers = new IntArray(false, 64);
+
+    /**
+     * The type of every cached tile which can be broken.
+     */
+    private final Array<TileType> targetTypes = new Array<>(false, 64);
+
+    /**
+     * The damage every cached tile has taken, in seconds of drilling at power 1.
+     */
+    private final FloatArray damage = new FloatArray(false, 64);
+
+    /**
+     * The number of extracted resource tiles of every type in the last batch.
+     */
+    private final ObjectIntMap<TileType> extracted = new ObjectIntMap<>();
+
+    /**
+     * The number of collidable tiles removed in the last batch.
+     */
+    private int removed;
+
+    /**
+     * Constructor for creating a DrillEngine instance.
+     *
+     * @param map The map the drill works on.
+     * @param footprint The stencil of tiles the drill works on.
+     *
+     * @author Yehor Nesterenko
+     */
+    public DrillEngine(GameMap map, DrillFootprint footprint) {
+        this.map = map;
+        this.footprint = footprint;
+    }
+
+    /**
+     * Changes the stencil of tiles the drill works on, e.g. for a drill of a higher tier.
+     *
+     * @param footprint The new stencil.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void setFootprint(DrillFootprint footprint) {
+        this.footprint = footprint;
+        invalidate();
+    }
+
+    /**
+     * Changes the damage dealt to every tile per second.
+     *
+     * @param power The power of the drill.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void setPower(float power) {
+        this.power = power;
+    }
+
+    /**
+     * Aims the drill at a position. The tiles of the footprint are read only if the position is on another tile
+     * than before or the cache was invalidated, in this case the damage of the previous tiles is lost.
+     *
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void aim(float x, float y) {
+        int column = (int) Math.floor(x / TileType.TILE_SIZE);
+        int row = (int) Math.floor(y / TileType.TILE_SIZE);
+        if (valid && column == aimColumn && row == aimRow) {
+            return;
+        }
+
+        aimColumn = column;
+        aimRow = row;
+        scan();
+    }
+
+    /**
+     * Marks the cache as outdated, so the next call of {@link #aim(float, float)} reads the tiles again.
+     * Must be called when the tiles under the drill are changed by something else than the drill.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Checks if there are tiles the drill can break at the position it is aimed at.
+     *
+     * @return True if there are tiles to break, false otherwise.
+     *
+     * @author Yehor Nesterenko
+     */
+    public boolean hasTargets() {
+        return targetTypes.size > 0;
+    }
+
+    /**
+     * Removes the damage from all cached tiles, e.g. when the player stops drilling.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void reset() {
+        for (int i = 0; i < damage.size; i++) {
+            damage.set(i, 0);
+        }
+    }
+
+    /**
+     * Returns how close the most damaged tile is to breaking.
+     *
+     * @return The progress from 0 to 1.
+     *
+     * @author Yehor Nesterenko
+     */
+    public float getProgress() {
+        float progress = 0;
+        for (int i = 0; i < damage.size; i++) {
+            float hardness = targetTypes.get(i).getHardness();
+            progress = Math.max(progress, hardness <= 0 ? 1 : damage.get(i) / hardness);
+        }
+        return Math.min(progress, 1);
+    }
+
+    /**
+     * Damages all cached tiles and breaks those whose damage reached their hardness.
+     * The broken tiles are replaced in one batch; the extracted resources and the number of removed tiles
+     * can be read with {@link #getExtracted()} and {@link #getRemovedCount()} until the next call.
+     *
+     * @param delta The time in seconds since the last tick.
+     * @return True if at least one tile was broken, false otherwise.
+     *
+     * @author Yehor Nesterenko
+     */
+    public boolean drill(float delta) {
+        extracted.clear();
+        removed = 0;
+
+        float amount = power * delta;
+        boolean broken = false;
+        for (int i = 0; i < damage.size; i++) {
+            damage.incr(i, amount);
+            broken |= damage.get(i) >= targetTypes.get(i).getHardness();
+        }
+        if (broken) {
+            applyBroken();
+        }
+        return broken;
+    }
+
+    /**
+     * Returns the number of extracted resource tiles of every type in the last batch.
+     * The map is owned by the engine and is cleared by the next call of {@link #drill(float)}.
+     *
+     * @return The extracted resource tiles, by their type.
+     *
+     * @author Yehor Nesterenko
+     */
+    public ObjectIntMap<TileType> getExtracted() {
+        return extracted;
+    }
+
+    /**
+     * Returns the number of collidable tiles removed in the last batch.
+     *
+     * @return The number of removed tiles.
+     *
+     * @author Yehor Nesterenko
+     */
+    public int getRemovedCount() {
+        return removed;
+    }
+
+    /**
+     * Replaces the broken tiles, counts the results and removes the broken tiles from the cache.
+     */
+    private void applyBroken() {
+        for (int i = damage.size - 1; i >= 0; i--) {
+            TileType type = targetTypes.get(i);
+            if (damage.get(i) < type.getHardness()) {
+                continue;
+            }
+
+            map.setTileByCoordinate(targetLayers.get(i), targetColumns.get(i), targetRows.get(i), BROKEN_TILE);
+            if (type.isExtractable()) {
+                extracted.getAndIncrement(type, 0, 1);
+            }
+            if (type.isCollidable()) {
+                removed++;
+            }
+
+            targetColumns.removeIndex(i);
+            targetRows.removeIndex(i);
+            targetLayers.removeIndex(i);
+            targetTypes.removeIndex(i);
+            damage.removeIndex(i);
+        }
+    }
+
+    /**
+     * Reads the tiles of the footprint around the tile the drill is aimed at into the cache.
+     */
+    private void scan() {
+        targetColumns.clear();
+        targetRows.clear();
+        targetLayers.clear();
+        targetTypes.clear();
+        damage.clear();
+
+        int width = (int) map.getWidth();
+        int height = (int) map.getHeight();
+        int layers = map.getLayers();
+        for (int i = 0; i < footprint.size(); i++) {
+            int column = aimColumn + footprint.getColumn(i);
+            int row = aimRow + footprint.getRow(i);
+            if (column < 0 || row < 0 || column >= width || row >= height) {
+                continue;
+            }
+
+            for (int layer = 0; layer < layers; layer++) {
+                TileType type = map.getTileTypeByCoordinate(layer, column, row);
+                if (type != null && (type.isCollidable() || type.isExtractable())) {
+                    targetColumns.add(column);
+                    targetRows.add(row);
+                    targetLayers.add(layer);
+                    targetTypes.add(type);
+                    damage.add(0);
+                }
+            }
+        }
+        valid = true;
+    }
+}
@@ -0,0 +1,111 @@
+package com.mygdx.game.drill;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * The stencil of tiles a drill works on, as offsets from the tile under the cursor.
+ * A footprint is built once for a drill tier and reused for every cursor position.
+ *
+ * @author Yehor Nesterenko
+ */
+public class DrillFootprint {
+    /**
+     * The column offset of every tile of the stencil.
+     */
+    private final int[] columns;
+
+    /**
+     * The row offset of every tile of the stencil.
+     */
+    private final int[] rows;
+
+    /**
+     * Constructor for creating a DrillFootprint instance.
+     *
+     * @param columns The column offset of every tile.
+     * @param rows The row offset of every tile.
+     *
+     * @author Yehor Nesterenko
+     */
+    private DrillFootprint(int[] columns, int[] rows) {
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Creates a circular footprint.
+     *
+     * @param radius The radius of the circle in tiles.
+     * @return The footprint with all tiles whose centre lies in the circle.
+     *
+     * @author Yehor Nesterenko
+     */
+    public static DrillFootprint circle(float radius) {
+        int extent = (int) Math.ceil(radius);
+        IntArray columns = new IntArray();
+        IntArray rows = new IntArray();
+        for (int row = -extent; row <= extent; row++) {
+            for (int column = -extent; column <= extent; column++) {
+                if (column * column + row * row <= radius * radius) {
+                    columns.add(column);
+                    rows.add(row);
+                }
+            }
+        }
+        return new DrillFootprint(columns.toArray(), rows.toArray());
+    }
+
+    /**
+     * Creates a rectangular footprint centred on the tile under the cursor.
+     *
+     * @param width The width of the rectangle in tiles.
+     * @param height The height of the rectangle in tiles.
+     * @return The footprint with all tiles of the rectangle.
+     *
+     * @author Yehor Nesterenko
+     */
+    public static DrillFootprint rectangle(int width, int height) {
+        int[] columns = new int[width * height];
+        int[] rows = new int[width * height];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = i % width - width / 2;
+            rows[i] = i / width - height / 2;
+        }
+        return new DrillFootprint(columns, rows);
+    }
+
+    /**
+     * Returns the number of tiles of the stencil.
+     *
+     * @return The number of tiles.
+     *
+     * @author Yehor Nesterenko
+     */
+    public int size() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the column offset of a tile of the stencil.
+     *
+     * @param i The index of the tile.
+     * @return The column offset.
+     *
+     * @author Yehor Nesterenko
+     */
+    public int getColumn(int i) {
+        return columns[i];
+    }
+
+    /**
+     * Returns the row offset of a tile of the stencil.
+     *
+     * @param i The index of the tile.
+     * @return The row offset.
+     *
+     * @author Yehor Nesterenko
+     */
+    public int getRow(int i) {
+        return rows[i];
+    }
+}
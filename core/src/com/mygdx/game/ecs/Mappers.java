@@ -0,0 +1,24 @@
+package com.mygdx.game.ecs;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.mygdx.game.ecs.components.FuelComponent;
+import com.mygdx.game.ecs.components.ItemComponent;
+import com.mygdx.game.ecs.components.OxygenEmitterComponent;
+import com.mygdx.game.ecs.components.StorageComponent;
+import com.mygdx.game.ecs.components.TransformComponent;
+
+/**
+ * Holds the component mappers used by the systems for fast component access.
+ *
+ * @author Mykola Isaiev
+ */
+public final class Mappers {
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<ItemComponent> item = ComponentMapper.getFor(ItemComponent.class);
+    public static final ComponentMapper<FuelComponent> fuel = ComponentMapper.getFor(FuelComponent.class);
+    public static final ComponentMapper<OxygenEmitterComponent> oxygenEmitter = ComponentMapper.getFor(OxygenEmitterComponent.class);
+    public static final ComponentMapper<StorageComponent> storage = ComponentMapper.getFor(StorageComponent.class);
+
+    private Mappers() {
+    }
+}
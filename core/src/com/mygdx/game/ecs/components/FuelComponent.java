@@ -0,0 +1,108 @@
+package com.mygdx.game.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.mygdx.game.scheduler.TickScheduler;
+
+/**
+ * Represents the fuel tank of a module.
+ * The tank is not updated every simulation tick: it stores the amount of fuel at the time of its last change
+ * and the burn rate, and the current amount is computed from them when it is read.
+ * The simulation times are kept as doubles like the clock of the scheduler, so the computed amount stays exact
+ * however long the game runs.
+ * Entities with this component burn fuel with the specified rate while they are in the simulation.
+ *
+ * @author Mykola Isaiev
+ */
+public class FuelComponent implements Component {
+    /**
+     * The maximum amount of fuel the tank can hold.
+     */
+    public float capacity;
+
+    /**
+     * The amount of fuel burned per second.
+     */
+    public float burnRate;
+
+    /**
+     * The handle of the event scheduled for the time the tank runs out, or {@link TickScheduler#INVALID_HANDLE}.
+     */
+    public long emptyHandle = TickScheduler.INVALID_HANDLE;
+
+    /**
+     * The event executed when the tank runs out, created when the tank starts burning.
+     */
+    public Runnable emptyTask;
+
+    /**
+     * The amount of fuel in the tank at the time of the last change.
+     */
+    private float level;
+
+    /**
+     * The simulation time of the last change.
+     */
+    private double changedAt;
+
+    /**
+     * Indicates whether the tank is burning fuel.
+     */
+    private boolean burning;
+
+    /**
+     * Returns the amount of fuel in the tank.
+     *
+     * @param now The current simulation time.
+     * @return The amount of fuel.
+     *
+     * @author Mykola Isaiev
+     */
+    public float getLevel(double now) {
+        if (!burning || level <= 0) {
+            return level;
+        }
+        return (float) Math.max(level - burnRate * (now - changedAt), 0);
+    }
+
+    /**
+     * Sets the amount of fuel in the tank.
+     *
+     * @param level The amount of fuel.
+     * @param now The current simulation time.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setLevel(float level, double now) {
+        this.level = level;
+        this.changedAt = now;
+    }
+
+    /**
+     * Starts or stops burning fuel, the fuel burned so far is taken from the tank.
+     *
+     * @param burning True if the tank burns fuel from now on.
+     * @param now The current simulation time.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setBurning(boolean burning, double now) {
+        setLevel(getLevel(now), now);
+        this.burning = burning;
+    }
+
+    /**
+     * Returns the time until the tank runs out.
+     *
+     * @param now The current simulation time.
+     * @return The time in seconds, 0 if the tank is empty, or infinity if it does not burn fuel.
+     *
+     * @author Mykola Isaiev
+     */
+    public float getTimeLeft(double now) {
+        float left = getLevel(now);
+        if (left <= 0) {
+            return 0;
+        }
+        return burning && burnRate > 0 ? left / burnRate : Float.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,27 @@
+package com.mygdx.game.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.mygdx.game.item.Item;
+
+/**
+ * Links an entity to the item it represents in the game world.
+ *
+ * @author Mykola Isaiev
+ */
+public class ItemComponent implements Component {
+    /**
+     * The item represented by the entity.
+     */
+    public Item item;
+
+    /**
+     * Constructor for creating an ItemComponent instance.
+     *
+     * @param item The item represented by the entity.
+     *
+     * @author Mykola Isaiev
+     */
+    public ItemComponent(Item item) {
+        this.item = item;
+    }
+}
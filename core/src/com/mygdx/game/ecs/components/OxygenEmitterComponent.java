@@ -0,0 +1,27 @@
+package com.mygdx.game.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks an entity as a source of oxygen.
+ * The entity provides oxygen in the specified radius while it has fuel.
+ *
+ * @author Mykola Isaiev
+ */
+public class OxygenEmitterComponent implements Component {
+    /**
+     * The radius around the entity in which oxygen is provided.
+     */
+    public float radius;
+
+    /**
+     * Constructor for creating an OxygenEmitterComponent instance.
+     *
+     * @param radius The radius around the entity in which oxygen is provided.
+     *
+     * @author Mykola Isaiev
+     */
+    public OxygenEmitterComponent(float radius) {
+        this.radius = radius;
+    }
+}
@@ -0,0 +1,27 @@
+package com.mygdx.game.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+import com.mygdx.game.inventory.model.InventoryModel;
+
+/**
+ * Marks an entity as a storage whose content counts towards the resources of the player.
+ *
+ * @author Mykola Isaiev
+ */
+public class StorageComponent implements Component {
+    /**
+     * The content of the storage.
+     */
+    public InventoryModel inventory;
+
+    /**
+     * Constructor for creating a StorageComponent instance.
+     *
+     * @param inventory The content of the storage.
+     *
+     * @author Mykola Isaiev
+     */
+    public StorageComponent(InventoryModel inventory) {
+        this.inventory = inventory;
+    }
+}
@@ -0,0 +1,47 @@
+package com.mygdx.game.ecs.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Represents the position and size of an entity in the game world.
+ *
+ * @author Mykola Isaiev
+ */
+public class TransformComponent implements Component {
+    /**
+     * The x-coordinate of the entity.
+     */
+    public float x;
+
+    /**
+     * The y-coordinate of the entity.
+     */
+    public float y;
+
+    /**
+     * The width of the entity.
+     */
+    public float width;
+
+    /**
+     * The height of the entity.
+     */
+    public float height;
+
+    /**
+     * Sets the position and size of the entity.
+     *
+     * @param x The x-coordinate of the entity.
+     * @param y The y-coordinate of the entity.
+     * @param width The width of the entity.
+     * @param height The height of the entity.
+     *
+     * @author Mykola Isaiev
+     */
+    public void set(float x, float y, float width, float height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+}
@@ -0,0 +1,146 @@
+package com.mygdx.game.ecs.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.mygdx.game.ecs.Mappers;
+import com.mygdx.game.ecs.components.FuelComponent;
+import com.mygdx.game.scheduler.TickScheduler;
+import com.mygdx.game.world.OxygenField;
+
+/**
+ * Burns the fuel of all working modules.
+ * The tanks are not touched every simulation tick: a tank starts burning when its module enters the simulation,
+ * stops when the module leaves it, and computes its fuel from the elapsed time when it is read.
+ * The only event of a tank, running out, is scheduled on the tick scheduler, so idle modules cost nothing per tick.
+ * When an oxygen source runs out of fuel, the oxygen coverage of the map is updated.
+ *
+ * @author Mykola Isaiev
+ */
+public class FuelSystem extends EntitySystem implements EntityListener {
+    /**
+     * The family of all modules with a fuel tank.
+     */
+    private static final Family FAMILY = Family.all(FuelComponent.class).get();
+
+    /**
+     * The oxygen coverage of the map.
+     */
+    private final OxygenField oxygenField;
+
+    /**
+     * The scheduler providing the simulation time and executing the events of the tanks.
+     */
+    private final TickScheduler scheduler;
+
+    /**
+     * Constructor for creating a FuelSystem instance.
+     *
+     * @param oxygenField The oxygen coverage of the map.
+     * @param scheduler The scheduler providing the simulation time and executing the events of the tanks.
+     *
+     * @author Mykola Isaiev
+     */
+    public FuelSystem(OxygenField oxygenField, TickScheduler scheduler) {
+        this.oxygenField = oxygenField;
+        this.scheduler = scheduler;
+        setProcessing(false);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(FAMILY, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+    }
+
+    /**
+     * Starts burning the fuel of a module entering the simulation.
+     *
+     * @param entity The entity of the module.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void entityAdded(Entity entity) {
+        FuelComponent fuel = Mappers.fuel.get(entity);
+        fuel.setBurning(true, scheduler.getTime());
+        fuel.emptyTask = () -> runOut(entity);
+        scheduleEmpty(fuel);
+    }
+
+    /**
+     * Stops burning the fuel of a module leaving the simulation.
+     *
+     * @param entity The entity of the module.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void entityRemoved(Entity entity) {
+        FuelComponent fuel = Mappers.fuel.get(entity);
+        fuel.setBurning(false, scheduler.getTime());
+        scheduler.cancel(fuel.emptyHandle);
+        fuel.emptyHandle = TickScheduler.INVALID_HANDLE;
+        fuel.emptyTask = null;
+    }
+
+    /**
+     * Moves the event of a module running out after its fuel was changed, e.g. by refueling.
+     * If the module is an oxygen source, the oxygen coverage of the map is updated.
+     *
+     * @param entity The entity of the module.
+     *
+     * @author Mykola Isaiev
+     */
+    public void fuelChanged(Entity entity) {
+        FuelComponent fuel = Mappers.fuel.get(entity);
+        if (fuel == null || fuel.emptyTask == null) {
+            return;
+        }
+
+        scheduler.cancel(fuel.emptyHandle);
+        scheduleEmpty(fuel);
+        if (Mappers.oxygenEmitter.has(entity)) {
+            oxygenField.invalidate();
+        }
+    }
+
+    /**
+     * Schedules the event of a burning tank running out, unless the tank is already empty.
+     *
+     * @param fuel The tank.
+     */
+    private void scheduleEmpty(FuelComponent fuel) {
+        float left = fuel.getTimeLeft(scheduler.getTime());
+        if (left > 0 && left < Float.POSITIVE_INFINITY) {
+            fuel.emptyHandle = scheduler.schedule(fuel.emptyTask, left);
+        } else {
+            fuel.emptyHandle = TickScheduler.INVALID_HANDLE;
+        }
+    }
+
+    /**
+     * Handles a module running out of fuel.
+     *
+     * @param entity The entity of the module.
+     */
+    private void runOut(Entity entity) {
+        FuelComponent fuel = Mappers.fuel.get(entity);
+        fuel.emptyHandle = TickScheduler.INVALID_HANDLE;
+        // the time left is rounded, so the event may come a moment early
+        if (fuel.getLevel(scheduler.getTime()) > 0) {
+            scheduleEmpty(fuel);
+            return;
+        }
+
+        if (Mappers.oxygenEmitter.has(entity)) {
+            oxygenField.invalidate();
+        }
+    }
+}
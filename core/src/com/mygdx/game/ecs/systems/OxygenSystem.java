@@ -0,0 +1,138 @@
+package com.mygdx.game.ecs.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.mygdx.game.ecs.Mappers;
+import com.mygdx.game.ecs.components.FuelComponent;
+import com.mygdx.game.ecs.components.OxygenEmitterComponent;
+import com.mygdx.game.ecs.components.TransformComponent;
+import com.mygdx.game.scheduler.JobSystem;
+import com.mygdx.game.scheduler.RangeJob;
+import com.mygdx.game.scheduler.TickScheduler;
+import com.mygdx.game.world.OxygenField;
+
+/**
+ * Keeps the oxygen coverage of the map in sync with the oxygen sources in the world.
+ * The coverage is rebuilt only in ticks in which a source was added, removed or changed its state.
+ * The rebuild is split into bands of rows which are stamped in parallel by the job system,
+ * every band writes only its own rows of the coverage.
+ *
+ * @author Mykola Isaiev
+ */
+public class OxygenSystem extends EntitySystem implements EntityListener {
+    /**
+     * The family of all oxygen sources.
+     */
+    private static final Family FAMILY = Family.all(TransformComponent.class, OxygenEmitterComponent.class, FuelComponent.class).get();
+
+    /**
+     * The largest number of rows of the coverage stamped as one part of the rebuild.
+     */
+    private static final int ROWS_PER_PART = 32;
+
+    /**
+     * The oxygen coverage of the map.
+     */
+    private final OxygenField oxygenField;
+
+    /**
+     * The scheduler providing the simulation time the fuel of the sources is read at.
+     */
+    private final TickScheduler scheduler;
+
+    /**
+     * The job system stamping the bands of the coverage.
+     */
+    private final JobSystem jobs;
+
+    /**
+     * The position and the radius of every working source, collected on the game thread before the rebuild.
+     */
+    private final FloatArray working = new FloatArray();
+
+    /**
+     * Stamps all working sources into a band of rows of the coverage.
+     */
+    private final RangeJob stampRows;
+
+    /**
+     * The oxygen sources in the world.
+     */
+    private ImmutableArray<Entity> sources;
+
+    /**
+     * Constructor for creating an OxygenSystem instance.
+     *
+     * @param oxygenField The oxygen coverage of the map.
+     * @param scheduler The scheduler providing the simulation time the fuel of the sources is read at.
+     * @param jobs The job system stamping the bands of the coverage.
+     *
+     * @author Mykola Isaiev
+     */
+    public OxygenSystem(OxygenField oxygenField, TickScheduler scheduler, JobSystem jobs) {
+        this.oxygenField = oxygenField;
+        this.scheduler = scheduler;
+        this.jobs = jobs;
+        this.stampRows = (from, to) -> {
+            for (int i = 0; i < working.size; i += 3) {
+                oxygenField.stamp(working.get(i), working.get(i + 1), working.get(i + 2), from, to);
+            }
+        };
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        sources = engine.getEntitiesFor(FAMILY);
+        engine.addEntityListener(FAMILY, this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        sources = null;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        oxygenField.invalidate();
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        oxygenField.invalidate();
+    }
+
+    /**
+     * Rebuilds the oxygen coverage if it is outdated.
+     *
+     * @param deltaTime The time in seconds since the last tick.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void update(float deltaTime) {
+        if (!oxygenField.isDirty()) {
+            return;
+        }
+
+        oxygenField.clear();
+        double now = scheduler.getTime();
+        working.clear();
+        for (int i = 0; i < sources.size(); i++) {
+            Entity entity = sources.get(i);
+            if (Mappers.fuel.get(entity).getLevel(now) > 0) {
+                TransformComponent transform = Mappers.transform.get(entity);
+                working.add(transform.x, transform.y, Mappers.oxygenEmitter.get(entity).radius);
+            }
+        }
+
+        if (working.notEmpty()) {
+            jobs.parallelFor(oxygenField.getRows(), ROWS_PER_PART, stampRows);
+        }
+    }
+}
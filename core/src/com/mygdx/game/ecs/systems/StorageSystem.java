@@ -0,0 +1,67 @@
+package com.mygdx.game.ecs.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.mygdx.game.ecs.Mappers;
+import com.mygdx.game.ecs.components.StorageComponent;
+import com.mygdx.game.ecs.components.TransformComponent;
+import com.mygdx.game.world.ResourceLedger;
+
+/**
+ * Registers the storages placed in the world with the resource ledger and unregisters them when they are removed.
+ * The system does no work in the tick, the ledger follows the content of the storages itself.
+ *
+ * @author Mykola Isaiev
+ */
+public class StorageSystem extends EntitySystem implements EntityListener {
+    /**
+     * The family of all placed storages.
+     */
+    private static final Family FAMILY = Family.all(TransformComponent.class, StorageComponent.class).get();
+
+    /**
+     * The totals of the resources of the player.
+     */
+    private final ResourceLedger resourceLedger;
+
+    /**
+     * Constructor for creating a StorageSystem instance.
+     *
+     * @param resourceLedger The totals of the resources of the player.
+     *
+     * @author Mykola Isaiev
+     */
+    public StorageSystem(ResourceLedger resourceLedger) {
+        this.resourceLedger = resourceLedger;
+        setProcessing(false);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(FAMILY, this);
+        for (Entity entity : engine.getEntitiesFor(FAMILY)) {
+            entityAdded(entity);
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        for (Entity entity : engine.getEntitiesFor(FAMILY)) {
+            entityRemoved(entity);
+        }
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        resourceLedger.add(Mappers.storage.get(entity).inventory, Mappers.transform.get(entity));
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        resourceLedger.remove(Mappers.storage.get(entity).inventory);
+    }
+}
@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.mygdx.game.assets.Assets;
 
 /**
     * This class is responsible for drawing the drill radius around the player.
@@ -24,10 +25,9 @@ public class DrillRadius extends Actor {
     /** Default constructor for DrillRadius.
      */
     public DrillRadius() {
-        Texture texture = new Texture(Gdx.files.internal("player/drillRadiusNormal.png"));
-        textureRegion = new TextureRegion(texture);
+        textureRegion = Assets.getRegion("player/drillRadiusNormal.png");
 
-        setSize(texture.getWidth(), texture.getHeight());
+        setSize(textureRegion.getRegionWidth(), textureRegion.getRegionHeight());
     }
 
     /** Method to check if the drill radius intersects with a rectangle.
@@ -91,7 +91,7 @@ public class DrillRadius extends Actor {
         if (tooFar) {
             batch.setColor(Color.RED);
             batch.draw(textureRegion, getX(), getY(), getOriginX(), getOriginY(), getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation());
-            batch.setColor(new Color(1, 1, 1, 1));
+            batch.setColor(Color.WHITE);
         } else {
             batch.draw(textureRegion, getX(), getY(), getOriginX(), getOriginY(), getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation());
         }
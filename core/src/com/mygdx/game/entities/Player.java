@@ -3,7 +3,6 @@ package com.mygdx.game.entities;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Actor;
@@ -13,24 +12,23 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.drill.DrillEngine;
+import com.mygdx.game.drill.DrillFootprint;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.inventory.model.InventoryModel;
 import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.modules.oxygen.OxygenMobile;
 import com.mygdx.game.item.modules.utils.Jetpack;
 import com.mygdx.game.item.modules.soil_storages.SoilStorage;
-import com.mygdx.game.item.resources.RawResource;
+import com.mygdx.game.pool.GamePools;
 import com.mygdx.game.item.modules.soil_storages.SmallSoilStorage;
 import com.mygdx.game.screen.MenuScreen;
 import com.mygdx.game.world.GameMap;
 import com.mygdx.game.world.TileType;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import com.badlogic.gdx.utils.Timer;
-import com.badlogic.gdx.utils.Timer.Task;
-import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
 
 public class Player extends Actor {
 
@@ -73,23 +71,21 @@ public class Player extends Actor {
      */
     private DrillRadius drillRadius;
 
+    /** Engine breaking the tiles under the drill radius.
+     */
+    private DrillEngine drillEngine;
+
     private boolean isInputRestricted = false;
 
-    //TODO: мб можно как-то убрать глобальные переменные и засунуть их в метод
-    private boolean isTimerRunning = false;  // Flag to track whether the timer is already running
-    private float breakStateTime = 0;
-    /** To hold the reference of the scheduled task.
+    /** Flag to track whether the player is breaking tiles.
      */
-    private Task scheduledTask;
+    private boolean isBreaking = false;
     /** Position to play the breaking animation.
      */
     private Vector2 cursorPos = new Vector2();
     /** Flag to track whether the player is moving.
      */
     boolean isMoving;
-    /** Position to play the breaking animation.
-     */
-    private Vector2 cursorPosForAnimation = new Vector2();;
     /** Player`s animation state time.
      */
     private float stateTime;
@@ -122,9 +118,6 @@ public class Player extends Actor {
      * Increasing while oxygen is increasing.
      */
     private float health = 100;
-    /** Renderer to dim screen.
-     */
-    private ShapeRenderer shapeRenderer;
 
     /**
      * Constructs a new Player object with the specified initial position, map, and inventory.
@@ -138,9 +131,9 @@ public class Player extends Actor {
         this.map = map;
         this.inventory = inventory;
 
-        shapeRenderer = new ShapeRenderer();
-        idleTexture = new TextureRegion(new Texture(Gdx.files.internal("assets/animations/player/player.png")));
+        idleTexture = Assets.getRegion("assets/animations/player/player.png");
         drillRadius = new DrillRadius();
+        drillEngine = new DrillEngine(map, DrillFootprint.circle(drillRadius.getWidth() / 2 / TileType.TILE_SIZE));
 
         setPosition(x, y);
         setSize(idleTexture.getRegionWidth()/3.5f, idleTexture.getRegionHeight()/3.5f);
@@ -179,7 +172,7 @@ public class Player extends Actor {
      */
     public void fillFrames(TextureRegion[] frames, String path) {
         for (int i = 0; i < frames.length; i++) {
-            frames[i] = new TextureRegion(new Texture(Gdx.files.internal(path + (i + 1) + ".png")));
+            frames[i] = Assets.getRegion(path + (i + 1) + ".png");
         }
     }
 
@@ -198,7 +191,6 @@ public class Player extends Actor {
         applyGravity(delta);
         applyOxygen();
         updatePosition(delta);
-        updateBreakStateTime(delta);
     }
 
     /**
@@ -211,15 +203,13 @@ public class Player extends Actor {
      * @author Mykola Isaiev
      */
     private void applyOxygen() {
-        for (int distance : getDistances()) {
-            if (distance < 500) {
-                addOxygen();
+        if (map.getOxygenField().isCovered(getX(), getY())) {
+            addOxygen();
 
-                return;
-            }
+            return;
         }
 
-        ArrayList<OxygenMobile> modules = inventory.getItemsOfClass(OxygenMobile.class);
+        Array<OxygenMobile> modules = inventory.getItemsOfClass(OxygenMobile.class);
 
         for(OxygenMobile module : modules){
             if(module.hasFuel() && !module.isWrapped()){
@@ -264,41 +254,6 @@ public class Player extends Actor {
         }
     }
 
-    /**
-     * Returns the distances between the player and the oxygen stations.
-     *
-     * @return the distances between the player and the oxygen stations
-     *
-     * @author Mykola Isaiev
-     */
-    private ArrayList<Integer> getDistances () {
-        ArrayList<Integer> distances = new ArrayList<>();
-        ArrayList<Vector2> oxygenSources = map.getOxygenStationsCoordinates();
-
-        for (Vector2 oxygenSource : oxygenSources) {
-            distances.add((int) Math.sqrt(Math.pow(oxygenSource.x - getX(), 2) + Math.pow(oxygenSource.y - getY(), 2)));
-        }
-
-        return distances;
-    }
-
-    /**
-     * Updates the time spent in the breaking state.
-     *
-     * @param delta the time in seconds since the last update
-     *
-     * @author Yehor Nesterenko
-     */
-    public void updateBreakStateTime(float delta){
-        if (isTimerRunning){
-            breakStateTime += delta;
-            if (getMap().getBreakAnimation().isAnimationFinished(breakStateTime)) {
-                isTimerRunning = false; // Reset the animation
-                breakStateTime = 0;
-            }
-        }
-    }
-
     /**
      * Handles the player's input.
      *
@@ -361,7 +316,7 @@ public class Player extends Actor {
                             isMoving = true;
                         }
                     }else{
-                        if(getInventory().containsItem("Jetpack")){
+                        if(getInventory().containsItem(ItemType.JETPACK)){
                             handleJetpackLogic();
                         }
                     }
@@ -383,7 +338,7 @@ public class Player extends Actor {
                 }
 
                 // If the player is moving and a breaking task is scheduled, reset it
-                if (isMoving && isTimerRunning) {
+                if (isMoving && isBreaking) {
                     resetBreakingTask();
                 }
 
@@ -398,23 +353,23 @@ public class Player extends Actor {
                 if (drillMode) {
                     float distance = (float) Math.sqrt(Math.pow(cursorPos.x - getX(), 2) + Math.pow(cursorPos.y - getY(), 2));
 
+                    Vector2 position = GamePools.VECTOR2.obtain().set(getX(), getY());
                     drillRadius.setTooFar(distance > 400 ||
-                            drillRadius.intersects(new Vector2(getX(), getY()), getWidth(), getHeight()));
+                            drillRadius.intersects(position, getWidth(), getHeight()));
+                    GamePools.VECTOR2.free(position);
 
                     drillRadius.setPosition(cursorPos.x - drillRadius.getWidth() / 2, cursorPos.y - drillRadius.getHeight() / 2);
                 }
 
                 // Check if the left mouse button is released
                 if (!Gdx.input.isButtonPressed(Input.Buttons.LEFT)) {
-                    if (isTimerRunning && scheduledTask != null) {
-                        scheduledTask.cancel();  // Cancel the ongoing task
-                        breakStateTime = 0;      // Reset the break animation time
-                        isTimerRunning = false;  // Mark timer as not running
+                    if (isBreaking) {
+                        resetBreakingTask();
                     }
                 }
 
                 processPlacing();
-                handleBreakingInput();
+                handleBreakingInput(delta);
                 updateAnimation();
 
                 if (Gdx.input.isKeyJustPressed(Input.Keys.E) && !map.isPlaceableItemExists()) {
@@ -429,7 +384,7 @@ public class Player extends Actor {
     }
 
     private void handleJetpackLogic(){
-        ArrayList<Jetpack> jetpacks = inventory.getItemsOfClass(Jetpack.class);
+        Array<Jetpack> jetpacks = inventory.getItemsOfClass(Jetpack.class);
         for(Jetpack jetpack : jetpacks){
             if(jetpack.hasFuel()){
                 jetpack.useFuel(5);
@@ -439,29 +394,24 @@ public class Player extends Actor {
     }
 
 
-    private void handleBreakingInput() {
-        Vector2 newCursorPos = new Vector2(Gdx.input.getX(), Gdx.input.getY());
-
-        if (drillMode && Gdx.input.isButtonPressed(Input.Buttons.LEFT) && !drillRadius.isTooFar() && grounded){
-            double interactableTilesAmount = map.getInteractableTilesAmount(new Vector2(drillRadius.getX(), drillRadius.getY()), (int) drillRadius.getWidth(), (int) drillRadius.getHeight());
-            if(interactableTilesAmount > 0) {
-                if (!cursorPosForAnimation.epsilonEquals(newCursorPos, 5.0f) ) {
-                    resetBreakingTask();
-                    cursorPosForAnimation.set(newCursorPos);
-                }
-
-                    if (!isTimerRunning) {
-                        isTimerRunning = true;
-                        scheduledTask = Timer.schedule(new Task() {
-                            @Override
-                            public void run() {
-                                processBreaking(newCursorPos);
-                            }
-                        }, 0.65f);
-                    }
-
+    /**
+     * Drills the tiles under the drill radius while the left mouse button is held.
+     * The drill engine reads the tiles only when the cursor moves to another tile, and breaks every tile
+     * as soon as the damage it has taken reaches its hardness.
+     *
+     * @param delta the time in seconds since the last update
+     *
+     * @author Yehor Nesterenko
+     */
+    private void handleBreakingInput(float delta) {
+        if (drillMode && Gdx.input.isButtonPressed(Input.Buttons.LEFT) && !drillRadius.isTooFar() && grounded) {
+            drillEngine.aim(drillRadius.getX() + drillRadius.getWidth() / 2, drillRadius.getY() + drillRadius.getHeight() / 2);
+            isBreaking = drillEngine.hasTargets();
+            if (isBreaking && drillEngine.drill(delta)) {
+                processBreaking();
             }
-
+        } else if (isBreaking) {
+            resetBreakingTask();
         }
     }
 
@@ -493,42 +443,28 @@ public class Player extends Actor {
      * @author Yehor Nesterenko
      */
     private void resetBreakingTask() {
-        if (scheduledTask != null && isTimerRunning){
-            scheduledTask.cancel();  // Cancel only if the task is running
-        }
-        breakStateTime = 0;
-        isTimerRunning = false;
+        drillEngine.reset();
+        isBreaking = false;
     }
 
     /**
-     * Processes the breaking of the tiles.
-     *
-     * @param cursorPosition the position of the cursor
+     * Processes the tiles broken by the drill engine in the last batch.
+     * The extracted resources are added to the inventory and the removed soil to the soil storages.
      *
      * @author Yehor Nesterenko
      */
-    private void processBreaking(Vector2 cursorPosition) {
-
-        if (drillRadius.isTooFar() || !Gdx.input.isButtonPressed(Input.Buttons.LEFT) || !cursorPosForAnimation.epsilonEquals(cursorPosition, 5.0f)  ) {
-            resetBreakingTask();
-            return;
-        }
-
-        HashMap<TileType, Integer> extractableResources = map.checkHowManyExtractableResourcesInArea(new Vector2(drillRadius.getX(), drillRadius.getY()), (int) drillRadius.getWidth(), (int) drillRadius.getHeight());
-
-        for (Map.Entry<TileType, Integer> entry : extractableResources.entrySet()) {
-            TileType tileType = entry.getKey();
-            Integer count = entry.getValue();
-            for (int i = 0; i < count; i++) {
-                Item item = new RawResource(tileType.getName(), 1, "assets/items/resources/rawResources/" + tileType.getName() + ".png",
-                        tileType, ItemSize.SMALL, getMap().getDragAndDrop());
-                inventory.addItem(item);
+    private void processBreaking() {
+        for (ObjectIntMap.Entry<TileType> entry : drillEngine.getExtracted()) {
+            TileType tileType = entry.key;
+            int count = entry.value;
+            while (count > 0) {
+                Item stack = map.getRawResourcePool().obtain(tileType);
+                stack.setCount(Math.min(count, InventoryModel.MAX_STACK));
+                count -= stack.getCount();
+                inventory.addItem(stack);
             }
         }
-        addToStorageIfPossible();
-
-        resetBreakingTask();
-
+        addToStorageIfPossible(drillEngine.getRemovedCount());
     }
 
     /**
@@ -548,7 +484,7 @@ public class Player extends Actor {
      * @author Yehor Nesterenko
      */
     private void reduceStorageIfPossible() {
-        ArrayList<SoilStorage> items = inventory.getItemsOfClass(SoilStorage.class);
+        Array<SoilStorage> items = inventory.getItemsOfClass(SoilStorage.class);
         if (items.isEmpty()) {
             return;
         }
@@ -556,15 +492,17 @@ public class Player extends Actor {
         int totalTilesAvailable = getCurrentAmountOfStorage();
 
         TileType typeToPlace = TileType.getTileTypeById(27);
-        Vector2 placePosition = new Vector2(drillRadius.getX(), drillRadius.getY());
+        Vector2 placePosition = GamePools.VECTOR2.obtain().set(drillRadius.getX(), drillRadius.getY());
         int areaWidth = (int) drillRadius.getWidth();
         int areaHeight = (int) drillRadius.getHeight();
 
         int amountToRemove = getMap().setTilesInAreaWithoutOverlay(placePosition, areaWidth, areaHeight, typeToPlace, totalTilesAvailable);
+        GamePools.VECTOR2.free(placePosition);
 
         if (amountToRemove == 0) {
             return;
         }
+        drillEngine.invalidate();
 
         for (Item item : items) {
 
@@ -590,7 +528,7 @@ public class Player extends Actor {
      * @author Yehor Nesterenko
      */
     private int getCurrentAmountOfStorage(){
-        ArrayList<SoilStorage> items = inventory.getItemsOfClass(SoilStorage.class);
+        Array<SoilStorage> items = inventory.getItemsOfClass(SoilStorage.class);
         int currentAmount = 0;
         for (Item item : items) {
 
@@ -602,15 +540,14 @@ public class Player extends Actor {
     }
 
     /**
-     * Adds to the storage if possible.
+     * Adds the removed soil to the soil storages if possible.
+     *
+     * @param totalAmountToDistribute the number of removed tiles
      *
      * @author Yehor Nesterenko
      */
-    private void addToStorageIfPossible(){
-        ArrayList<SoilStorage> items = inventory.getItemsOfClass(SoilStorage.class);
-        TileType typeToPlace = TileType.getTileTypeById(38);
-        Vector2 placePosition = new Vector2(drillRadius.getX(), drillRadius.getY());
-        int totalAmountToDistribute = getMap().setTilesWithOverlay(placePosition, (int) drillRadius.getWidth(), (int) drillRadius.getHeight(), typeToPlace);
+    private void addToStorageIfPossible(int totalAmountToDistribute){
+        Array<SoilStorage> items = inventory.getItemsOfClass(SoilStorage.class);
         if (items.isEmpty()) {
             return;
         }
@@ -700,6 +637,39 @@ public class Player extends Actor {
         return inventory;
     }
 
+    /**
+     * Returns the player's health.
+     *
+     * @return the player's health from 0 to 100
+     *
+     * @author Mykola Isaiev
+     */
+    public float getHealth() {
+        return health;
+    }
+
+    /**
+     * Returns the player's oxygen amount.
+     *
+     * @return the player's oxygen amount from 0 to 100
+     *
+     * @author Mykola Isaiev
+     */
+    public float getOxygen() {
+        return oxygen;
+    }
+
+    /**
+     * Returns the player's stamina.
+     *
+     * @return the player's stamina from 0 to 100
+     *
+     * @author Mykola Isaiev
+     */
+    public int getStamina() {
+        return stamina;
+    }
+
     /**
      * Returns the player's map.
      *
@@ -731,10 +701,11 @@ public class Player extends Actor {
      * @author Danylo Kost
      */
     public void updateCursorPosition(FitViewport viewport){
-        Vector3 vec=new Vector3(Gdx.input.getX(),Gdx.input.getY(),0);
+        Vector3 vec = GamePools.VECTOR3.obtain().set(Gdx.input.getX(), Gdx.input.getY(), 0);
         viewport.unproject(vec);
         cursorPos.x = vec.x;
         cursorPos.y = vec.y;
+        GamePools.VECTOR3.free(vec);
     }
 
     /**
@@ -752,8 +723,7 @@ public class Player extends Actor {
      * Draws the player on the screen.
      * If the player is in drill mode, the drill radius is also drawn.
      * If the player is in the breaking state, the breaking animation is drawn.
-     * The oxygen level is drawn.
-     * Dim screen if health is less than 100.
+     * The bars and the screen dimming are drawn by the HUD after the world.
      *
      * @param batch       the batch to draw the player
      * @param parentAlpha the parent's alpha
@@ -766,8 +736,9 @@ public class Player extends Actor {
             drillRadius.draw(batch, parentAlpha);
         }
 
-        if (isTimerRunning && !drillRadius.isTooFar()){
-            TextureRegion currentFrame = getMap().getBreakAnimation().getKeyFrame(breakStateTime);
+        if (isBreaking && !drillRadius.isTooFar()){
+            Animation<TextureRegion> breakAnimation = getMap().getBreakAnimation();
+            TextureRegion currentFrame = breakAnimation.getKeyFrame(drillEngine.getProgress() * breakAnimation.getAnimationDuration());
             batch.draw(currentFrame, drillRadius.getX(), drillRadius.getY(), drillRadius.getWidth(), drillRadius.getHeight());
         }
 
@@ -776,23 +747,6 @@ public class Player extends Actor {
         } else {
             batch.draw(idleTexture, getX(), getY(), getOriginX(), getOriginY(), getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation());
         }
-
-        float alpha = (100 - health) / 100;
-        batch.end();
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-        if (health != 100) {
-            shapeRenderer.setColor(new Color(0, 0, 0, alpha));
-            shapeRenderer.rect(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-
-        }
-        shapeRenderer.setColor(new Color(0.031f, 0.757f, 0.961f, 1));
-        shapeRenderer.rect(0, 0, 0.45f * oxygen, 10);
-
-        shapeRenderer.end();
-        Gdx.gl.glDisable(GL20.GL_BLEND);
-        batch.begin();
     }
 
     public void setVelocityY(float velocityY) {
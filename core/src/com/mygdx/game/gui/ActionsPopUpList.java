@@ -1,27 +1,41 @@
 package com.mygdx.game.gui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
-
-import java.util.List;
-import java.util.Map;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemAction;
 
 /**
  * This class is responsible for creating a pop-up list of actions during interaction with items.
+ * The background and the labels are created once and reused: showing the list only changes their text, position and
+ * visibility. A label is added only when a list has more actions than any list shown before.
  *
  * @author Mykola Isaiev
  */
 public class ActionsPopUpList extends Group {
+    /**
+     * The path of the background texture.
+     */
+    private static final String BACKGROUND = "actionPopUpBackground.png";
+
+    /**
+     * The width of the list.
+     */
+    private static final float WIDTH = 250;
+
+    /**
+     * The height of one action in the list.
+     */
+    private static final float ROW_HEIGHT = 50;
 
     /**
      * Anonymous class is responsible for drawing the background of the pop-up list.
@@ -31,20 +45,13 @@ public class ActionsPopUpList extends Group {
     private class ActionsPopUpBackground extends Actor {
         /** Texture of the background.
          */
-        private TextureRegion textureRegion;
+        private final TextureRegion textureRegion;
 
         /**
          * Default constructor for ActionsPopUpBackground.
-         * @param position The position of the background.
-         * @param width The width of the background.
-         * @param height The height of the background.
          */
-        public ActionsPopUpBackground(Vector2 position, int width, int height) {
-            Texture texture = new Texture(Gdx.files.internal("actionPopUpBackground.png"));
-            this.textureRegion = new TextureRegion(texture);
-            setWidth(width);
-            setHeight(height);
-            setPosition(position.x, position.y - height);
+        public ActionsPopUpBackground() {
+            this.textureRegion = Assets.getRegion(BACKGROUND);
         }
 
         /**
@@ -63,10 +70,19 @@ public class ActionsPopUpList extends Group {
 
     /** Background of the pop-up list.
      */
-    private ActionsPopUpBackground actionsPopUpBackground;
+    private final ActionsPopUpBackground actionsPopUpBackground;
     /** Style of the label.
      */
     Label.LabelStyle labelStyle;
+    /** Labels of the actions, the first labels show the actions of the list, the others are hidden.
+     */
+    private final Array<Label> labels = new Array<>();
+    /** Actions shown in the list, in the order of the labels.
+     */
+    private final Array<ItemAction> actions = new Array<>();
+    /** Item the actions are executed on, or null if the list is hidden.
+     */
+    private Item item;
 
     /**
      * Default constructor for ActionsPopUpList.
@@ -77,47 +93,60 @@ public class ActionsPopUpList extends Group {
         labelStyle.font = myFont;
         labelStyle.font.getData().setScale(2);
         labelStyle.fontColor = Color.WHITE;
+
+        actionsPopUpBackground = new ActionsPopUpBackground();
+        actionsPopUpBackground.setVisible(false);
+        addActor(actionsPopUpBackground);
     }
 
     /**
-     * Method to add actions to the pop-up list.
-     * @param labels The labels of the actions.
-     * @param position The position of the pop-up list.
+     * Method to show the actions of an item.
+     * Only the actions of the table which are available for the item are shown, the list is not shown if there are none.
+     * @param item The clicked item.
+     * @param table The actions offered for the item.
+     * @param x The x-coordinate of the top left corner of the list.
+     * @param y The y-coordinate of the top left corner of the list.
      *
      * @author Mykola Isaiev
      */
-    public void addAction(Map<String, FunctionInterface> labels, Vector2 position) {
-        actionsPopUpBackground = new ActionsPopUpBackground(new Vector2(position.x + 25, position.y), 250, 50 * labels.size());
-        addActor(actionsPopUpBackground);
+    public void show(Item item, Array<ItemAction> table, float x, float y) {
+        dispose();
+        for (int i = 0; i < table.size; i++) {
+            if (table.get(i).isAvailable(item)) {
+                actions.add(table.get(i));
+            }
+        }
+        if (actions.isEmpty()) {
+            return;
+        }
 
-        int i = 0;
-        for (Map.Entry<String, FunctionInterface> entry : labels.entrySet()) {
-            i++;
-            Label label = new Label(entry.getKey(), labelStyle);
-            label.setSize(250, 50);
-            label.setPosition(position.x + 35, position.y - 50 * i);
-
-            label.addListener(new ClickListener() {
-                @Override
-                public void clicked(InputEvent event, float x, float y) {
-                    entry.getValue().execute();
-                    dispose();
-                }
-            });
-
-            addActor(label);
+        this.item = item;
+        while (labels.size < actions.size) {
+            labels.add(createLabel(labels.size));
+        }
+
+        actionsPopUpBackground.setBounds(x + 25, y - ROW_HEIGHT * actions.size, WIDTH, ROW_HEIGHT * actions.size);
+        actionsPopUpBackground.setVisible(true);
+        for (int i = 0; i < actions.size; i++) {
+            Label label = labels.get(i);
+            label.setText(actions.get(i).getLabel());
+            label.setPosition(x + 35, y - ROW_HEIGHT * (i + 1));
+            label.setVisible(true);
         }
     }
 
     /**
-     * Method to dispose the pop-up list.
-     * It removes all children from the pop-up list.
+     * Method to hide the pop-up list.
+     * The background and the labels are hidden and kept for the next list.
      *
      * @author Mykola Isaiev
      */
     public void dispose() {
-        if (getChildren().size > 0) {
-            getChildren().removeRange(0, getChildren().size - 1);
+        item = null;
+        actions.clear();
+        actionsPopUpBackground.setVisible(false);
+        for (int i = 0; i < labels.size; i++) {
+            labels.get(i).setVisible(false);
         }
     }
 
@@ -128,6 +157,28 @@ public class ActionsPopUpList extends Group {
      * @author Mykola Isaiev
      */
     public boolean isVisible() {
-        return getChildren().size > 0;
+        return item != null;
+    }
+
+    /**
+     * Creates a label executing the action at an index of the list when it is clicked.
+     * @param index The index of the label.
+     * @return The hidden label.
+     */
+    private Label createLabel(int index) {
+        Label label = new Label("", labelStyle);
+        label.setSize(WIDTH, ROW_HEIGHT);
+        label.setVisible(false);
+        label.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                ItemAction action = actions.get(index);
+                Item target = item;
+                dispose();
+                action.execute(target);
+            }
+        });
+        addActor(label);
+        return label;
     }
 }
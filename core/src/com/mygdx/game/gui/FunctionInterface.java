@@ -1,11 +0,0 @@
-package com.mygdx.game.gui;
-
-/**
- * Functional interface for executing a method from pop-up list.
- *
- * @author Mykola Isaiev
- */
-@FunctionalInterface
-public interface FunctionInterface {
-    void execute();
-}
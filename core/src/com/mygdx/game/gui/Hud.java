@@ -0,0 +1,229 @@
+package com.mygdx.game.gui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.entities.Player;
+import com.mygdx.game.item.modules.utils.Jetpack;
+import com.mygdx.game.world.TileType;
+
+/**
+ * Draws the state of the player over the world in screen space: the screen dimming when the player is hurt,
+ * the bars of health, oxygen, stamina and jetpack fuel, and the minimap around the player.
+ * Everything is drawn as tinted rectangles of one white sprite with the batch of the world, after the world,
+ * so the HUD needs no shape renderer, no change of the blending state and no allocation per frame.
+ *
+ * @author Mykola Isaiev
+ */
+public class Hud {
+    /**
+     * The path of the white sprite the rectangles are drawn with.
+     */
+    public static final String WHITE = "hud/white.png";
+
+    /**
+     * The width of a full bar in pixels.
+     */
+    private static final float BAR_WIDTH = 150;
+
+    /**
+     * The height of a bar in pixels.
+     */
+    private static final float BAR_HEIGHT = 10;
+
+    /**
+     * The distance between the bars and the edges of the screen, and between two bars, in pixels.
+     */
+    private static final float MARGIN = 6;
+
+    /**
+     * The color behind the filled part of the bars.
+     */
+    private static final Color BAR_BACKGROUND = new Color(0, 0, 0, 0.5f);
+
+    /**
+     * The color of the health bar.
+     */
+    private static final Color HEALTH_COLOR = new Color(0.898f, 0.224f, 0.208f, 1);
+
+    /**
+     * The color of the oxygen bar.
+     */
+    private static final Color OXYGEN_COLOR = new Color(0.031f, 0.757f, 0.961f, 1);
+
+    /**
+     * The color of the stamina bar.
+     */
+    private static final Color STAMINA_COLOR = new Color(0.988f, 0.851f, 0.278f, 1);
+
+    /**
+     * The color of the jetpack fuel bar.
+     */
+    private static final Color FUEL_COLOR = new Color(0.961f, 0.514f, 0.125f, 1);
+
+    /**
+     * The number of columns of tiles shown on the minimap, one pixel per tile.
+     */
+    private static final int MINIMAP_COLUMNS = 400;
+
+    /**
+     * The color of the frame of the minimap.
+     */
+    private static final Color MINIMAP_FRAME = new Color(0, 0, 0, 0.7f);
+
+    /**
+     * The size of the marker of the player on the minimap in pixels.
+     */
+    private static final float MARKER_SIZE = 3;
+
+    /**
+     * The centre of the white sprite, so the linear filtering never samples the neighbours in the atlas.
+     */
+    private final TextureRegion white;
+
+    /**
+     * The projection mapping the pixels of the screen.
+     */
+    private final Matrix4 projection = new Matrix4();
+
+    /**
+     * The part of the minimap around the player, moved with the player every frame.
+     */
+    private final TextureRegion minimapView = new TextureRegion();
+
+    /**
+     * The width of the screen in pixels.
+     */
+    private float width;
+
+    /**
+     * The height of the screen in pixels.
+     */
+    private float height;
+
+    /**
+     * Constructor for creating a Hud instance for a screen.
+     *
+     * @param width The width of the screen in pixels.
+     * @param height The height of the screen in pixels.
+     *
+     * @author Mykola Isaiev
+     */
+    public Hud(int width, int height) {
+        TextureRegion sprite = Assets.getRegion(WHITE);
+        white = new TextureRegion(sprite, sprite.getRegionWidth() / 4, sprite.getRegionHeight() / 4,
+                sprite.getRegionWidth() / 2, sprite.getRegionHeight() / 2);
+        resize(width, height);
+    }
+
+    /**
+     * Adapts the projection to a new size of the screen.
+     *
+     * @param width The width of the screen in pixels.
+     * @param height The height of the screen in pixels.
+     *
+     * @author Mykola Isaiev
+     */
+    public void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        projection.setToOrtho2D(0, 0, width, height);
+    }
+
+    /**
+     * Draws the HUD of a player with the batch of the world, which must not be drawing.
+     *
+     * @param batch The batch of the world.
+     * @param player The player whose state is shown.
+     * @param minimap The minimap of the world, its changed tiles are uploaded before drawing.
+     *
+     * @author Mykola Isaiev
+     */
+    public void draw(Batch batch, Player player, Minimap minimap) {
+        minimap.upload();
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+
+        float health = player.getHealth();
+        if (health < 100) {
+            batch.setColor(0, 0, 0, (100 - health) / 100);
+            batch.draw(white, 0, 0, width, height);
+        }
+
+        float y = MARGIN;
+        drawBar(batch, y, health / 100, HEALTH_COLOR);
+        y += BAR_HEIGHT + MARGIN;
+        drawBar(batch, y, player.getOxygen() / 100, OXYGEN_COLOR);
+        y += BAR_HEIGHT + MARGIN;
+        drawBar(batch, y, player.getStamina() / 100f, STAMINA_COLOR);
+
+        Array<Jetpack> jetpacks = player.getInventory().getItemsOfClass(Jetpack.class);
+        if (jetpacks.size > 0) {
+            float fuel = 0;
+            float capacity = 0;
+            for (int i = 0; i < jetpacks.size; i++) {
+                fuel += Math.max(jetpacks.get(i).getFuel(), 0);
+                capacity += jetpacks.get(i).getFuelCapacity();
+            }
+            y += BAR_HEIGHT + MARGIN;
+            drawBar(batch, y, fuel / capacity, FUEL_COLOR);
+        }
+
+        drawMinimap(batch, player, minimap);
+
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
+
+    /**
+     * Releases the white sprite.
+     *
+     * @author Mykola Isaiev
+     */
+    public void dispose() {
+        Assets.release(WHITE);
+    }
+
+    /**
+     * Draws the part of the minimap around the player at the top right corner of the screen.
+     *
+     * @param batch The batch of the world.
+     * @param player The player shown in the middle of the minimap.
+     * @param minimap The minimap of the world.
+     */
+    private void drawMinimap(Batch batch, Player player, Minimap minimap) {
+        int columns = Math.min(MINIMAP_COLUMNS, minimap.getColumns());
+        int rows = minimap.getRows();
+        float playerColumn = player.getX() / TileType.TILE_SIZE;
+        float playerRow = player.getY() / TileType.TILE_SIZE;
+        int first = Math.min(Math.max((int) playerColumn - columns / 2, 0), minimap.getColumns() - columns);
+        minimapView.setRegion(minimap.getRegion(), first, 0, columns, rows);
+
+        float x = width - MARGIN - columns;
+        float y = height - MARGIN - rows;
+        batch.setColor(MINIMAP_FRAME);
+        batch.draw(white, x - 2, y - 2, columns + 4, rows + 4);
+        batch.setColor(Color.WHITE);
+        batch.draw(minimapView, x, y, columns, rows);
+        batch.draw(white, x + playerColumn - first - MARKER_SIZE / 2, y + playerRow - MARKER_SIZE / 2,
+                MARKER_SIZE, MARKER_SIZE);
+    }
+
+    /**
+     * Draws a bar at the left edge of the screen.
+     *
+     * @param batch The batch of the world.
+     * @param y The y-coordinate of the bottom of the bar.
+     * @param fraction The filled part of the bar from 0 to 1.
+     * @param color The color of the filled part.
+     */
+    private void drawBar(Batch batch, float y, float fraction, Color color) {
+        batch.setColor(BAR_BACKGROUND);
+        batch.draw(white, MARGIN, y, BAR_WIDTH, BAR_HEIGHT);
+        batch.setColor(color);
+        batch.draw(white, MARGIN, y, BAR_WIDTH * Math.min(Math.max(fraction, 0), 1), BAR_HEIGHT);
+    }
+}
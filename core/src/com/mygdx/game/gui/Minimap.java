@@ -0,0 +1,263 @@
+package com.mygdx.game.gui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.mygdx.game.world.GameMap;
+import com.mygdx.game.world.TileType;
+
+/**
+ * Overview of the world with one pixel per tile.
+ * The pixels are kept in a pixmap which is filled once from the tiles of the map when the minimap is created.
+ * Afterwards the map reports every changed tile, only its pixel is redrawn and its chunk is marked dirty,
+ * and before drawing only the dirty chunks are uploaded to the texture.
+ * The pixmap and the texture are rounded up to whole chunks, so every chunk has the same size.
+ *
+ * @author Mykola Isaiev
+ */
+public class Minimap {
+    /**
+     * The width and the height of a chunk in tiles.
+     */
+    private static final int CHUNK_SIZE = 32;
+
+    /**
+     * The color of the tiles nothing collides with.
+     */
+    private static final Color SKY = new Color(0.05f, 0.07f, 0.12f, 0.6f);
+
+    /**
+     * The color of every tile type, by the ordinal of the type, in the format of the pixmap.
+     */
+    private static final int[] COLORS = new int[TileType.values().length];
+
+    static {
+        for (TileType type : TileType.values()) {
+            COLORS[type.ordinal()] = Color.rgba8888(colorOf(type));
+        }
+    }
+
+    /**
+     * The map shown by the minimap.
+     */
+    private final GameMap map;
+
+    /**
+     * The number of columns of tiles of the map.
+     */
+    private final int columns;
+
+    /**
+     * The number of rows of tiles of the map.
+     */
+    private final int rows;
+
+    /**
+     * The number of chunks in a row.
+     */
+    private final int chunkColumns;
+
+    /**
+     * The pixels of the map, the top row of the map is the first row of the pixmap.
+     */
+    private final Pixmap pixels;
+
+    /**
+     * The pixels of a chunk, copied from the pixels of the map before the chunk is uploaded.
+     */
+    private final Pixmap chunk;
+
+    /**
+     * The texture the pixels are drawn from.
+     */
+    private final Texture texture;
+
+    /**
+     * The part of the texture covering the map, without the rounding to whole chunks.
+     */
+    private final TextureRegion region;
+
+    /**
+     * Indicates for every chunk whether it changed since it was uploaded.
+     */
+    private final boolean[] dirty;
+
+    /**
+     * The number of chunks marked dirty.
+     */
+    private int dirtyCount;
+
+    /**
+     * Constructor for creating a Minimap instance, the pixels are filled from the tiles of the map.
+     *
+     * @param map The map shown by the minimap.
+     *
+     * @author Mykola Isaiev
+     */
+    public Minimap(GameMap map) {
+        this.map = map;
+        this.columns = (int) map.getWidth();
+        this.rows = (int) map.getHeight();
+        this.chunkColumns = MathUtils.ceil(columns / (float) CHUNK_SIZE);
+        int chunkRows = MathUtils.ceil(rows / (float) CHUNK_SIZE);
+
+        pixels = new Pixmap(chunkColumns * CHUNK_SIZE, chunkRows * CHUNK_SIZE, Pixmap.Format.RGBA8888);
+        pixels.setBlending(Pixmap.Blending.None);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                pixels.drawPixel(col, rows - 1 - row, colorAt(col, row));
+            }
+        }
+        chunk = new Pixmap(CHUNK_SIZE, CHUNK_SIZE, Pixmap.Format.RGBA8888);
+        chunk.setBlending(Pixmap.Blending.None);
+        dirty = new boolean[chunkColumns * chunkRows];
+
+        texture = new Texture(pixels);
+        texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        region = new TextureRegion(texture, 0, 0, columns, rows);
+    }
+
+    /**
+     * Redraws the pixel of a tile and marks its chunk dirty. Must be called whenever a tile of the map changes.
+     *
+     * @param col The column of the tile.
+     * @param row The row of the tile.
+     *
+     * @author Mykola Isaiev
+     */
+    public void tileChanged(int col, int row) {
+        if (col < 0 || col >= columns || row < 0 || row >= rows) {
+            return;
+        }
+        int y = rows - 1 - row;
+        pixels.drawPixel(col, y, colorAt(col, row));
+
+        int index = (y / CHUNK_SIZE) * chunkColumns + col / CHUNK_SIZE;
+        if (!dirty[index]) {
+            dirty[index] = true;
+            dirtyCount++;
+        }
+    }
+
+    /**
+     * Uploads the dirty chunks to the texture. Must not be called while a batch is drawing,
+     * as uploading binds the texture.
+     *
+     * @author Mykola Isaiev
+     */
+    public void upload() {
+        for (int i = 0; dirtyCount > 0 && i < dirty.length; i++) {
+            if (dirty[i]) {
+                int x = (i % chunkColumns) * CHUNK_SIZE;
+                int y = (i / chunkColumns) * CHUNK_SIZE;
+                chunk.drawPixmap(pixels, x, y, CHUNK_SIZE, CHUNK_SIZE, 0, 0, CHUNK_SIZE, CHUNK_SIZE);
+                texture.draw(chunk, x, y);
+                dirty[i] = false;
+                dirtyCount--;
+            }
+        }
+    }
+
+    /**
+     * Returns the part of the texture covering the map, the top row of the map is at the top of the region.
+     *
+     * @return The region of the map.
+     *
+     * @author Mykola Isaiev
+     */
+    public TextureRegion getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the number of columns of tiles of the map, which is the width of the region.
+     *
+     * @return The number of columns.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of rows of tiles of the map, which is the height of the region.
+     *
+     * @return The number of rows.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Releases the pixmaps and the texture.
+     *
+     * @author Mykola Isaiev
+     */
+    public void dispose() {
+        texture.dispose();
+        chunk.dispose();
+        pixels.dispose();
+    }
+
+    /**
+     * Returns the color of a position of the map: the color of the top collidable tile, or the sky.
+     *
+     * @param col The column of the position.
+     * @param row The row of the position.
+     * @return The color in the format of the pixmap.
+     */
+    private int colorAt(int col, int row) {
+        for (int layer = map.getLayers() - 1; layer >= 0; layer--) {
+            TileType type = map.getTileTypeByCoordinate(layer, col, row);
+            if (type != null && type.isCollidable()) {
+                return COLORS[type.ordinal()];
+            }
+        }
+        return COLORS[TileType.SKY.ordinal()];
+    }
+
+    /**
+     * Returns the color a tile type is shown with.
+     *
+     * @param type The tile type.
+     * @return The color.
+     */
+    private static Color colorOf(TileType type) {
+        switch (type) {
+            case TOP_GRASS1: case TOP_GRASS2: case TOP_GRASS3: case TOP_GRASS4: case TOP_GRASS5:
+                return new Color(0.36f, 0.62f, 0.25f, 1);
+            case GRASS1: case GRASS2: case GRASS3: case GRASS4: case GRASS5:
+                return new Color(0.45f, 0.32f, 0.2f, 1);
+            case STONE: case ROCK1: case ROCK2:
+                return new Color(0.42f, 0.42f, 0.44f, 1);
+            case DEEP_STONE:
+                return new Color(0.25f, 0.24f, 0.28f, 1);
+            case COPPER_SMALL: case COPPER_BIG:
+                return new Color(0.85f, 0.5f, 0.25f, 1);
+            case COAL_SMALL: case COAL_BIG:
+                return new Color(0.08f, 0.08f, 0.08f, 1);
+            case ALUMINIUM_SMALL: case ALUMINIUM_BIG:
+                return new Color(0.8f, 0.84f, 0.88f, 1);
+            case RESIN_SMALL: case RESIN_BIG:
+                return new Color(0.95f, 0.7f, 0.15f, 1);
+            case IRON_SMALL: case IRON_BIG:
+                return new Color(0.6f, 0.35f, 0.3f, 1);
+            case COMPOUND_SMALL: case COMPOUND_BIG:
+                return new Color(0.45f, 0.85f, 0.75f, 1);
+            case DEEP_RUBY_SMALL: case DEEP_RUBY_BIG:
+                return new Color(0.9f, 0.1f, 0.25f, 1);
+            case PLAYER_SOIL:
+                return new Color(0.6f, 0.45f, 0.3f, 1);
+            case FLOWER1: case FLOWER2: case FLOWER3: case FLOWER4:
+            case ORGANIC1: case ORGANIC2: case ORGANIC3: case ORGANIC4:
+                return new Color(0.3f, 0.7f, 0.3f, 1);
+            default:
+                return SKY;
+        }
+    }
+}
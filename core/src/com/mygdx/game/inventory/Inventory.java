@@ -1,74 +1,101 @@
 package com.mygdx.game.inventory;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.inventory.model.InventoryListener;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.inventory.model.ItemStack;
 import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemType;
+import com.mygdx.game.workbench.CraftingQueue;
 import com.mygdx.game.workbench.InventoryWorkbench;
 
-import java.util.ArrayList;
-
 /**
- * This class is responsible for creating an inventory for the player or module.
+ * This class is responsible for showing an inventory of the player or module.
  * It contains a background and slots for items.
  * It also contains a workbench for crafting items.
+ * The content of the inventory is stored in an {@link InventoryModel}, this class is only its view.
  *
  * @author Mykola Isaiev
  * @author Yehor Nesterenko
  */
-
-/**
- * This class is responsible for creating an inventory for the player or module.
- */
-public class Inventory extends Group {
+public class Inventory extends Group implements InventoryListener {
     /** Drag and drop object which applies to items and slots.
      */
     private DragAndDrop dragAndDrop;
     /** Background of the inventory.
      */
     private InventoryBackground inventoryBackground;
-    /** List of inventory slots.
+    /** List of inventory slots, in the order of the model slots.
      */
-    private ArrayList<InventorySlot> inventorySlots;
+    private Array<InventorySlot> inventorySlots;
     /** Workbench for crafting items.
      */
     private InventoryWorkbench inventoryWorkbench;
+    /** Content of the inventory.
+     */
+    private InventoryModel model;
+    /** Queue of the workbench whose content is shown, null if the inventory cannot queue crafts.
+     */
+    private CraftingQueue craftingQueue;
 
     /**
-     * Default constructor for Inventory.
+     * Default constructor for Inventory, creating the inventory of the player.
      * @param dragAndDrop The drag and drop object.
      */
     public Inventory(DragAndDrop dragAndDrop) {
         this.inventoryBackground = new InventoryBackground();
         this.dragAndDrop = dragAndDrop;
-        this.inventorySlots = new ArrayList<>();
 
         setup(100, 950);
     }
 
     /**
-     * Constructor for Inventory with predefined slots.
+     * Constructor for Inventory showing the model of a module.
      * @param dragAndDrop The drag and drop object.
-     * @param inventorySlots The list of inventory slots.
+     * @param model The content of the inventory.
+     * @param layout The slots of the inventory, matching the slots of the model.
      *
      * @author Mykola Isaiev
      */
-    public Inventory(DragAndDrop dragAndDrop, ArrayList <InventorySlot> inventorySlots) {
+    public Inventory(DragAndDrop dragAndDrop, InventoryModel model, SlotLayout layout) {
         this.inventoryBackground = new InventoryBackground();
         this.dragAndDrop = dragAndDrop;
-        this.inventorySlots = new ArrayList<>();
-        this.inventorySlots.addAll(inventorySlots);
+        this.model = model;
+        this.inventorySlots = layout.createSlots(dragAndDrop);
 
-        predefinedSetup();
+        predefinedSetup(layout);
+    }
+
+    /**
+     * Constructor for Inventory subclasses which create and position their slot actors themselves.
+     * Only the hidden background is set up, the subclass has to register itself as the listener of the model.
+     * @param dragAndDrop The drag and drop object.
+     * @param model The content of the inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    protected Inventory(DragAndDrop dragAndDrop, InventoryModel model) {
+        this.inventoryBackground = new InventoryBackground();
+        this.dragAndDrop = dragAndDrop;
+        this.model = model;
+        this.inventorySlots = new Array<>();
+
+        setVisible(false);
+        inventoryBackground.setWidth(300);
+        inventoryBackground.setHeight(575);
+        addActor(inventoryBackground);
     }
 
     /**
      * Method to set up the inventory which was created with predefined inventory slots.
+     * @param layout The slots of the inventory.
      *
      * @author Mykola Isaiev
      */
-    private void predefinedSetup() {
+    private void predefinedSetup(SlotLayout layout) {
         setVisible(false);
         inventoryBackground.setWidth(300);
         inventoryBackground.setHeight(575);
@@ -77,6 +104,18 @@ public class Inventory extends Group {
         for (InventorySlot inventorySlot : inventorySlots) {
             addActor(inventorySlot);
         }
+
+        if (layout.hasCraftingSlot()) {
+            this.inventoryWorkbench = new InventoryWorkbench(inventorySlots.get(layout.getCraftingSlot()), dragAndDrop, this);
+            addActor(inventoryWorkbench);
+        }
+
+        model.setListener(this);
+        for (int i = 0; i < model.getSlotCount(); i++) {
+            if (model.get(i) != null) {
+                slotChanged(i, null);
+            }
+        }
     }
 
     /**
@@ -87,43 +126,77 @@ public class Inventory extends Group {
      * @author Mykola Isaiev
      */
     private void setup(int x, int y) {
-        setVisible(false);
-        inventoryBackground.setWidth(300);
-        inventoryBackground.setHeight(575);
         inventoryBackground.setPosition(x, y);
 
-        addActor(inventoryBackground);
-
+        SlotLayout layout = new SlotLayout();
         for (int i = 1; i <= 4; i++) {
             for (int j = 1; j <= 2; j++) {
-                InventorySlot inventorySlot = new InventorySlot(new Vector2((x-50) + 100 * j, (y+25) + 100 * i),
-                        ItemSize.SMALL, dragAndDrop);
-
-                inventorySlots.add(inventorySlot);
-                addActor(inventorySlot);
+                layout.slot((x-50) + 100 * j, (y+25) + 100 * i, ItemSize.SMALL);
             }
         }
+        layout.craftingSlot(x+100, y+25);
+
+        this.model = layout.createModel();
+        this.inventorySlots = layout.createSlots(dragAndDrop);
+        predefinedSetup(layout);
+    }
+
+    /**
+     * Returns the content of the inventory.
+     * @return The model of the inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    public InventoryModel getModel() {
+        return model;
+    }
 
-        InventorySlot craftingSlot = new InventorySlot(new Vector2((x+100), (y+25)), ItemSize.SMALL, dragAndDrop);
-        inventorySlots.add(craftingSlot);
-        addActor(craftingSlot);
+    /**
+     * Sets the crafting queue of the workbench whose content is shown.
+     * @param craftingQueue The crafting queue.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setCraftingQueue(CraftingQueue craftingQueue) {
+        this.craftingQueue = craftingQueue;
+    }
 
-        this.inventoryWorkbench = new InventoryWorkbench(craftingSlot, dragAndDrop, this);
-        addActor(inventoryWorkbench);
+    /**
+     * Returns the crafting queue of the workbench whose content is shown.
+     * @return The crafting queue, or null if the inventory cannot queue crafts.
+     *
+     * @author Mykola Isaiev
+     */
+    public CraftingQueue getCraftingQueue() {
+        return craftingQueue;
     }
 
     /**
-     * Method to add a workbench to the inventory.
-     * @param craftingSlot The crafting slot of the workbench.
+     * Updates the actors after the content of a slot changed.
+     * Items put into the slot become children of the inventory, items which left the inventory are removed from it.
+     * @param slot The index of the slot.
+     * @param previous The item which was in the slot before the change.
      *
      * @author Mykola Isaiev
      */
-    public void addWorkbench(InventorySlot craftingSlot) {
-        inventorySlots.add(craftingSlot);
-        addActor(craftingSlot);
+    @Override
+    public void slotChanged(int slot, ItemStack previous) {
+        InventorySlot inventorySlot = inventorySlots.get(slot);
+        Item item = (Item) model.get(slot);
+
+        if (previous != null && previous != item && model.indexOf(previous) == InventoryModel.NO_SLOT) {
+            Item removed = (Item) previous;
+            if (removed.getInventoryPosition() == inventorySlot) {
+                removed.setInventoryPosition(null);
+            }
+            if (removed.getParent() == this) {
+                removeActor(removed);
+            }
+        }
 
-        this.inventoryWorkbench = new InventoryWorkbench(craftingSlot, dragAndDrop, this);
-        addActor(inventoryWorkbench);
+        if (item != null) {
+            inventorySlot.place(item);
+        }
     }
 
     /**
@@ -133,30 +206,44 @@ public class Inventory extends Group {
      * @author Mykola Isaiev
      */
     public void removeItem(Item item) {
-        for (Actor actor : getChildren()) {
-            if (actor == item) {
-                item.getInventoryPosition().removeItem();
-                item.setInventoryPosition(null);
-                removeActor(actor);
-                break;
-            }
-        }
+        model.remove(item);
     }
 
     /**
-     * Method to remove an item from the inventory by its name.
-     * @param name The name of the item to be removed.
+     * Method to remove a quantity of items of a type from the inventory.
+     * The quantity is taken from the stacks outside the crafting slot, stacks which become empty are removed and disposed.
+     * @param type The type of the items to be removed.
+     * @param amount The quantity to remove.
+     * @return The quantity which was removed, less than the requested amount if the inventory does not contain enough items.
      *
      * @author Mykola Isaiev
      */
-    public void removeItem(String name) {
-        for (Actor actor : getChildren()) {
-            if (actor instanceof Item && ((Item) actor).getName().equals(name)) {
-                ((Item) actor).getInventoryPosition().removeItem();
-                ((Item) actor).setInventoryPosition(null);
-                removeActor(actor);
-                break;
-            }
+    public int removeItems(ItemType type, int amount) {
+        return model.remove(type.getId(), amount);
+    }
+
+    /**
+     * Method to count the items of a type, summing the quantities of all stacks outside the crafting slot.
+     * @param type The type of the items to count.
+     * @return The total quantity of the items.
+     *
+     * @author Mykola Isaiev
+     */
+    public int countItems(ItemType type) {
+        return model.count(type.getId());
+    }
+
+    /**
+     * Method to split a stack in two halves, the second half is moved to the first free slot.
+     * Nothing happens if the stack has a single item or if the inventory has no free slot.
+     * @param item The stack to split.
+     *
+     * @author Mykola Isaiev
+     */
+    public void splitStack(Item item) {
+        int slot = model.indexOf(item);
+        if (slot != InventoryModel.NO_SLOT) {
+            model.split(slot, item.getCount() / 2);
         }
     }
 
@@ -168,29 +255,18 @@ public class Inventory extends Group {
      * @author Mykola Isaiev
      */
     public void addItem(Item item, InventorySlot inventorySlot) {
-        if (inventorySlot.getSize().compare(item.getSize()) >= 0) {
-            inventorySlot.add(item);
-            addActor(item);
-        }
+        model.put(inventorySlot.getIndex(), item);
     }
 
     /**
      * Method to add an item to the inventory.
-     * Choose the first available slot.
+     * Stackable items are merged into the stacks of the same kind first, the rest is put into the first available slot.
      * @param item Reference to item object to be added.
      *
      * @author Mykola Isaiev
      */
     public void addItem(Item item) {
-        for (InventorySlot inventorySlot : inventorySlots) {
-            ItemSize comparisonSize = item.isWrapped() ? item.getSize().getLowerSize() : item.getSize();
-
-            if (inventorySlot.getItem() == null && inventorySlot.getSize().compare(comparisonSize) >= 0) {
-                inventorySlot.add(item);
-                addActor(item);
-                return;
-            }
-        }
+        model.add(item);
     }
 
     /**
@@ -200,13 +276,7 @@ public class Inventory extends Group {
      * @author Mykola Isaiev
      */
     public ItemSize hasMaxSize() {
-        ItemSize maxSize = ItemSize.SMALL;
-        for (InventorySlot inventorySlot : inventorySlots) {
-            if (inventorySlot.getSize().compare(maxSize) > 0) {
-                maxSize = inventorySlot.getSize();
-            }
-        }
-        return maxSize;
+        return model.getMaxSlotSize();
     }
 
     /**
@@ -241,74 +311,40 @@ public class Inventory extends Group {
     }
 
     /**
-     * Retrieves the names of all items in the inventory.
-     *
-     * @return a list of item names
-     *
-     * @author Mykola Isaiev
-     */
-    public ArrayList<String> getItems() {
-        ArrayList<String> items = new ArrayList<>();
-        for (InventorySlot inventorySlot : inventorySlots) {
-
-            if (inventorySlot.getItem() != null && inventorySlot != inventoryWorkbench.getInventorySlot()) {
-                items.add(inventorySlot.getItem().getName());
-            }
-        }
-        return items;
-    }
-
-    /**
-     * Checks if an item with a specific name exists in the inventory.
+     * Checks if an item of a specific type exists in the inventory.
      *
-     * @param name the name of the item to check
+     * @param type the type of the item to check
      * @return true if the item exists, false otherwise
      *
      * @author Yehor Nesterenko
      */
-    public boolean containsItem(String name) {
-        for (InventorySlot inventorySlot : inventorySlots) {
-            if (inventorySlot.getItem() != null && inventorySlot.getItem().getName().equals(name)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean containsItem(ItemType type) {
+        return model.contains(type.getId());
     }
 
     /**
-     * Retrieves all items in the inventory that are instances of a specific class.
+     * Retrieves all unwrapped items in the inventory that are instances of a specific class.
+     * The returned array is owned by the inventory model, it must not be modified and changes when the inventory changes.
      *
      * @param clazz the class of the items to retrieve
-     * @return a list of items that are instances of the specified class
+     * @return the items that are instances of the specified class
      *
      * @author Yehor Nesterenko
      */
-    public <T> ArrayList<T> getItemsOfClass(Class<T> clazz) {
-        ArrayList<T> items = new ArrayList<>();
-        for (InventorySlot inventorySlot : inventorySlots) {
-            if (inventorySlot.getItem() != null && clazz.isInstance(inventorySlot.getItem()) && !inventorySlot.getItem().isWrapped()){
-                items.add(clazz.cast(inventorySlot.getItem()));
-            }
-        }
-        return items;
+    public <T> Array<T> getItemsOfClass(Class<T> clazz) {
+        return model.getStacksOfClass(clazz);
     }
 
     /**
-     * Retrieves an item from the inventory that is an instance of a specific class and has a specific name.
+     * Retrieves an item from the inventory that is an instance of a specific class and has a specific type.
      *
      * @param clazz the class of the item to retrieve
-     * @param name the name of the item to retrieve
+     * @param type the type of the item to retrieve
      * @return the item if it exists, null otherwise
      *
      * @author Yehor Nesterenko
      */
-    public <T> T getItem(Class<T> clazz, String name) {
-        ArrayList<T> items = new ArrayList<>();
-        for (InventorySlot inventorySlot : inventorySlots) {
-            if (inventorySlot.getItem() != null && clazz.isInstance(inventorySlot.getItem()) && inventorySlot.getItem().getName().equals(name)) {
-               return clazz.cast(inventorySlot.getItem());
-            }
-        }
-        return null;
+    public <T> T getItem(Class<T> clazz, ItemType type) {
+        return model.find(clazz, type.getId());
     }
-}
\ No newline at end of file
+}
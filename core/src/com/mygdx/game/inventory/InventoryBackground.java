@@ -1,10 +1,10 @@
 package com.mygdx.game.inventory;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.mygdx.game.assets.Assets;
 
 /**
  * Represents the background of the inventory in the game.
@@ -26,10 +26,9 @@ public class InventoryBackground extends Actor {
      * @author Mykola Isaiev
      */
     public InventoryBackground() {
-        Texture texture = new Texture(Gdx.files.internal("inventory/inventoryBackground.png"));
-        this.textureRegion = new TextureRegion(texture);
-        setWidth(texture.getWidth());
-        setHeight(texture.getHeight());
+        this.textureRegion = Assets.getRegion("inventory/inventoryBackground.png");
+        setWidth(textureRegion.getRegionWidth());
+        setHeight(textureRegion.getRegionHeight());
         setPosition((float) Gdx.graphics.getWidth() / 2 - getWidth() / 2, (float) Gdx.graphics.getHeight() / 2 - getHeight() / 2);
 
     }
@@ -8,6 +8,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.inventory.model.ItemStack;
 import com.mygdx.game.item.Item;
 
 /**
@@ -23,9 +26,9 @@ public class InventorySlot extends Actor {
      */
     private TextureRegion texture;
     /**
-     * The item that is currently in the inventory slot.
+     * The index of the slot in the model of its inventory.
      */
-    private Item item;
+    private int index;
     /**
      * The DragAndDrop object that handles the dragging and dropping of items.
      */
@@ -37,7 +40,7 @@ public class InventorySlot extends Actor {
 
     /**
      * Constructs a new InventorySlot object with a specified position, size, and DragAndDrop object.
-     * The texture for the inventory slot is loaded from a file and a new TextureRegion is created from it.
+     * The texture for the inventory slot is taken from the shared texture cache.
      * The position and size of the inventory slot are set based on the parameters.
      *
      * @param position the position of the inventory slot
@@ -47,8 +50,7 @@ public class InventorySlot extends Actor {
      * @author Mykola Isaiev
      */
     public InventorySlot(Vector2 position, ItemSize size, DragAndDrop dragAndDrop) {
-        Texture texture = new Texture(Gdx.files.internal("inventory/inventorySlot.png"));
-        this.texture = new TextureRegion(texture);
+        this.texture = Assets.getRegion("inventory/inventorySlot.png");
 
         this.size = size;
 
@@ -62,7 +64,7 @@ public class InventorySlot extends Actor {
 
     /**
      * Constructs a new InventorySlot object with a specified position and size.
-     * The texture for the inventory slot is loaded from a file and a new TextureRegion is created from it.
+     * The texture for the inventory slot is taken from the shared texture cache.
      * The position and size of the inventory slot are set based on the parameters.
      *
      * @param position the position of the inventory slot
@@ -71,8 +73,7 @@ public class InventorySlot extends Actor {
      * @author Mykola Isaiev
      */
     public InventorySlot(Vector2 position, ItemSize size) {
-        Texture texture = new Texture(Gdx.files.internal("inventory/inventorySlot.png"));
-        this.texture = new TextureRegion(texture);
+        this.texture = Assets.getRegion("inventory/inventorySlot.png");
 
         this.size = size;
 
@@ -98,14 +99,33 @@ public class InventorySlot extends Actor {
 
     /**
      * Adds an item to the inventory slot.
-     * The item's position is set to the center of the inventory slot.
+     * If the item is already stored in this slot, it is only moved back to the center of the slot.
      *
      * @param item the item to add
      *
      * @author Mykola Isaiev
      */
     public void add(Item item) {
-        this.item = item;
+        InventoryModel model = getInventory().getModel();
+        if (model.get(index) == item) {
+            place(item);
+        } else {
+            model.take(index);
+            model.put(index, item);
+        }
+    }
+
+    /**
+     * Shows an item stored in this slot: the item becomes a child of the inventory and its position is set to the center of the slot.
+     *
+     * @param item the item stored in this slot
+     *
+     * @author Mykola Isaiev
+     */
+    public void place(Item item) {
+        if (item.getParent() != getInventory()) {
+            getInventory().addActor(item);
+        }
         item.setInventoryPosition(this);
         item.setPosition(getX() + getWidth() / 2 - item.getWidth() / 2, getY() + getHeight() / 2 - item.getHeight() / 2);
     }
@@ -120,7 +140,6 @@ public class InventorySlot extends Actor {
         dragAndDrop.addTarget(new DragAndDrop.Target(this) {
             @Override
             public boolean drag(DragAndDrop.Source source, DragAndDrop.Payload payload, float x, float y, int pointer) {
-                item = null;
                 return true;
             }
 
@@ -128,20 +147,46 @@ public class InventorySlot extends Actor {
             public void drop(DragAndDrop.Source source, DragAndDrop.Payload payload, float x, float y, int pointer) {
                 Actor actor = payload.getDragActor();
                 if (actor instanceof Item) {
-                    Item item = (Item) actor;
-                    ItemSize comparisonSize = item.isWrapped() ? item.getSize().getLowerSize() : item.getSize();
-                    if (size.compare(comparisonSize) >= 0) {
-                        if (!getInventory().equals(item.getInventoryPosition().getInventory())) {
-                            item.getInventoryPosition().getInventory().removeActor(item);
-                            getInventory().addActor(item);
-                        }
-                        add(item);
-                    }
+                    accept((Item) actor);
                 }
             }
         });
     }
 
+    /**
+     * Moves an item dropped on this slot into the slot.
+     * If the slot holds a stack of the same kind, as many items as fit are merged into it and the rest returns to its slot.
+     *
+     * @param item the dropped item
+     * @return true if the drop was handled, false if the item does not fit into the slot and has to be returned
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean accept(Item item) {
+        InventorySlot origin = item.getInventoryPosition();
+        InventoryModel originModel = origin.getInventory().getModel();
+        InventoryModel model = getInventory().getModel();
+        ItemStack stack = model.get(index);
+        if (stack != null && stack != item) {
+            if (stack.canStackWith(item)) {
+                int moved = Math.min(item.getCount(), InventoryModel.MAX_STACK - stack.getCount());
+                model.setCount(index, stack.getCount() + moved);
+                originModel.setCount(origin.getIndex(), item.getCount() - moved);
+            }
+            if (item.getInventoryPosition() == origin) {
+                origin.add(item);
+            }
+            return true;
+        }
+
+        if (model.fits(index, item)) {
+            originModel.take(origin.getIndex());
+            model.put(index, item);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Retrieves the item that is currently in the inventory slot.
      *
@@ -150,7 +195,7 @@ public class InventorySlot extends Actor {
      * @author Mykola Isaiev
      */
     public Item getItem() {
-        return item;
+        return (Item) getInventory().getModel().get(index);
     }
 
     /**
@@ -159,7 +204,29 @@ public class InventorySlot extends Actor {
      * @author Mykola Isaiev
      */
     public void removeItem() {
-        item = null;
+        getInventory().getModel().take(index);
+    }
+
+    /**
+     * Sets the index of the slot in the model of its inventory.
+     *
+     * @param index the index of the slot
+     *
+     * @author Mykola Isaiev
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Retrieves the index of the slot in the model of its inventory.
+     *
+     * @return the index of the slot
+     *
+     * @author Mykola Isaiev
+     */
+    public int getIndex() {
+        return index;
     }
 
     /**
@@ -0,0 +1,253 @@
+package com.mygdx.game.inventory;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.InputListener;
+import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.inventory.model.ItemStack;
+import com.mygdx.game.item.Item;
+
+/**
+ * Shows an inventory with many slots of the same size as a grid scrolled with the mouse wheel.
+ * Only the rows in view have slot actors, and only the items in these rows are children of the inventory.
+ * When the grid is scrolled, the slot actors are reused for the new rows.
+ * Instead of one drop target per slot, the whole inventory is a single drop target, and the slot under the pointer is
+ * computed from its position in the grid.
+ *
+ * @author Mykola Isaiev
+ */
+public class ScrollingInventory extends Inventory {
+    /**
+     * The horizontal distance between the left edges of two neighbouring slots.
+     */
+    public static final float COLUMN_WIDTH = 120;
+
+    /**
+     * The vertical distance between the bottom edges of two neighbouring slots.
+     */
+    public static final float ROW_HEIGHT = 100;
+
+    /**
+     * The number of slots in a row.
+     */
+    private final int columns;
+
+    /**
+     * The slot actors of the rows in view, from the top left to the bottom right.
+     */
+    private final Array<InventorySlot> visibleSlots;
+
+    /**
+     * The index of the row shown at the top.
+     */
+    private int firstRow = 0;
+
+    /**
+     * Constructor for creating a ScrollingInventory instance.
+     *
+     * @param dragAndDrop The drag and drop object.
+     * @param model The content of the inventory.
+     * @param x The x-coordinate of the top left slot.
+     * @param y The y-coordinate of the top left slot.
+     * @param columns The number of slots in a row.
+     * @param visibleRows The number of rows in view.
+     *
+     * @author Mykola Isaiev
+     */
+    public ScrollingInventory(DragAndDrop dragAndDrop, InventoryModel model, float x, float y, int columns, int visibleRows) {
+        super(dragAndDrop, model);
+        this.columns = columns;
+        this.visibleSlots = new Array<>(columns * visibleRows);
+
+        ItemSize size = model.getMaxSlotSize();
+        Vector2 position = new Vector2();
+        for (int row = 0; row < visibleRows; row++) {
+            for (int column = 0; column < columns; column++) {
+                position.set(x + column * COLUMN_WIDTH, y - row * ROW_HEIGHT);
+                InventorySlot slot = new InventorySlot(position, size);
+                visibleSlots.add(slot);
+                addActor(slot);
+            }
+        }
+
+        dragAndDrop.addTarget(new DragAndDrop.Target(this) {
+            @Override
+            public boolean drag(DragAndDrop.Source source, DragAndDrop.Payload payload, float x, float y, int pointer) {
+                return slotAt(x, y) != null;
+            }
+
+            @Override
+            public void drop(DragAndDrop.Source source, DragAndDrop.Payload payload, float x, float y, int pointer) {
+                Actor actor = payload.getDragActor();
+                InventorySlot slot = slotAt(x, y);
+                if (actor instanceof Item && slot != null) {
+                    Item item = (Item) actor;
+                    if (!slot.accept(item)) {
+                        item.getInventoryPosition().add(item);
+                    }
+                }
+            }
+        });
+
+        addListener(new InputListener() {
+            @Override
+            public boolean scrolled(InputEvent event, float x, float y, float amountX, float amountY) {
+                scroll(MathUtils.round(amountY));
+                return true;
+            }
+
+            @Override
+            public void enter(InputEvent event, float x, float y, int pointer, Actor fromActor) {
+                if (getStage() != null) {
+                    getStage().setScrollFocus(ScrollingInventory.this);
+                }
+            }
+        });
+
+        model.setListener(this);
+        showRows(0);
+    }
+
+    /**
+     * Scrolls the grid by a number of rows, without scrolling past the first or the last row.
+     *
+     * @param rows The number of rows, positive to scroll down.
+     *
+     * @author Mykola Isaiev
+     */
+    public void scroll(int rows) {
+        int rowCount = (getModel().getSlotCount() + columns - 1) / columns;
+        int visibleRows = visibleSlots.size / columns;
+        int row = MathUtils.clamp(firstRow + rows, 0, Math.max(0, rowCount - visibleRows));
+        if (row != firstRow) {
+            showRows(row);
+        }
+    }
+
+    /**
+     * Returns the index of the row shown at the top.
+     *
+     * @return The index of the first row in view.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Updates the actors after the content of a slot changed.
+     * Items stored in a slot which is not in view are not children of the inventory.
+     * A previous item which moved within the inventory is found through the slot recorded on it, without a search.
+     *
+     * @param slot The index of the slot.
+     * @param previous The item which was in the slot before the change.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void slotChanged(int slot, ItemStack previous) {
+        InventoryModel model = getModel();
+        Item item = (Item) model.get(slot);
+
+        if (previous != null && previous != item) {
+            if (previous.getModel() != model || !isShown(previous.getSlot())) {
+                hide((Item) previous);
+            }
+        }
+
+        if (item != null) {
+            if (isShown(slot)) {
+                visibleSlots.get(slot - firstRow * columns).place(item);
+            } else {
+                hide(item);
+                item.setInventoryPosition(null);
+            }
+        }
+    }
+
+    /**
+     * Shows the rows starting at a row: the slot actors get the indexes of the new rows and the items are replaced.
+     *
+     * @param row The index of the row shown at the top.
+     */
+    private void showRows(int row) {
+        InventoryModel model = getModel();
+        for (InventorySlot slot : visibleSlots) {
+            if (slot.isVisible()) {
+                ItemStack stack = model.get(slot.getIndex());
+                if (stack != null) {
+                    hide((Item) stack);
+                }
+            }
+        }
+
+        firstRow = row;
+        for (int i = 0; i < visibleSlots.size; i++) {
+            InventorySlot slot = visibleSlots.get(i);
+            int index = firstRow * columns + i;
+            slot.setIndex(index);
+            slot.setVisible(index < model.getSlotCount());
+            if (slot.isVisible() && model.get(index) != null) {
+                slot.place((Item) model.get(index));
+            }
+        }
+    }
+
+    /**
+     * Checks if a slot is in view.
+     *
+     * @param index The index of the slot.
+     * @return True if the slot has a slot actor, false otherwise.
+     */
+    private boolean isShown(int index) {
+        int first = firstRow * columns;
+        return index >= first && index < first + visibleSlots.size;
+    }
+
+    /**
+     * Removes an item of a slot which is no longer in view from the children of the inventory.
+     * An item being dragged is not a child of the inventory and keeps its slot, so it can still return to it.
+     *
+     * @param item The item.
+     */
+    private void hide(Item item) {
+        if (item.getParent() != this) {
+            return;
+        }
+        if (item.getInventoryPosition() != null && item.getInventoryPosition().getInventory() == this) {
+            item.setInventoryPosition(null);
+        }
+        removeActor(item);
+    }
+
+    /**
+     * Finds the slot actor under a position using the grid, without hit testing the slots.
+     *
+     * @param x The x-coordinate of the position in the coordinates of the inventory.
+     * @param y The y-coordinate of the position in the coordinates of the inventory.
+     * @return The slot actor, or null if the position is not on a slot in view.
+     */
+    private InventorySlot slotAt(float x, float y) {
+        InventorySlot first = visibleSlots.first();
+        float localX = x - first.getX();
+        float localY = first.getY() + first.getHeight() - y;
+        if (localX < 0 || localY < 0) {
+            return null;
+        }
+
+        int column = (int) (localX / COLUMN_WIDTH);
+        int row = (int) (localY / ROW_HEIGHT);
+        if (column >= columns || localX - column * COLUMN_WIDTH > first.getWidth()
+                || localY - row * ROW_HEIGHT > first.getHeight()) {
+            return null;
+        }
+
+        int i = row * columns + column;
+        return i < visibleSlots.size && visibleSlots.get(i).isVisible() ? visibleSlots.get(i) : null;
+    }
+}
@@ -0,0 +1,142 @@
+package com.mygdx.game.inventory;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.mygdx.game.inventory.model.InventoryModel;
+
+/**
+ * Describes the slots of an inventory: their sizes for the model and their positions for the view.
+ * A module declares its layout once, creates its model immediately and its view only when it is opened.
+ *
+ * @author Mykola Isaiev
+ */
+public class SlotLayout {
+    /**
+     * The x and y coordinate of every slot.
+     */
+    private final FloatArray positions = new FloatArray();
+
+    /**
+     * The size of every slot.
+     */
+    private final Array<ItemSize> sizes = new Array<>();
+
+    /**
+     * Indicates for every slot whether items can be dropped on it.
+     */
+    private final BooleanArray dropTargets = new BooleanArray();
+
+    /**
+     * The index of the crafting slot, or {@link InventoryModel#NO_SLOT} if the inventory has no workbench.
+     */
+    private int craftingSlot = InventoryModel.NO_SLOT;
+
+    /**
+     * Adds a slot items can be dropped on.
+     *
+     * @param x The x-coordinate of the slot.
+     * @param y The y-coordinate of the slot.
+     * @param size The size of the slot.
+     * @return This layout.
+     *
+     * @author Mykola Isaiev
+     */
+    public SlotLayout slot(float x, float y, ItemSize size) {
+        positions.add(x, y);
+        sizes.add(size);
+        dropTargets.add(true);
+        return this;
+    }
+
+    /**
+     * Adds a slot which is not a drop target.
+     *
+     * @param x The x-coordinate of the slot.
+     * @param y The y-coordinate of the slot.
+     * @param size The size of the slot.
+     * @return This layout.
+     *
+     * @author Mykola Isaiev
+     */
+    public SlotLayout fixedSlot(float x, float y, ItemSize size) {
+        positions.add(x, y);
+        sizes.add(size);
+        dropTargets.add(false);
+        return this;
+    }
+
+    /**
+     * Adds the crafting slot of the workbench.
+     * The slot shows the items the workbench can craft, items cannot be dropped on it.
+     *
+     * @param x The x-coordinate of the slot.
+     * @param y The y-coordinate of the slot.
+     * @return This layout.
+     *
+     * @author Mykola Isaiev
+     */
+    public SlotLayout craftingSlot(float x, float y) {
+        craftingSlot = sizes.size;
+        return fixedSlot(x, y, ItemSize.SMALL);
+    }
+
+    /**
+     * Checks if the layout has a crafting slot.
+     *
+     * @return True if the inventory has a workbench, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean hasCraftingSlot() {
+        return craftingSlot != InventoryModel.NO_SLOT;
+    }
+
+    /**
+     * Returns the index of the crafting slot.
+     *
+     * @return The index of the crafting slot, or {@link InventoryModel#NO_SLOT} if there is none.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getCraftingSlot() {
+        return craftingSlot;
+    }
+
+    /**
+     * Creates an empty model with the slots of this layout.
+     *
+     * @return The new model.
+     *
+     * @author Mykola Isaiev
+     */
+    public InventoryModel createModel() {
+        InventoryModel model = new InventoryModel(sizes.toArray(ItemSize.class));
+        model.setCraftingSlot(craftingSlot);
+        return model;
+    }
+
+    /**
+     * Creates the slot actors of this layout.
+     *
+     * @param dragAndDrop The DragAndDrop instance the drop targets are registered with.
+     * @return The slot actors, in the order of the model slots.
+     *
+     * @author Mykola Isaiev
+     */
+    public Array<InventorySlot> createSlots(DragAndDrop dragAndDrop) {
+        Array<InventorySlot> slots = new Array<>(sizes.size);
+        Vector2 position = new Vector2();
+        for (int i = 0; i < sizes.size; i++) {
+            position.set(positions.get(i * 2), positions.get(i * 2 + 1));
+            InventorySlot slot = dropTargets.get(i)
+                    ? new InventorySlot(position, sizes.get(i), dragAndDrop)
+                    : new InventorySlot(position, sizes.get(i));
+            slot.setIndex(i);
+            slots.add(slot);
+        }
+        return slots;
+    }
+}
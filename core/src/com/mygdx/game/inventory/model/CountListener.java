@@ -0,0 +1,16 @@
+package com.mygdx.game.inventory.model;
+
+/**
+ * Receives the changes of the item counts of an {@link InventoryModel}, used by caches derived from the counts.
+ *
+ * @author Mykola Isaiev
+ */
+@FunctionalInterface
+public interface CountListener {
+    /**
+     * Called after the total quantity of the items of a type changed.
+     *
+     * @param typeId The ID of the item type.
+     */
+    void countChanged(int typeId);
+}
@@ -0,0 +1,17 @@
+package com.mygdx.game.inventory.model;
+
+/**
+ * Receives the changes of an {@link InventoryModel}, used by the view showing the inventory.
+ *
+ * @author Mykola Isaiev
+ */
+@FunctionalInterface
+public interface InventoryListener {
+    /**
+     * Called after the content of a slot changed.
+     *
+     * @param slot The index of the slot.
+     * @param previous The stack which was in the slot before the change, null if the slot was empty.
+     */
+    void slotChanged(int slot, ItemStack previous);
+}
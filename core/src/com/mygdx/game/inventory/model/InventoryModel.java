@@ -0,0 +1,782 @@
+package com.mygdx.game.inventory.model;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.mygdx.game.inventory.ItemSize;
+
+import java.util.Arrays;
+
+/**
+ * The content of an inventory: a fixed number of slots holding item stacks.
+ * The model keeps indexes of the stored items by item type ID and by class, so the queries used every frame
+ * and by crafting are lookups that do not allocate. Every stored stack records its slot, so finding it takes constant time.
+ * It does not depend on scene2d, the view showing the inventory is notified through an {@link InventoryListener}.
+ * Changes made between {@link #begin()} and {@link #commit()} can be reverted with {@link #rollback()}.
+ *
+ * @author Mykola Isaiev
+ */
+public class InventoryModel {
+    /**
+     * The index returned when there is no matching slot.
+     */
+    public static final int NO_SLOT = -1;
+
+    /**
+     * The maximum number of items in one stack.
+     */
+    public static final int MAX_STACK = 64;
+
+    /**
+     * The size of every slot.
+     */
+    private final ItemSize[] slotSizes;
+
+    /**
+     * The stack stored in every slot, null for an empty slot.
+     */
+    private final ItemStack[] stacks;
+
+    /**
+     * The index of the slot holding the item shown by the workbench. Its content is not counted as inventory content.
+     */
+    private int craftingSlot = NO_SLOT;
+
+    /**
+     * Total quantity of the items outside the crafting slot, by item type ID.
+     */
+    private final IntIntMap typeCounts = new IntIntMap();
+
+    /**
+     * Stacks outside the crafting slot, by item type ID.
+     */
+    private final IntMap<Array<ItemStack>> typeIndex = new IntMap<>();
+
+    /**
+     * Unwrapped stacks outside the crafting slot, by every class which was queried with {@link #getStacksOfClass(Class)}.
+     */
+    private final ObjectMap<Class<?>, Array<ItemStack>> classIndex = new ObjectMap<>();
+
+    /**
+     * The listener notified about the changes, usually the view of the inventory.
+     */
+    private InventoryListener listener;
+
+    /**
+     * The listeners notified when the quantity of an item type changes.
+     */
+    private final Array<CountListener> countListeners = new Array<>();
+
+    /**
+     * Indicates whether a transaction is open.
+     */
+    private boolean inTransaction = false;
+
+    /**
+     * The slots changed during the open transaction.
+     */
+    private final IntArray journalSlots = new IntArray();
+
+    /**
+     * The stacks which were in the changed slots when the transaction began.
+     */
+    private final Array<ItemStack> journalStacks = new Array<>();
+
+    /**
+     * The counts of the stacks which were in the changed slots when the transaction began.
+     */
+    private final IntArray journalCounts = new IntArray();
+
+    /**
+     * The stacks consumed during the open transaction, disposed when the transaction is committed.
+     */
+    private final Array<ItemStack> consumed = new Array<>();
+
+    /**
+     * The item types whose count listeners are notified after the indexes were rebuilt, reused by every rebuild.
+     */
+    private final IntArray reindexedTypes = new IntArray();
+
+    /**
+     * Indicates whether the indexes are being rebuilt, the count listeners are then notified only when the counts are final.
+     */
+    private boolean reindexing = false;
+
+    /**
+     * Constructor for creating an InventoryModel instance.
+     *
+     * @param slotSizes The size of every slot.
+     *
+     * @author Mykola Isaiev
+     */
+    public InventoryModel(ItemSize... slotSizes) {
+        this.slotSizes = slotSizes.clone();
+        this.stacks = new ItemStack[slotSizes.length];
+    }
+
+    /**
+     * Constructor for creating an InventoryModel instance with many slots of the same size, e.g. for a large storage.
+     *
+     * @param slotCount The number of slots.
+     * @param size The size of every slot.
+     *
+     * @author Mykola Isaiev
+     */
+    public InventoryModel(int slotCount, ItemSize size) {
+        this.slotSizes = new ItemSize[slotCount];
+        this.stacks = new ItemStack[slotCount];
+        Arrays.fill(slotSizes, size);
+    }
+
+    /**
+     * Sets the listener notified about the changes.
+     *
+     * @param listener The listener, or null to remove it.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setListener(InventoryListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Adds a listener notified when the quantity of an item type changes.
+     *
+     * @param countListener The listener.
+     *
+     * @author Mykola Isaiev
+     */
+    public void addCountListener(CountListener countListener) {
+        countListeners.add(countListener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addCountListener(CountListener)}.
+     *
+     * @param countListener The listener.
+     *
+     * @author Mykola Isaiev
+     */
+    public void removeCountListener(CountListener countListener) {
+        countListeners.removeValue(countListener, true);
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return The number of slots.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getSlotCount() {
+        return stacks.length;
+    }
+
+    /**
+     * Returns the size of a slot.
+     *
+     * @param slot The index of the slot.
+     * @return The size of the slot.
+     *
+     * @author Mykola Isaiev
+     */
+    public ItemSize getSlotSize(int slot) {
+        return slotSizes[slot];
+    }
+
+    /**
+     * Returns the size of the biggest slot.
+     *
+     * @return The size of the biggest slot.
+     *
+     * @author Mykola Isaiev
+     */
+    public ItemSize getMaxSlotSize() {
+        ItemSize maxSize = ItemSize.SMALL;
+        for (ItemSize size : slotSizes) {
+            if (size.compare(maxSize) > 0) {
+                maxSize = size;
+            }
+        }
+        return maxSize;
+    }
+
+    /**
+     * Marks a slot as the crafting slot of a workbench. The crafting slot is not used to store items.
+     *
+     * @param slot The index of the slot.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setCraftingSlot(int slot) {
+        this.craftingSlot = slot;
+    }
+
+    /**
+     * Checks if a slot is the crafting slot.
+     *
+     * @param slot The index of the slot.
+     * @return True if the slot is the crafting slot, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isCraftingSlot(int slot) {
+        return slot == craftingSlot;
+    }
+
+    /**
+     * Returns the stack in a slot.
+     *
+     * @param slot The index of the slot.
+     * @return The stack, or null if the slot is empty.
+     *
+     * @author Mykola Isaiev
+     */
+    public ItemStack get(int slot) {
+        return stacks[slot];
+    }
+
+    /**
+     * Returns the slot holding a stack.
+     *
+     * @param stack The stack.
+     * @return The index of the slot, or {@link #NO_SLOT} if the stack is not in this inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    public int indexOf(ItemStack stack) {
+        return stack.getModel() == this ? stack.getSlot() : NO_SLOT;
+    }
+
+    /**
+     * Checks if a stack is small enough for a slot.
+     * The crafting slot only shows the items the workbench can craft, so it takes items of every size.
+     *
+     * @param slot The index of the slot.
+     * @param stack The stack.
+     * @return True if the stack fits, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean fits(int slot, ItemStack stack) {
+        if (slot == craftingSlot) {
+            return true;
+        }
+        ItemSize size = stack.isWrapped() ? stack.getSize().getLowerSize() : stack.getSize();
+        return slotSizes[slot].compare(size) >= 0;
+    }
+
+    /**
+     * Finds the first empty storage slot which can hold an item of the specified size.
+     *
+     * @param size The size of the item.
+     * @return The index of the slot, or {@link #NO_SLOT} if there is none.
+     *
+     * @author Mykola Isaiev
+     */
+    public int findFreeSlot(ItemSize size) {
+        for (int i = 0; i < stacks.length; i++) {
+            if (stacks[i] == null && i != craftingSlot && slotSizes[i].compare(size) >= 0) {
+                return i;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Puts a stack into an empty slot.
+     *
+     * @param slot The index of the slot.
+     * @param stack The stack.
+     * @return True if the stack was stored, false if the slot is occupied or too small, or the stack is already stored in another slot.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean put(int slot, ItemStack stack) {
+        if (stacks[slot] != null || !fits(slot, stack) || indexOf(stack) != NO_SLOT) {
+            return false;
+        }
+
+        journal(slot);
+        attach(slot, stack);
+        notifyChanged(slot, null);
+        return true;
+    }
+
+    /**
+     * Takes the stack out of a slot.
+     *
+     * @param slot The index of the slot.
+     * @return The stack, or null if the slot was empty.
+     *
+     * @author Mykola Isaiev
+     */
+    public ItemStack take(int slot) {
+        ItemStack stack = stacks[slot];
+        if (stack != null) {
+            journal(slot);
+            detach(slot);
+            notifyChanged(slot, stack);
+        }
+        return stack;
+    }
+
+    /**
+     * Takes a stack out of this inventory.
+     *
+     * @param stack The stack.
+     * @return True if the stack was in this inventory, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean remove(ItemStack stack) {
+        int slot = indexOf(stack);
+        if (slot == NO_SLOT) {
+            return false;
+        }
+        take(slot);
+        return true;
+    }
+
+    /**
+     * Stores a stack, merging it into the stacks of the same kind first and putting the rest into the first free slot.
+     * A stack which is merged completely is disposed.
+     *
+     * @param stack The stack.
+     * @return True if the whole stack was stored, false if the inventory is full.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean add(ItemStack stack) {
+        Array<ItemStack> named = typeIndex.get(stack.getTypeId());
+        if (named != null) {
+            for (int i = 0; i < named.size && stack.getCount() > 0; i++) {
+                merge(indexOf(named.get(i)), stack);
+            }
+        }
+        if (stack.getCount() == 0) {
+            consume(stack);
+            return true;
+        }
+
+        int slot = findFreeSlot(stack.isWrapped() ? stack.getSize().getLowerSize() : stack.getSize());
+        return slot != NO_SLOT && put(slot, stack);
+    }
+
+    /**
+     * Moves as many items as fit from a stack into the stack in a slot.
+     * The count of the merged stack is reduced by the moved quantity.
+     *
+     * @param slot The index of the slot.
+     * @param stack The stack to merge.
+     * @return The number of moved items.
+     *
+     * @author Mykola Isaiev
+     */
+    public int merge(int slot, ItemStack stack) {
+        ItemStack target = stacks[slot];
+        if (target == null || target == stack || !target.canStackWith(stack)) {
+            return 0;
+        }
+
+        int moved = Math.min(stack.getCount(), MAX_STACK - target.getCount());
+        if (moved > 0) {
+            setCount(slot, target.getCount() + moved);
+            stack.setCount(stack.getCount() - moved);
+        }
+        return moved;
+    }
+
+    /**
+     * Changes the count of the stack in a slot. A stack whose count drops to zero is removed and disposed.
+     *
+     * @param slot The index of the slot.
+     * @param count The new count.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setCount(int slot, int count) {
+        ItemStack stack = stacks[slot];
+        if (stack == null) {
+            return;
+        }
+
+        journal(slot);
+        if (count <= 0) {
+            detach(slot);
+            consume(stack);
+        } else {
+            if (slot != craftingSlot) {
+                changeCount(stack.getTypeId(), count - stack.getCount());
+            }
+            stack.setCount(count);
+        }
+        notifyChanged(slot, stack);
+    }
+
+    /**
+     * Splits the stack in a slot, the taken quantity is moved to the first free slot.
+     *
+     * @param slot The index of the slot.
+     * @param amount The quantity to move.
+     * @return The index of the slot holding the new stack, or {@link #NO_SLOT} if the stack could not be split.
+     *
+     * @author Mykola Isaiev
+     */
+    public int split(int slot, int amount) {
+        ItemStack stack = stacks[slot];
+        if (stack == null || amount <= 0 || amount >= stack.getCount()) {
+            return NO_SLOT;
+        }
+
+        int freeSlot = findFreeSlot(stack.getSize());
+        if (freeSlot == NO_SLOT) {
+            return NO_SLOT;
+        }
+
+        journal(slot);
+        ItemStack half = stack.split(amount);
+        if (slot != craftingSlot) {
+            changeCount(stack.getTypeId(), -amount);
+        }
+        notifyChanged(slot, stack);
+        put(freeSlot, half);
+        return freeSlot;
+    }
+
+    /**
+     * Removes a quantity of items of a type, taken from the last stacks first.
+     * Stacks which become empty are removed and disposed.
+     *
+     * @param typeId The ID of the item type.
+     * @param amount The quantity to remove.
+     * @return The quantity which was removed, less than the requested amount if there were not enough items.
+     *
+     * @author Mykola Isaiev
+     */
+    public int remove(int typeId, int amount) {
+        Array<ItemStack> named = typeIndex.get(typeId);
+        if (named == null) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (int i = named.size - 1; i >= 0 && removed < amount; i--) {
+            ItemStack stack = named.get(i);
+            int taken = Math.min(stack.getCount(), amount - removed);
+            removed += taken;
+            setCount(indexOf(stack), stack.getCount() - taken);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the total quantity of the items of a type outside the crafting slot.
+     *
+     * @param typeId The ID of the item type.
+     * @return The total quantity.
+     *
+     * @author Mykola Isaiev
+     */
+    public int count(int typeId) {
+        return typeCounts.get(typeId, 0);
+    }
+
+    /**
+     * Checks if the inventory contains an item of a type outside the crafting slot.
+     *
+     * @param typeId The ID of the item type.
+     * @return True if the item exists, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean contains(int typeId) {
+        return typeCounts.get(typeId, 0) > 0;
+    }
+
+    /**
+     * Returns the first stack that is an instance of a specific class and has a specific item type.
+     *
+     * @param clazz The class of the stack.
+     * @param typeId The ID of the item type.
+     * @param <T> The class of the stack.
+     * @return The stack, or null if there is none.
+     *
+     * @author Mykola Isaiev
+     */
+    public <T> T find(Class<T> clazz, int typeId) {
+        Array<ItemStack> named = typeIndex.get(typeId);
+        if (named != null) {
+            for (int i = 0; i < named.size; i++) {
+                if (clazz.isInstance(named.get(i))) {
+                    return clazz.cast(named.get(i));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns all unwrapped stacks that are instances of a specific class.
+     * The first query for a class builds its index, afterwards the index is kept up to date.
+     * The returned array is owned by the model, it must not be modified and changes when the inventory changes.
+     *
+     * @param clazz The class of the stacks.
+     * @param <T> The class of the stacks.
+     * @return The stacks that are instances of the class.
+     *
+     * @author Mykola Isaiev
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Array<T> getStacksOfClass(Class<T> clazz) {
+        Array<ItemStack> matching = classIndex.get(clazz);
+        if (matching == null) {
+            matching = new Array<>();
+            for (int i = 0; i < stacks.length; i++) {
+                if (stacks[i] != null && i != craftingSlot && clazz.isInstance(stacks[i]) && !stacks[i].isWrapped()) {
+                    matching.add(stacks[i]);
+                }
+            }
+            classIndex.put(clazz, matching);
+        }
+        return (Array<T>) matching;
+    }
+
+    /**
+     * Opens a transaction. The changes made until {@link #commit()} can be reverted with {@link #rollback()}.
+     * Stacks consumed during the transaction are disposed only when it is committed.
+     *
+     * @author Mykola Isaiev
+     */
+    public void begin() {
+        if (inTransaction) {
+            throw new IllegalStateException("A transaction is already open");
+        }
+        inTransaction = true;
+    }
+
+    /**
+     * Keeps the changes of the open transaction.
+     *
+     * @author Mykola Isaiev
+     */
+    public void commit() {
+        inTransaction = false;
+        clearJournal();
+        for (ItemStack stack : consumed) {
+            stack.dispose();
+        }
+        consumed.clear();
+    }
+
+    /**
+     * Reverts the changes of the open transaction, restoring the stacks and counts of every changed slot.
+     * Only the slots of this inventory are restored, stacks merged in from outside keep their reduced counts.
+     *
+     * @author Mykola Isaiev
+     */
+    public void rollback() {
+        inTransaction = false;
+        Array<ItemStack> replaced = new Array<>(journalSlots.size);
+        for (int i = 0; i < journalSlots.size; i++) {
+            replaced.add(stacks[journalSlots.get(i)]);
+        }
+        for (int i = 0; i < replaced.size; i++) {
+            if (replaced.get(i) != null) {
+                release(replaced.get(i));
+            }
+        }
+        for (int i = journalSlots.size - 1; i >= 0; i--) {
+            int slot = journalSlots.get(i);
+            ItemStack stack = journalStacks.get(i);
+            if (stack != null) {
+                stack.setCount(journalCounts.get(i));
+            }
+            stacks[slot] = stack;
+        }
+        consumed.clear();
+        reindex();
+
+        for (int i = 0; i < journalSlots.size; i++) {
+            notifyChanged(journalSlots.get(i), replaced.get(i));
+        }
+        clearJournal();
+    }
+
+    /**
+     * Records the state of a slot before its first change in the open transaction.
+     *
+     * @param slot The index of the slot.
+     */
+    private void journal(int slot) {
+        if (!inTransaction || journalSlots.contains(slot)) {
+            return;
+        }
+        journalSlots.add(slot);
+        journalStacks.add(stacks[slot]);
+        journalCounts.add(stacks[slot] == null ? 0 : stacks[slot].getCount());
+    }
+
+    /**
+     * Clears the journal of the transaction.
+     */
+    private void clearJournal() {
+        journalSlots.clear();
+        journalStacks.clear();
+        journalCounts.clear();
+    }
+
+    /**
+     * Disposes a consumed stack, or keeps it until the open transaction is committed.
+     *
+     * @param stack The consumed stack.
+     */
+    private void consume(ItemStack stack) {
+        if (inTransaction) {
+            consumed.add(stack);
+        } else {
+            stack.dispose();
+        }
+    }
+
+    /**
+     * Stores a stack in a slot and adds it to the indexes.
+     *
+     * @param slot The index of the slot.
+     * @param stack The stack.
+     */
+    private void attach(int slot, ItemStack stack) {
+        stacks[slot] = stack;
+        stack.setSlot(this, slot);
+        if (slot == craftingSlot) {
+            return;
+        }
+
+        changeCount(stack.getTypeId(), stack.getCount());
+        Array<ItemStack> named = typeIndex.get(stack.getTypeId());
+        if (named == null) {
+            named = new Array<>();
+            typeIndex.put(stack.getTypeId(), named);
+        }
+        named.add(stack);
+
+        if (!stack.isWrapped()) {
+            for (ObjectMap.Entry<Class<?>, Array<ItemStack>> entry : classIndex) {
+                if (entry.key.isInstance(stack)) {
+                    entry.value.add(stack);
+                }
+            }
+        }
+    }
+
+    /**
+     * Empties a slot and removes its stack from the indexes.
+     *
+     * @param slot The index of the slot.
+     */
+    private void detach(int slot) {
+        ItemStack stack = stacks[slot];
+        stacks[slot] = null;
+        release(stack);
+        if (slot == craftingSlot) {
+            return;
+        }
+
+        changeCount(stack.getTypeId(), -stack.getCount());
+        Array<ItemStack> named = typeIndex.get(stack.getTypeId());
+        if (named != null) {
+            named.removeValue(stack, true);
+        }
+        for (ObjectMap.Entry<Class<?>, Array<ItemStack>> entry : classIndex) {
+            entry.value.removeValue(stack, true);
+        }
+    }
+
+    /**
+     * Clears the slot recorded on a stack which this model no longer stores.
+     *
+     * @param stack The removed stack.
+     */
+    private void release(ItemStack stack) {
+        if (stack.getModel() == this) {
+            stack.setSlot(null, NO_SLOT);
+        }
+    }
+
+    /**
+     * Rebuilds all indexes from the content of the slots.
+     * Afterwards the count listeners are notified about every type counted before or after the rebuild.
+     */
+    private void reindex() {
+        reindexedTypes.clear();
+        for (IntIntMap.Entry entry : typeCounts) {
+            reindexedTypes.add(entry.key);
+        }
+        reindexing = true;
+        typeCounts.clear();
+        for (Array<ItemStack> named : typeIndex.values()) {
+            named.clear();
+        }
+        for (Array<ItemStack> matching : classIndex.values()) {
+            matching.clear();
+        }
+
+        for (int i = 0; i < stacks.length; i++) {
+            if (stacks[i] != null) {
+                attach(i, stacks[i]);
+            }
+        }
+        reindexing = false;
+
+        // the types which disappeared are notified too, so the listeners read their count of 0
+        for (IntIntMap.Entry entry : typeCounts) {
+            if (!reindexedTypes.contains(entry.key)) {
+                reindexedTypes.add(entry.key);
+            }
+        }
+        for (int i = 0; i < reindexedTypes.size; i++) {
+            notifyCountChanged(reindexedTypes.get(i));
+        }
+    }
+
+    /**
+     * Changes the total quantity of an item type and notifies the count listeners.
+     *
+     * @param typeId The ID of the item type.
+     * @param delta The change of the quantity.
+     */
+    private void changeCount(int typeId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        typeCounts.getAndIncrement(typeId, 0, delta);
+        if (!reindexing) {
+            notifyCountChanged(typeId);
+        }
+    }
+
+    /**
+     * Notifies the count listeners about a changed quantity.
+     *
+     * @param typeId The ID of the item type.
+     */
+    private void notifyCountChanged(int typeId) {
+        for (int i = 0; i < countListeners.size; i++) {
+            countListeners.get(i).countChanged(typeId);
+        }
+    }
+
+    /**
+     * Notifies the listener about a changed slot.
+     *
+     * @param slot The index of the slot.
+     * @param previous The stack which was in the slot before the change.
+     */
+    private void notifyChanged(int slot, ItemStack previous) {
+        if (listener != null) {
+            listener.slotChanged(slot, previous);
+        }
+    }
+}
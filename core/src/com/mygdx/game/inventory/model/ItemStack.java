@@ -0,0 +1,97 @@
+package com.mygdx.game.inventory.model;
+
+import com.mygdx.game.inventory.ItemSize;
+
+/**
+ * The state of an item which an {@link InventoryModel} needs to store it.
+ * The model only works with this interface, so the inventory logic does not depend on actors, textures or a stage.
+ *
+ * @author Mykola Isaiev
+ */
+public interface ItemStack {
+    /**
+     * Returns the ID of the item type, identifying the kind of the item.
+     *
+     * @return The ID of the item type.
+     */
+    int getTypeId();
+
+    /**
+     * Returns the name of the item, shown to the player.
+     *
+     * @return The name of the item.
+     */
+    String getName();
+
+    /**
+     * Returns the size of the item when it is not wrapped.
+     *
+     * @return The size of the item.
+     */
+    ItemSize getSize();
+
+    /**
+     * Checks if the item is wrapped, a wrapped item fits into a slot one size smaller.
+     *
+     * @return True if the item is wrapped, false otherwise.
+     */
+    boolean isWrapped();
+
+    /**
+     * Returns the number of items in the stack.
+     *
+     * @return The stack count.
+     */
+    int getCount();
+
+    /**
+     * Sets the number of items in the stack.
+     * Only the inventory holding the stack should change the count of a stored stack.
+     *
+     * @param count The stack count.
+     */
+    void setCount(int count);
+
+    /**
+     * Returns the inventory model storing the stack.
+     *
+     * @return The model, or null if the stack is not stored.
+     */
+    InventoryModel getModel();
+
+    /**
+     * Returns the slot storing the stack in its inventory model.
+     *
+     * @return The index of the slot, meaningful only while {@link #getModel()} is not null.
+     */
+    int getSlot();
+
+    /**
+     * Records where the stack is stored. Only the inventory model storing or removing the stack should call it.
+     *
+     * @param model The model storing the stack, or null if it was removed.
+     * @param slot The index of the slot.
+     */
+    void setSlot(InventoryModel model, int slot);
+
+    /**
+     * Checks if the specified stack can be merged into this stack.
+     *
+     * @param other The stack to merge.
+     * @return True if the other stack can be merged, false otherwise.
+     */
+    boolean canStackWith(ItemStack other);
+
+    /**
+     * Takes the specified quantity out of this stack into a new stack.
+     *
+     * @param amount The quantity to take.
+     * @return The new stack.
+     */
+    ItemStack split(int amount);
+
+    /**
+     * Releases the stack after it was consumed.
+     */
+    void dispose();
+}
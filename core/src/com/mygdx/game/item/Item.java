@@ -1,8 +1,10 @@
 package com.mygdx.game.item;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Texture;
+import com.mygdx.game.assets.Assets;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
@@ -11,21 +13,21 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
-import com.mygdx.game.gui.FunctionInterface;
+import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.inventory.Inventory;
 import com.mygdx.game.inventory.InventorySlot;
 import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.inventory.model.ItemStack;
+import com.mygdx.game.pool.GamePools;
 import com.mygdx.game.item.interfaces.Movable;
 import com.mygdx.game.item.interfaces.Placeable;
-import com.mygdx.game.item.interfaces.Refuelable;
 import com.mygdx.game.item.interfaces.Wrapable;
-import com.mygdx.game.item.modules.soil_storages.SmallSoilStorage;
-import com.mygdx.game.item.resources.Resource;
+import com.mygdx.game.workbench.CraftingQueue;
 import com.mygdx.game.workbench.Recipes;
 import com.mygdx.game.world.GameMap;
 import com.mygdx.game.world.TileType;
-
-import java.util.HashMap;
+import com.mygdx.game.world.WorldItemLayer;
 
 /**
  * Represents an item in the game.
@@ -33,7 +35,18 @@ import java.util.HashMap;
  *
  * @author Mykola Isaiev
  */
-public abstract class Item extends Actor implements Movable, Placeable, Wrapable {
+public abstract class Item extends Actor implements Movable, Placeable, Wrapable, ItemStack {
+    /**
+     * The actions offered for an item in an inventory.
+     */
+    private static final Array<ItemAction> INVENTORY_ACTIONS = ItemAction.table(ItemAction.PLACE, ItemAction.FUEL, ItemAction.SPLIT);
+
+    /**
+     * The actions offered for an item in the world.
+     */
+    private static final Array<ItemAction> WORLD_ACTIONS = ItemAction.table(ItemAction.PICK_UP, ItemAction.MOVE,
+            ItemAction.WRAP, ItemAction.UNWRAP);
+
     /**
      * The current texture of the item.
      */
@@ -50,14 +63,9 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
     protected TextureRegion wrappedTexture;
 
     /**
-     * The name of the item.
+     * The type of the item, holding the definition shared by all items of this type.
      */
-    protected String name;
-
-    /**
-     * The weight of the item.
-     */
-    protected float weight;
+    protected final ItemType type;
 
     /**
      * The DragAndDrop instance associated with the item.
@@ -70,45 +78,56 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
     protected InventorySlot inventorySlot;
 
     /**
-     * The size of the item.
+     * Indicates whether the item is wrapped.
      */
-    protected ItemSize size;
+    protected boolean wrapped = false;
 
     /**
-     * Indicates whether the item is wrapped.
+     * The entity simulating the item while it is placed in the game world.
      */
-    protected boolean wrapped = false;
+    protected Entity entity;
+
+    /**
+     * The number of items in the stack represented by this item.
+     */
+    protected int count = 1;
+
+    /**
+     * The text of the stack count drawn in the inventory, updated only when the count changes.
+     */
+    private String countLabel = "1";
+
+    /**
+     * The inventory model storing this item, null if the item is not stored.
+     */
+    private InventoryModel model;
+
+    /**
+     * The slot storing this item in its inventory model.
+     */
+    private int slot = InventoryModel.NO_SLOT;
+
+    /**
+     * The drag source of the item, registered at the drag and drop object until the item is disposed.
+     */
+    private DragAndDrop.Source dragSource;
 
     /**
      * Constructor for creating an item with a DragAndDrop instance.
      *
-     * @param name The name of the item.
-     * @param weight The weight of the item.
-     * @param normalTexturePath The path to the normal texture of the item.
-     * @param size The size of the item.
+     * @param type The type of the item.
      * @param dragAndDrop The DragAndDrop instance associated with the item.
      *
      * @author Mykola Isaiev
      */
-    public Item(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        this.name = name;
-        this.weight = weight;
-
-        Texture texture = new Texture(Gdx.files.internal(normalTexturePath));
-        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+    public Item(ItemType type, DragAndDrop dragAndDrop) {
+        this.type = type;
 
-        this.normalTexture = new TextureRegion(texture);
-
-        this.currentTexture = normalTexture;
+        loadTextures();
 
-        texture = new Texture(Gdx.files.internal("items/wrapped/wrapped.png"));
-        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        this.wrappedTexture = new TextureRegion(texture);
-
-        this.size = size;
         inventorySlot = null;
 
-        setSize(size.getId() * TileType.TILE_SIZE * 4, size.getId() * TileType.TILE_SIZE * 4);
+        setSize(type.getSize().getId() * TileType.TILE_SIZE * 4, type.getSize().getId() * TileType.TILE_SIZE * 4);
 
         this.dragAndDrop = dragAndDrop;
         initializeDragAndDrop();
@@ -137,38 +156,28 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
 
     /**
      * Constructor for creating a craftable source item.
+     * The item is shown in the crafting slot with the size of an inventory item, whatever the size of its type.
      *
-     * @param name The name of the item.
-     * @param weight The weight of the item.
-     * @param normalTexturePath The path to the normal texture of the item.
-     * @param size The size of the item.
+     * @param type The type of the item.
      * @param inventory The inventory in which the item is located.
      *
      * @author Mykola Isaiev
      */
-    public Item(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        this.name = name;
-        this.weight = weight;
-
-        Texture texture = new Texture(Gdx.files.internal(normalTexturePath));
-        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-
-        this.normalTexture = new TextureRegion(texture);
-        this.currentTexture = normalTexture;
+    public Item(ItemType type, Inventory inventory) {
+        this.type = type;
 
-        this.wrappedTexture = new TextureRegion(new Texture(Gdx.files.internal("items/wrapped/wrapped.png")));
+        loadTextures();
 
-        this.size = size;
         inventorySlot = null;
 
-        setSize(size.getId() * TileType.TILE_SIZE * 4, size.getId() * TileType.TILE_SIZE * 4);
+        setInventoryMode();
 
         addListener(new ClickListener() {
             @Override
             public boolean touchDown(InputEvent event, float x, float y, int pointer, int button) {
                 if (button == Input.Buttons.LEFT) {
                     if (!GameMap.getPlayer().getMap().getActionsPopUpList().isVisible()) {
-                        Recipes.craft(name, inventory);
+                        craftFromPreview(inventory);
                     }
                 }
                 return true;
@@ -177,28 +186,60 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
     }
 
     /**
-     * Handles the click event when the item is in the inventory.
+     * Crafts the item shown in the crafting slot of an inventory.
+     * A click crafts one item, holding SHIFT crafts as many items as the ingredients and the free space allow.
+     * Holding CONTROL queues the crafts at the workbench instead, if the inventory belongs to one.
+     *
+     * @param inventory The inventory in which the item is shown.
      *
      * @author Mykola Isaiev
      */
-    public void handleInventoryClick() {
-        HashMap<String, FunctionInterface> labels = new HashMap<>();
+    private void craftFromPreview(Inventory inventory) {
+        int times = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) ? Integer.MAX_VALUE : 1;
+        CraftingQueue craftingQueue = inventory.getCraftingQueue();
+        if (craftingQueue != null && Gdx.input.isKeyPressed(Input.Keys.CONTROL_LEFT)) {
+            craftingQueue.enqueue(type, times);
+        } else {
+            Recipes.craft(type, inventory.getModel(), times);
+        }
+    }
 
-        labels.put("Place", () -> {
-            this.place();
-            this.getInventoryPosition().getInventory().setVisible(false);
-            GameMap.getPlayer().getInventory().setVisible(false);
-        });
+    /**
+     * Acquires the normal texture of the item type and the wrapped texture from the shared texture cache.
+     *
+     * @author Mykola Isaiev
+     */
+    private void loadTextures() {
+        this.normalTexture = Assets.getRegion(type.getTexturePath());
+        this.normalTexture.getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        this.currentTexture = normalTexture;
 
-        if (this instanceof Refuelable && !this.isWrapped()) {
-            labels.put("Fuel", () -> {
-                ((Refuelable) this).fuel();
-            });
+        this.wrappedTexture = Assets.getRegion(Assets.WRAPPED);
+        this.wrappedTexture.getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+    }
+
+    /**
+     * Releases the textures of the item and removes its drag source, so the drag and drop object no longer keeps it.
+     * This method should be called when the item is destroyed, for example when it is consumed by crafting.
+     *
+     * @author Mykola Isaiev
+     */
+    public void dispose() {
+        Assets.release(type.getTexturePath());
+        Assets.release(Assets.WRAPPED);
+        if (dragSource != null) {
+            dragAndDrop.removeSource(dragSource);
+            dragSource = null;
         }
+    }
 
-        Vector3 vec = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-        GameMap.getStage().getViewport().unproject(vec);
-        GameMap.getPlayer().getMap().getActionsPopUpList().addAction(labels, new Vector2(vec.x, vec.y));
+    /**
+     * Handles the click event when the item is in the inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    public void handleInventoryClick() {
+        showActions(getInventoryActions());
     }
 
     /**
@@ -207,33 +248,54 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
      * @author Mykola Isaiev
      */
     public void handleWorldClick() {
-        HashMap<String, FunctionInterface> labels = new HashMap<>();
+        showActions(getWorldActions());
+    }
 
-        if ((!wrapped && size == ItemSize.SMALL) || (wrapped && size.getLowerSize() == ItemSize.SMALL)) {
-            labels.put("Pick up", () -> {
-                this.pickUp();
-            });
-        }
+    /**
+     * Returns the actions offered when the item is right-clicked in an inventory.
+     * The table is shared by all items of the class, the actions which are not available for the item are not shown.
+     *
+     * @return The table of actions.
+     *
+     * @author Mykola Isaiev
+     */
+    public Array<ItemAction> getInventoryActions() {
+        return INVENTORY_ACTIONS;
+    }
 
-        labels.put("Move", () -> {
-            this.move();
-        });
+    /**
+     * Returns the actions offered when the item is right-clicked in the world.
+     * The table is shared by all items of the class, the actions which are not available for the item are not shown.
+     *
+     * @return The table of actions.
+     *
+     * @author Mykola Isaiev
+     */
+    public Array<ItemAction> getWorldActions() {
+        return WORLD_ACTIONS;
+    }
 
-        if (!(this instanceof Resource || this instanceof SmallSoilStorage)) {
-            if (!wrapped) {
-                labels.put("Wrap", () -> {
-                    this.wrap();
-                });
-            } else {
-                labels.put("Unwrap", () -> {
-                    this.unwrap();
-                });
-            }
-        }
+    /**
+     * Checks if the item fits into a small slot, so it can be picked up from the world.
+     *
+     * @return True if the item can be picked up, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean canPickUp() {
+        return (!wrapped && getSize() == ItemSize.SMALL) || (wrapped && getSize().getLowerSize() == ItemSize.SMALL);
+    }
 
-        Vector3 vec = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-        GameMap.getStage().getViewport().unproject(vec);
-        GameMap.getPlayer().getMap().getActionsPopUpList().addAction(labels, new Vector2(vec.x, vec.y));
+    /**
+     * Shows the pop-up list with the available actions of a table at the position of the mouse.
+     *
+     * @param actions The table of actions.
+     */
+    private void showActions(Array<ItemAction> actions) {
+        Vector3 position = GamePools.VECTOR3.obtain().set(Gdx.input.getX(), Gdx.input.getY(), 0);
+        GameMap.getStage().getViewport().unproject(position);
+        GameMap.getPlayer().getMap().getActionsPopUpList().show(this, actions, position.x, position.y);
+        GamePools.VECTOR3.free(position);
     }
 
     /**
@@ -243,7 +305,7 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
      */
     @Override
     public void move() {
-        GameMap.getPlayer().getMap().removeActor(this);
+        GameMap.getPlayer().getMap().removeWorldItem(this);
         Vector2 lastPosition = new Vector2(getX(), getY());
         PlaceableItem rawResourcePlaceable = new PlaceableItem(currentTexture, this, lastPosition);
         GameMap.getPlayer().getMap().addActActor(rawResourcePlaceable);
@@ -268,7 +330,7 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
     @Override
     public void wrap() {
         wrapped = true;
-        setSize(size.getLowerSize().getId() * TileType.TILE_SIZE, size.getLowerSize().getId() * TileType.TILE_SIZE);
+        setSize(getSize().getLowerSize().getId() * TileType.TILE_SIZE, getSize().getLowerSize().getId() * TileType.TILE_SIZE);
         currentTexture = wrappedTexture;
     }
 
@@ -280,7 +342,7 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
     @Override
     public void unwrap() {
         wrapped = false;
-        setSize(size.getId() * TileType.TILE_SIZE, size.getId() * TileType.TILE_SIZE);
+        setSize(getSize().getId() * TileType.TILE_SIZE, getSize().getId() * TileType.TILE_SIZE);
         currentTexture = normalTexture;
     }
 
@@ -290,11 +352,23 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
      * @author Mykola Isaiev
      */
     public void pickUp() {
-        GameMap.getPlayer().getMap().removeActor(this);
+        GameMap.getPlayer().getMap().removeWorldItem(this);
         setInventoryMode();
         GameMap.getPlayer().getInventory().addItem(this);
     }
 
+    /**
+     * Keeps the spatial grid of the world items up to date when an item placed in the world moves.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    protected void positionChanged() {
+        if (getParent() instanceof WorldItemLayer) {
+            ((WorldItemLayer) getParent()).moved(this);
+        }
+    }
+
     /**
      * Draws the item on the screen. The specific behavior is determined by the class that implements this method.
      *
@@ -306,6 +380,126 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
     @Override
     public void draw(Batch batch, float parentAlpha) {
         batch.draw(currentTexture, getX(), getY(), getOriginX(), getOriginY(), getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation());
+
+        if (count > 1 && inventorySlot != null) {
+            Assets.getFont().draw(batch, countLabel, getX() + getWidth() - 12, getY() + 12);
+        }
+    }
+
+    /**
+     * Returns the number of items in the stack.
+     *
+     * @return The stack count.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the number of items in the stack.
+     *
+     * @param count The stack count.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void setCount(int count) {
+        this.count = count;
+        this.countLabel = Integer.toString(count);
+    }
+
+    /**
+     * Returns the inventory model storing this item.
+     *
+     * @return The model, or null if the item is not stored.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public InventoryModel getModel() {
+        return model;
+    }
+
+    /**
+     * Returns the slot storing this item in its inventory model.
+     *
+     * @return The index of the slot.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Records where this item is stored, called by the inventory model.
+     *
+     * @param model The model storing the item, or null if it was removed.
+     * @param slot The index of the slot.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void setSlot(InventoryModel model, int slot) {
+        this.model = model;
+        this.slot = slot;
+    }
+
+    /**
+     * Checks if several items of this kind can share one inventory slot, as defined by the item type.
+     *
+     * @return True if the item is stackable, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isStackable() {
+        return type.isStackable();
+    }
+
+    /**
+     * Checks if the specified item can be merged into this stack.
+     *
+     * @param other The item to merge.
+     * @return True if both items are stackable items of the same type and this stack is not full, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public boolean canStackWith(ItemStack other) {
+        return other != this && isStackable() && !wrapped && count < InventoryModel.MAX_STACK
+                && other.getTypeId() == type.getId();
+    }
+
+    /**
+     * Takes the specified quantity out of this stack into a new stack.
+     *
+     * @param amount The quantity to take, less than the stack count.
+     * @return The new stack.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public Item split(int amount) {
+        Item stack = newStack();
+        stack.setCount(amount);
+        setCount(count - amount);
+        return stack;
+    }
+
+    /**
+     * Creates an empty item of the same kind, used when a stack is split.
+     * Classes which keep their items in a pool override this method to take the new item from the pool.
+     *
+     * @return A new item of the same kind.
+     *
+     * @author Mykola Isaiev
+     */
+    protected Item newStack() {
+        return ItemFactory.create(type, dragAndDrop);
     }
 
     /**
@@ -328,14 +522,59 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
     public void setWorldMode(Vector2 position) {
         inventorySlot = null;
         if (wrapped) {
-            setSize(size.getLowerSize().getId() * TileType.TILE_SIZE, size.getLowerSize().getId() * TileType.TILE_SIZE);
+            setSize(getSize().getLowerSize().getId() * TileType.TILE_SIZE, getSize().getLowerSize().getId() * TileType.TILE_SIZE);
         } else {
-            setSize(size.getId() * TileType.TILE_SIZE, size.getId() * TileType.TILE_SIZE);
+            setSize(getSize().getId() * TileType.TILE_SIZE, getSize().getId() * TileType.TILE_SIZE);
         }
 
         setPosition(position.x, position.y);
     }
 
+    /**
+     * Adds the components describing the behavior of the item to its entity.
+     * This method is called when the item is placed in the game world.
+     * Items with a simulated behavior should override this method.
+     *
+     * @param entity The entity of the item.
+     *
+     * @author Mykola Isaiev
+     */
+    public void addComponents(Entity entity) {
+
+    }
+
+    /**
+     * Called after the item was removed from the game world, e.g. when it is picked up or moved.
+     * Items with work running while they are placed should override this method to stop it.
+     *
+     * @author Mykola Isaiev
+     */
+    public void removedFromWorld() {
+
+    }
+
+    /**
+     * Returns the entity simulating the item in the game world.
+     *
+     * @return The entity of the item, or null if the item is not placed in the game world.
+     *
+     * @author Mykola Isaiev
+     */
+    public Entity getEntity() {
+        return entity;
+    }
+
+    /**
+     * Sets the entity simulating the item in the game world.
+     *
+     * @param entity The entity of the item.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setEntity(Entity entity) {
+        this.entity = entity;
+    }
+
     public void setRegion(TextureRegion region){
         currentTexture = region;
     }
@@ -356,25 +595,50 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
     }
 
     /**
-     * Returns the size of the item.
+     * Returns the size of the item, defined by its type.
      *
      * @return The size of the item.
      *
      * @author Mykola Isaiev
      */
+    @Override
     public ItemSize getSize() {
-        return size;
+        return type.getSize();
     }
 
     /**
-     * Returns whether the item is wrapped.
+     * Returns the name of the item, defined by its type.
      *
-     * @return True if the item is wrapped, false otherwise.
+     * @return The name of the item.
      *
      * @author Mykola Isaiev
      */
+    @Override
     public String getName() {
-        return name;
+        return type.getName();
+    }
+
+    /**
+     * Returns the type of the item.
+     *
+     * @return The type of the item.
+     *
+     * @author Mykola Isaiev
+     */
+    public ItemType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the ID of the type of the item.
+     *
+     * @return The ID of the item type.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public int getTypeId() {
+        return type.getId();
     }
 
     /**
@@ -394,7 +658,7 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
      * @author Mykola Isaiev
      */
     private void initializeDragAndDrop() {
-        dragAndDrop.addSource(new DragAndDrop.Source(this) {
+        dragSource = new DragAndDrop.Source(this) {
             @Override
             public DragAndDrop.Payload dragStart(InputEvent event, float x, float y, int pointer) {
                 if (!GameMap.getPlayer().getMap().getActionsPopUpList().isVisible() && inventorySlot != null) {
@@ -417,14 +681,15 @@ public abstract class Item extends Actor implements Movable, Placeable, Wrapable
                     Actor actor = target.getActor();
                     if (actor instanceof InventorySlot) {
                         InventorySlot slot = (InventorySlot) actor;
-                        ItemSize comparisonSize = wrapped ? size.getLowerSize() : size;
+                        ItemSize comparisonSize = wrapped ? getSize().getLowerSize() : getSize();
                         if (slot.getSize().compare(comparisonSize) < 0) {
                             inventorySlot.add(Item.this);
                         }
                     }
                 }
             }
-        });
+        };
+        dragAndDrop.addSource(dragSource);
     }
 
 
@@ -0,0 +1,171 @@
+package com.mygdx.game.item;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.item.interfaces.Refuelable;
+import com.mygdx.game.world.GameMap;
+
+/**
+ * An action offered in the pop-up list when an item is right-clicked.
+ * Actions hold no state, so one instance serves all items: every item class keeps a table of the actions it can offer,
+ * built once, and the pop-up list shows the actions of the table which are available for the clicked item.
+ *
+ * @author Mykola Isaiev
+ */
+public abstract class ItemAction {
+    /**
+     * Puts a small item lying in the world into the inventory of the player.
+     */
+    public static final ItemAction PICK_UP = new ItemAction("Pick up") {
+        @Override
+        public boolean isAvailable(Item item) {
+            return item.canPickUp();
+        }
+
+        @Override
+        public void execute(Item item) {
+            item.pickUp();
+        }
+    };
+
+    /**
+     * Lets the player move an item lying in the world to another place.
+     */
+    public static final ItemAction MOVE = new ItemAction("Move") {
+        @Override
+        public void execute(Item item) {
+            item.move();
+        }
+    };
+
+    /**
+     * Wraps an unwrapped item.
+     */
+    public static final ItemAction WRAP = new ItemAction("Wrap") {
+        @Override
+        public boolean isAvailable(Item item) {
+            return !item.isWrapped();
+        }
+
+        @Override
+        public void execute(Item item) {
+            item.wrap();
+        }
+    };
+
+    /**
+     * Unwraps a wrapped item.
+     */
+    public static final ItemAction UNWRAP = new ItemAction("Unwrap") {
+        @Override
+        public boolean isAvailable(Item item) {
+            return item.isWrapped();
+        }
+
+        @Override
+        public void execute(Item item) {
+            item.unwrap();
+        }
+    };
+
+    /**
+     * Lets the player place an item from an inventory into the world, the inventories are closed.
+     */
+    public static final ItemAction PLACE = new ItemAction("Place") {
+        @Override
+        public void execute(Item item) {
+            item.place();
+            item.getInventoryPosition().getInventory().setVisible(false);
+            GameMap.getPlayer().getInventory().setVisible(false);
+        }
+    };
+
+    /**
+     * Refuels an unwrapped item which burns fuel.
+     */
+    public static final ItemAction FUEL = new ItemAction("Fuel") {
+        @Override
+        public boolean isAvailable(Item item) {
+            return item instanceof Refuelable && !item.isWrapped();
+        }
+
+        @Override
+        public void execute(Item item) {
+            ((Refuelable) item).fuel();
+        }
+    };
+
+    /**
+     * Splits a stack of several items in two halves.
+     */
+    public static final ItemAction SPLIT = new ItemAction("Split") {
+        @Override
+        public boolean isAvailable(Item item) {
+            return item.isStackable() && item.getCount() > 1;
+        }
+
+        @Override
+        public void execute(Item item) {
+            item.getInventoryPosition().getInventory().splitStack(item);
+        }
+    };
+
+    /**
+     * The text shown in the pop-up list.
+     */
+    private final String label;
+
+    /**
+     * Constructor for creating an ItemAction instance.
+     *
+     * @param label The text shown in the pop-up list.
+     *
+     * @author Mykola Isaiev
+     */
+    protected ItemAction(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Builds the table of actions of an item class, in the order they are shown.
+     *
+     * @param actions The actions.
+     * @return The table.
+     *
+     * @author Mykola Isaiev
+     */
+    public static Array<ItemAction> table(ItemAction... actions) {
+        return new Array<>(true, actions, 0, actions.length);
+    }
+
+    /**
+     * Returns the text shown in the pop-up list.
+     *
+     * @return The label of the action.
+     *
+     * @author Mykola Isaiev
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Checks if the action can be offered for an item in its current state, e.g. only wrapped items can be unwrapped.
+     *
+     * @param item The clicked item.
+     * @return True if the action is shown, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isAvailable(Item item) {
+        return true;
+    }
+
+    /**
+     * Executes the action on an item.
+     *
+     * @param item The clicked item.
+     *
+     * @author Mykola Isaiev
+     */
+    public abstract void execute(Item item);
+}
@@ -0,0 +1,72 @@
+package com.mygdx.game.item;
+
+import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.mygdx.game.item.modules.crafting_tables.BigWorkbench;
+import com.mygdx.game.item.modules.crafting_tables.LargeWorkbench;
+import com.mygdx.game.item.modules.crafting_tables.MediumWorkbench;
+import com.mygdx.game.item.modules.oxygen.OxygenMobile;
+import com.mygdx.game.item.modules.oxygen.OxygenStation;
+import com.mygdx.game.item.modules.soil_storages.SmallSoilStorage;
+import com.mygdx.game.item.modules.storages.BigStorage;
+import com.mygdx.game.item.modules.storages.LargeStorage;
+import com.mygdx.game.item.modules.storages.MediumStorage;
+import com.mygdx.game.item.modules.utils.Jetpack;
+import com.mygdx.game.item.modules.utils.Rocket;
+import com.mygdx.game.item.resources.RawResource;
+
+/**
+ * Creates new items from their type.
+ * Data files refer to items only by their type, this class knows which class implements every type.
+ *
+ * @author Mykola Isaiev
+ */
+public final class ItemFactory {
+    private ItemFactory() {
+    }
+
+    /**
+     * Creates a new item of the specified type.
+     *
+     * @param type The type of the item.
+     * @param dragAndDrop The DragAndDrop instance associated with the item.
+     * @return The new item.
+     *
+     * @author Mykola Isaiev
+     */
+    public static Item create(ItemType type, DragAndDrop dragAndDrop) {
+        switch (type) {
+            case ALUMINIUM:
+            case COAL:
+            case COMPOUND:
+            case COPPER:
+            case IRON:
+            case RESIN:
+            case RUBY:
+                return new RawResource(type, dragAndDrop);
+            case MEDIUM_WORKBENCH:
+                return new MediumWorkbench(type, dragAndDrop);
+            case BIG_WORKBENCH:
+                return new BigWorkbench(type, dragAndDrop);
+            case LARGE_WORKBENCH:
+                return new LargeWorkbench(type, dragAndDrop);
+            case MEDIUM_STORAGE:
+                return new MediumStorage(type, dragAndDrop);
+            case BIG_STORAGE:
+                return new BigStorage(type, dragAndDrop);
+            case LARGE_STORAGE:
+                return new LargeStorage(type, dragAndDrop);
+            case SMALL_SOIL_STORAGE:
+                return new SmallSoilStorage(type, dragAndDrop, 0);
+            case OXYGEN_STATION:
+                return new OxygenStation(type, dragAndDrop);
+            case OXYGEN_MOBILE:
+                return new OxygenMobile(type, dragAndDrop);
+            case JETPACK:
+                return new Jetpack(type, dragAndDrop);
+            case ROCKET:
+                return new Rocket(type, dragAndDrop);
+            default:
+                throw new IllegalArgumentException("No item class for " + type);
+        }
+    }
+}
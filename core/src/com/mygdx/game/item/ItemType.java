@@ -0,0 +1,236 @@
+package com.mygdx.game.item;
+
+import com.badlogic.gdx.utils.ObjectMap;
+import com.mygdx.game.inventory.ItemSize;
+
+/**
+ * Represents the types of items that can exist in the game.
+ * Each item type holds the definition shared by all items of this type: an ID, a name, a texture, a size, a weight
+ * and whether the items can be stacked. An item itself keeps only its mutable state, such as its count or its slot.
+ *
+ * @author Mykola Isaiev
+ */
+public enum ItemType {
+
+    //RAW RESOURCES
+    ALUMINIUM(1, "Aluminium", "items/resources/rawResources/aluminium.png", ItemSize.SMALL, 1, true),
+    COAL(2, "Coal", "items/resources/rawResources/coal.png", ItemSize.SMALL, 1, true),
+    COMPOUND(3, "Compound", "items/resources/rawResources/compound.png", ItemSize.SMALL, 1, true),
+    COPPER(4, "Copper", "items/resources/rawResources/copper.png", ItemSize.SMALL, 1, true),
+    IRON(5, "Iron", "items/resources/rawResources/iron.png", ItemSize.SMALL, 1, true),
+    RESIN(6, "Resin", "items/resources/rawResources/resin.png", ItemSize.SMALL, 1, true),
+    RUBY(7, "Ruby", "items/resources/rawResources/ruby.png", ItemSize.SMALL, 1, true),
+
+    //CRAFTING TABLES
+    MEDIUM_WORKBENCH(8, "Medium Workbench", "items/modules/crafting_tables/medium_workbench.png", ItemSize.MEDIUM, 1),
+    BIG_WORKBENCH(9, "Big Workbench", "items/modules/crafting_tables/big_workbench.png", ItemSize.BIG, 1),
+    LARGE_WORKBENCH(10, "Large Workbench", "items/modules/crafting_tables/large_workbench.png", ItemSize.LARGE, 1),
+
+    //STORAGES
+    MEDIUM_STORAGE(11, "Medium Storage", "items/modules/storages/medium_storage.png", ItemSize.MEDIUM, 1),
+    BIG_STORAGE(12, "Big Storage", "items/modules/storages/big_storage.png", ItemSize.BIG, 1),
+    LARGE_STORAGE(13, "Large Storage", "items/modules/storages/large_storage.png", ItemSize.LARGE, 1),
+    SMALL_SOIL_STORAGE(14, "Small Soil Storage", "items/storages/SmallSoilStorage.png", ItemSize.SMALL, 1),
+
+    //OXYGEN
+    OXYGEN_STATION(15, "Oxygen Station", "items/modules/oxygen/station.png", ItemSize.MEDIUM, 1),
+    OXYGEN_MOBILE(16, "Oxygen Mobile", "items/modules/oxygen/mobile.png", ItemSize.MEDIUM, 1),
+
+    //UTILS
+    JETPACK(17, "Jetpack", "items/modules/utils/jetpack.png", ItemSize.SMALL, 1),
+    ROCKET(18, "Rocket", "items/modules/utils/rocket.png", ItemSize.LARGE, 1);
+
+    /**
+     * The ID of the item type.
+     */
+    private final int id;
+
+    /**
+     * The name of the item type, shown to the player.
+     */
+    private final String name;
+
+    /**
+     * The path to the normal texture of the items.
+     */
+    private final String texturePath;
+
+    /**
+     * The size of the items.
+     */
+    private final ItemSize size;
+
+    /**
+     * The weight of one item.
+     */
+    private final float weight;
+
+    /**
+     * Whether several items of this type can share one inventory slot.
+     */
+    private final boolean stackable;
+
+    /**
+     * Constructor for creating an ItemType instance.
+     *
+     * @param id The ID of the item type.
+     * @param name The name of the item type.
+     * @param texturePath The path to the normal texture of the items.
+     * @param size The size of the items.
+     * @param weight The weight of one item.
+     * @param stackable Whether the items can be stacked.
+     *
+     * @author Mykola Isaiev
+     */
+    ItemType(int id, String name, String texturePath, ItemSize size, float weight, boolean stackable) {
+        this.id = id;
+        this.name = name;
+        this.texturePath = texturePath;
+        this.size = size;
+        this.weight = weight;
+        this.stackable = stackable;
+    }
+
+    /**
+     * Constructor for creating an ItemType instance of items which cannot be stacked.
+     *
+     * @param id The ID of the item type.
+     * @param name The name of the item type.
+     * @param texturePath The path to the normal texture of the items.
+     * @param size The size of the items.
+     * @param weight The weight of one item.
+     *
+     * @author Mykola Isaiev
+     */
+    ItemType(int id, String name, String texturePath, ItemSize size, float weight) {
+        this(id, name, texturePath, size, weight, false);
+    }
+
+    /**
+     * Returns the ID of the item type.
+     *
+     * @return The ID of the item type.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the item type.
+     *
+     * @return The name of the item type.
+     *
+     * @author Mykola Isaiev
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the path to the normal texture of the items.
+     *
+     * @return The path to the texture.
+     *
+     * @author Mykola Isaiev
+     */
+    public String getTexturePath() {
+        return texturePath;
+    }
+
+    /**
+     * Returns the size of the items.
+     *
+     * @return The size of the items.
+     *
+     * @author Mykola Isaiev
+     */
+    public ItemSize getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the weight of one item.
+     *
+     * @return The weight of one item.
+     *
+     * @author Mykola Isaiev
+     */
+    public float getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns whether several items of this type can share one inventory slot.
+     *
+     * @return True if the items can be stacked, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isStackable() {
+        return stackable;
+    }
+
+    /**
+     * The item types, by their ID.
+     */
+    private static final ItemType[] byId;
+
+    /**
+     * The item types, by their name.
+     */
+    private static final ObjectMap<String, ItemType> byName = new ObjectMap<>();
+
+    /**
+     * Initializes the lookup tables.
+     */
+    static {
+        int maxId = 0;
+        for (ItemType itemType : values()) {
+            maxId = Math.max(maxId, itemType.id);
+        }
+        byId = new ItemType[maxId + 1];
+        for (ItemType itemType : values()) {
+            byId[itemType.id] = itemType;
+            byName.put(itemType.name, itemType);
+        }
+    }
+
+    /**
+     * Returns the number of IDs, which is one more than the highest ID.
+     * Arrays indexed by item type ID should have this length.
+     *
+     * @return The number of IDs.
+     *
+     * @author Mykola Isaiev
+     */
+    public static int getIdCount() {
+        return byId.length;
+    }
+
+    /**
+     * Returns the item type corresponding to the given ID.
+     *
+     * @param id The ID of the item type.
+     * @return The item type, or null if there is none.
+     *
+     * @author Mykola Isaiev
+     */
+    public static ItemType getById(int id) {
+        return id >= 0 && id < byId.length ? byId[id] : null;
+    }
+
+    /**
+     * Returns the item type with the given name.
+     * The name is resolved only when text is turned into item types, e.g. for mined tiles, all other lookups use the ID.
+     *
+     * @param name The name of the item type.
+     * @return The item type, or null if there is none.
+     *
+     * @author Mykola Isaiev
+     */
+    public static ItemType getByName(String name) {
+        return byName.get(name);
+    }
+}
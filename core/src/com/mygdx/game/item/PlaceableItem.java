@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.mygdx.game.pool.GamePools;
 import com.mygdx.game.world.GameMap;
 import com.mygdx.game.world.TileType;
 
@@ -85,7 +86,7 @@ public class PlaceableItem extends Actor {
      */
     @Override
     public void act(float delta) {
-        Vector3 vec = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
+        Vector3 vec = GamePools.VECTOR3.obtain().set(Gdx.input.getX(), Gdx.input.getY(), 0);
         GameMap.getStage().getViewport().unproject(vec);
         float mouseX = vec.x;
         float mouseY = vec.y;
@@ -98,19 +99,22 @@ public class PlaceableItem extends Actor {
             if (GameMap.getPlayer().getMap().getTileTypeByLocation(1, vec.x, vec.y) == TileType.SKY) {
                 GameMap.getPlayer().getMap().removeActActor(this);
                 GameMap.getPlayer().getInventory().removeItem(item);
-                GameMap.getPlayer().getMap().addActor(item);
 
-                item.setWorldMode(new Vector2(vec.x, vec.y));
+                Vector2 position = GamePools.VECTOR2.obtain().set(vec.x, vec.y);
+                item.setWorldMode(position);
+                GamePools.VECTOR2.free(position);
+                GameMap.getPlayer().getMap().addWorldItem(item);
             }
         }
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             if (lastPosition != null) {
-                GameMap.getPlayer().getMap().addActor(item);
                 item.setPosition(lastPosition.x, lastPosition.y);
+                GameMap.getPlayer().getMap().addWorldItem(item);
             }
             GameMap.getPlayer().getMap().removeActActor(this);
         }
+        GamePools.VECTOR3.free(vec);
     }
 
     /**
@@ -126,7 +130,7 @@ public class PlaceableItem extends Actor {
         if (tooFar) {
             batch.setColor(Color.RED);
             batch.draw(textureRegion, getX(), getY(), getOriginX(), getOriginY(), getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation());
-            batch.setColor(new Color(1, 1, 1, 1));
+            batch.setColor(Color.WHITE);
         } else {
             batch.draw(textureRegion, getX(), getY(), getOriginX(), getOriginY(), getWidth(), getHeight(), getScaleX(), getScaleY(), getRotation());
         }
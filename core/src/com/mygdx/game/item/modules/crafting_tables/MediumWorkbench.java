@@ -1,13 +1,10 @@
 package com.mygdx.game.item.modules.crafting_tables;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.InventorySlot;
 import com.mygdx.game.inventory.ItemSize;
-import com.mygdx.game.world.GameMap;
-
-import java.util.ArrayList;
+import com.mygdx.game.inventory.SlotLayout;
+import com.mygdx.game.item.ItemType;
 
 /**
  * Represents a medium workbench in the game.
@@ -16,47 +13,39 @@ import java.util.ArrayList;
  * @author Mykola Isaiev
  */
 public class MediumWorkbench extends Workbench {
+    /**
+     * The slots of every medium workbench.
+     */
+    private static final SlotLayout LAYOUT = new SlotLayout()
+            .slot(600, 325, ItemSize.SMALL)
+            .slot(700, 325, ItemSize.SMALL)
+            .fixedSlot(635, 525, ItemSize.MEDIUM)
+            .craftingSlot(650, 425);
+
     /**
      * Constructor for creating a MediumWorkbench instance with a DragAndDrop instance.
      * This constructor also sets up the inventory slots of the medium workbench.
      *
-     * @param name The name of the medium workbench.
-     * @param weight The weight of the medium workbench.
-     * @param normalTexturePath The path to the normal texture of the medium workbench.
-     * @param size The size of the medium workbench.
+     * @param type The type of the medium workbench.
      * @param dragAndDrop The DragAndDrop instance associated with the medium workbench.
      *
      * @author Mykola Isaiev
      */
-    public MediumWorkbench(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
-
-        ArrayList<InventorySlot> inventorySlots = new ArrayList<>();
-        inventorySlots.add(new InventorySlot(new Vector2(600, 325), ItemSize.SMALL, dragAndDrop));
-        inventorySlots.add(new InventorySlot(new Vector2(700, 325), ItemSize.SMALL, dragAndDrop));
-
-        inventorySlots.add(new InventorySlot(new Vector2(635, 525), ItemSize.MEDIUM));
-
-        InventorySlot craftingSlot = new InventorySlot(new Vector2(650, 425), ItemSize.SMALL, dragAndDrop);
-
-        craftingInventory = new Inventory(dragAndDrop, inventorySlots);
-        craftingInventory.addWorkbench(craftingSlot);
+    public MediumWorkbench(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
 
-        GameMap.getPlayer().getMap().addActor(craftingInventory);
+        setLayout(LAYOUT);
     }
 
     /**
      * Constructor for creating a MediumWorkbench instance located in an inventory.
      *
-     * @param name The name of the medium workbench.
-     * @param weight The weight of the medium workbench.
-     * @param normalTexturePath The path to the normal texture of the medium workbench.
-     * @param size The size of the medium workbench.
+     * @param type The type of the medium workbench.
      * @param inventory The inventory in which the medium workbench is located.
      *
      * @author Mykola Isaiev
      */
-    public MediumWorkbench(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexturePath, size, inventory);
+    public MediumWorkbench(ItemType type, Inventory inventory) {
+        super(type, inventory);
     }
 }
@@ -4,8 +4,11 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.inventory.SlotLayout;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.modules.Module;
+import com.mygdx.game.workbench.CraftingQueue;
 import com.mygdx.game.world.GameMap;
 
 /**
@@ -16,38 +19,93 @@ import com.mygdx.game.world.GameMap;
  */
 public abstract class Workbench extends Module {
     /**
-     * The crafting inventory of the workbench.
+     * The content of the workbench.
      */
-    Inventory craftingInventory;
+    private InventoryModel craftingModel;
+
+    /**
+     * The slots of the workbench, shared by all workbenches of the same kind.
+     */
+    private SlotLayout layout;
+
+    /**
+     * The view of the crafting inventory, created when the workbench is opened for the first time.
+     */
+    private Inventory craftingInventory;
+
+    /**
+     * The crafts queued at the workbench, created when the first craft is queued.
+     */
+    private CraftingQueue craftingQueue;
 
     /**
      * Constructor for creating a Workbench instance with a DragAndDrop instance.
      *
-     * @param name The name of the workbench.
-     * @param weight The weight of the workbench.
-     * @param normalTexturePath The path to the normal texture of the workbench.
-     * @param size The size of the workbench.
+     * @param type The type of the workbench.
      * @param dragAndDrop The DragAndDrop instance associated with the workbench.
      *
      * @author Mykola Isaiev
      */
-    public Workbench(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public Workbench(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
     }
 
     /**
      * Constructor for creating a Workbench instance located in an inventory.
      *
-     * @param name The name of the workbench.
-     * @param weight The weight of the workbench.
-     * @param normalTexturePath The path to the normal texture of the workbench.
-     * @param size The size of the workbench.
+     * @param type The type of the workbench.
      * @param inventory The inventory in which the workbench is located.
      *
      * @author Mykola Isaiev
      */
-    public Workbench(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexturePath, size, inventory);
+    public Workbench(ItemType type, Inventory inventory) {
+        super(type, inventory);
+    }
+
+    /**
+     * Sets the slots of the workbench and creates its empty content.
+     *
+     * @param layout The slots of the workbench.
+     *
+     * @author Mykola Isaiev
+     */
+    void setLayout(SlotLayout layout) {
+        this.layout = layout;
+        this.craftingModel = layout.createModel();
+    }
+
+    /**
+     * Returns the view of the crafting inventory, creating it on the first call.
+     * Workbenches which are never opened keep only their model and create no actors.
+     *
+     * @return The view of the crafting inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    private Inventory getCraftingInventory() {
+        if (craftingInventory == null) {
+            craftingInventory = new Inventory(dragAndDrop, craftingModel, layout);
+            craftingInventory.setCraftingQueue(getCraftingQueue());
+            GameMap.getPlayer().getMap().addActor(craftingInventory);
+        }
+        return craftingInventory;
+    }
+
+    /**
+     * Returns the crafting queue of the workbench, creating it on the first call.
+     * The queue is advanced by the scheduler of the map, whether the workbench is open or not,
+     * and takes missing ingredients from the storages near the workbench.
+     *
+     * @return The crafting queue.
+     *
+     * @author Mykola Isaiev
+     */
+    public CraftingQueue getCraftingQueue() {
+        if (craftingQueue == null) {
+            GameMap map = GameMap.getPlayer().getMap();
+            craftingQueue = new CraftingQueue(craftingModel, map.getScheduler(), map.getResourceLedger(), this);
+        }
+        return craftingQueue;
     }
 
     /**
@@ -58,11 +116,25 @@ public abstract class Workbench extends Module {
      */
     @Override
     public void interact() {
+        Inventory craftingInventory = getCraftingInventory();
         craftingInventory.changePositionByCoordinates(GameMap.getPlayer().getX() + 200, GameMap.getPlayer().getY() - 200);
         craftingInventory.setVisible(true);
         GameMap.getPlayer().getMap().addActActor(this);
     }
 
+    /**
+     * Cancels the crafts queued at the workbench when it is picked up or moved.
+     * The ingredients of the unfinished crafts are added back to the workbench.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void removedFromWorld() {
+        if (craftingQueue != null) {
+            craftingQueue.cancel();
+        }
+    }
+
     /**
      * Performs the actions of the workbench in each game tick.
      * If the ESCAPE key is pressed, the crafting inventory is hidden and the workbench is removed from the active actors.
@@ -2,7 +2,7 @@ package com.mygdx.game.item.modules.oxygen;
 
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.item.ItemType;
 
 /**
  * Represents a mobile oxygen module in the game.
@@ -15,16 +15,13 @@ public class OxygenMobile extends OxygenModule {
      * Constructor for creating an OxygenMobile instance with a DragAndDrop instance.
      * This constructor also sets the fuel capacity and current fuel of the mobile oxygen module.
      *
-     * @param name The name of the mobile oxygen module.
-     * @param weight The weight of the mobile oxygen module.
-     * @param normalTexturePath The path to the normal texture of the mobile oxygen module.
-     * @param size The size of the mobile oxygen module.
+     * @param type The type of the mobile oxygen module.
      * @param dragAndDrop The DragAndDrop instance associated with the mobile oxygen module.
      *
      * @author Mykola Isaiev
      */
-    public OxygenMobile(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public OxygenMobile(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
         super.setFuelCapacity(2000);
         super.setCurrentFuel(0);
     }
@@ -32,16 +29,13 @@ public class OxygenMobile extends OxygenModule {
     /**
      * Constructor for creating an OxygenMobile instance located in an inventory.
      *
-     * @param name The name of the mobile oxygen module.
-     * @param weight The weight of the mobile oxygen module.
-     * @param normalTexturePath The path to the normal texture of the mobile oxygen module.
-     * @param size The size of the mobile oxygen module.
+     * @param type The type of the mobile oxygen module.
      * @param inventory The inventory in which the mobile oxygen module is located.
      *
      * @author Mykola Isaiev
      */
-    public OxygenMobile(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexturePath, size, inventory);
+    public OxygenMobile(ItemType type, Inventory inventory) {
+        super(type, inventory);
     }
 
     /**
@@ -1,11 +1,11 @@
 package com.mygdx.game.item.modules.oxygen;
 
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.mygdx.game.ecs.components.FuelComponent;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.interfaces.Refuelable;
 import com.mygdx.game.item.modules.Module;
-import com.mygdx.game.item.resources.RawResource;
 import com.mygdx.game.world.GameMap;
 
 /**
@@ -17,43 +17,34 @@ import com.mygdx.game.world.GameMap;
  */
 public abstract class OxygenModule extends Module implements Refuelable {
     /**
-     * The maximum amount of fuel the oxygen module can hold.
+     * The fuel tank of the oxygen module.
+     * The same component is attached to the module's entity while the module is working in the game world,
+     * where it burns fuel without being updated every tick.
      */
-    protected float fuelCapacity;
-
-    /**
-     * The current amount of fuel in the oxygen module.
-     */
-    protected float currentFuel;
+    protected final FuelComponent fuel = new FuelComponent();
 
     /**
      * Constructor for creating an OxygenModule instance with a DragAndDrop instance.
      *
-     * @param name The name of the oxygen module.
-     * @param weight The weight of the oxygen module.
-     * @param normalTexturePath The path to the normal texture of the oxygen module.
-     * @param size The size of the oxygen module.
+     * @param type The type of the oxygen module.
      * @param dragAndDrop The DragAndDrop instance associated with the oxygen module.
      *
      * @author Mykola Isaiev
      */
-    public OxygenModule(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public OxygenModule(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
     }
 
     /**
      * Constructor for creating an OxygenModule instance located in an inventory.
      *
-     * @param name The name of the oxygen module.
-     * @param weight The weight of the oxygen module.
-     * @param normalTexturePath The path to the normal texture of the oxygen module.
-     * @param size The size of the oxygen module.
+     * @param type The type of the oxygen module.
      * @param inventory The inventory in which the oxygen module is located.
      *
      * @author Mykola Isaiev
      */
-    public OxygenModule(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexturePath, size, inventory);
+    public OxygenModule(ItemType type, Inventory inventory) {
+        super(type, inventory);
     }
 
     /**
@@ -64,7 +55,7 @@ public abstract class OxygenModule extends Module implements Refuelable {
      * @author Mykola Isaiev
      */
     protected void setFuelCapacity(float fuelCapacity) {
-        this.fuelCapacity = fuelCapacity;
+        fuel.capacity = fuelCapacity;
     }
 
     /**
@@ -75,7 +66,7 @@ public abstract class OxygenModule extends Module implements Refuelable {
      * @author Mykola Isaiev
      */
     protected void setCurrentFuel(float currentFuel) {
-        this.currentFuel = currentFuel;
+        fuel.setLevel(currentFuel, now());
     }
 
     /**
@@ -86,11 +77,8 @@ public abstract class OxygenModule extends Module implements Refuelable {
      * @author Mykola Isaiev
      */
     public void refuel(float fuelAmount) {
-        if(currentFuel + fuelAmount > fuelCapacity){
-            currentFuel = fuelCapacity;
-            return;
-        }
-        currentFuel += fuelAmount;
+        double now = now();
+        fuel.setLevel(Math.min(fuel.getLevel(now) + fuelAmount, fuel.capacity), now);
     }
 
     /**
@@ -101,7 +89,8 @@ public abstract class OxygenModule extends Module implements Refuelable {
      * @author Mykola Isaiev
      */
     public void useFuel(float fuelAmount) {
-        currentFuel -= fuelAmount;
+        double now = now();
+        fuel.setLevel(fuel.getLevel(now) - fuelAmount, now);
     }
 
     /**
@@ -112,7 +101,18 @@ public abstract class OxygenModule extends Module implements Refuelable {
      * @author Mykola Isaiev
      */
     public boolean hasFuel() {
-        return currentFuel > 0;
+        return fuel.getLevel(now()) > 0;
+    }
+
+    /**
+     * Returns the amount of fuel in the oxygen module, computed from the fuel at the last change and the elapsed time.
+     *
+     * @return The amount of fuel.
+     *
+     * @author Mykola Isaiev
+     */
+    public float getFuel() {
+        return fuel.getLevel(now());
     }
 
     /**
@@ -122,10 +122,17 @@ public abstract class OxygenModule extends Module implements Refuelable {
      */
     @Override
     public void fuel(){
-        RawResource coal;
-        if ((coal = GameMap.getPlayer().getInventory().getItem(RawResource.class, "Coal")) != null) {
+        if (GameMap.getPlayer().getInventory().removeItems(ItemType.COAL, 1) == 1) {
             this.refuel(1000);
-            GameMap.getPlayer().getInventory().removeItem(coal);
         }
     }
+
+    /**
+     * Returns the current simulation time the fuel tank is read and changed at.
+     *
+     * @return The simulation time in seconds.
+     */
+    private static double now() {
+        return GameMap.getPlayer().getMap().getScheduler().getTime();
+    }
 }
@@ -1,9 +1,16 @@
 package com.mygdx.game.item.modules.oxygen;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.ecs.components.OxygenEmitterComponent;
+import com.mygdx.game.ecs.systems.FuelSystem;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemAction;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.world.GameMap;
+import com.mygdx.game.world.OxygenField;
 
 /**
  * Represents an oxygen station in the game.
@@ -18,66 +25,110 @@ public class OxygenStation extends OxygenModule {
      */
     boolean installed = false;
 
+    /**
+     * The amount of fuel the oxygen station burns per second while it is installed.
+     */
+    private static final float BURN_RATE = 0.6f;
+
+    /**
+     * Installs an unwrapped oxygen station.
+     */
+    private static final ItemAction INSTALL = new ItemAction("Install") {
+        @Override
+        public boolean isAvailable(Item item) {
+            return !item.isWrapped();
+        }
+
+        @Override
+        public void execute(Item item) {
+            ((OxygenStation) item).interact();
+        }
+    };
+
+    /**
+     * The actions offered for an oxygen station in the world before it is installed.
+     */
+    private static final Array<ItemAction> WORLD_ACTIONS = ItemAction.table(ItemAction.PICK_UP, ItemAction.MOVE,
+            ItemAction.WRAP, INSTALL, ItemAction.UNWRAP);
+
+    /**
+     * The actions offered for an installed oxygen station, it can only be refueled.
+     */
+    private static final Array<ItemAction> INSTALLED_ACTIONS = ItemAction.table(ItemAction.FUEL);
+
     /**
      * Constructor for creating an OxygenStation instance with a DragAndDrop instance.
      * This constructor also sets the fuel capacity and current fuel of the oxygen station.
      *
-     * @param name The name of the oxygen station.
-     * @param weight The weight of the oxygen station.
-     * @param normalTexturePath The path to the normal texture of the oxygen station.
-     * @param size The size of the oxygen station.
+     * @param type The type of the oxygen station.
      * @param dragAndDrop The DragAndDrop instance associated with the oxygen station.
      *
      * @author Mykola Isaiev
      */
-    public OxygenStation(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public OxygenStation(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
         super.setFuelCapacity(10000);
         super.setCurrentFuel(1000);
+        fuel.burnRate = BURN_RATE;
     }
 
     /**
      * Constructor for creating an OxygenStation instance located in an inventory.
      *
-     * @param name The name of the oxygen station.
-     * @param weight The weight of the oxygen station.
-     * @param normalTexturePath The path to the normal texture of the oxygen station.
-     * @param size The size of the oxygen station.
+     * @param type The type of the oxygen station.
      * @param inventory The inventory in which the oxygen station is located.
      *
      * @author Mykola Isaiev
      */
-    public OxygenStation(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexturePath, size, inventory);
+    public OxygenStation(ItemType type, Inventory inventory) {
+        super(type, inventory);
     }
 
     /**
-     * Performs the actions of the oxygen station in each game tick.
-     * If the station is installed and has fuel, it uses a small amount of fuel.
+     * Adds fuel to the oxygen station.
+     * If the station is working in the world, the time it runs out is moved and the oxygen coverage of the map is updated.
      *
-     * @param delta The time in seconds since the last game tick.
+     * @param fuelAmount The amount of fuel to add.
      *
      * @author Mykola Isaiev
      */
     @Override
-    public void act(float delta) {
-        if (installed) {
-            if (this.hasFuel()) {
-                this.useFuel(0.01f);
-            }
+    public void refuel(float fuelAmount) {
+        super.refuel(fuelAmount);
+
+        if (installed && entity != null) {
+            GameMap.getPlayer().getMap().getEngine().getSystem(FuelSystem.class).fuelChanged(entity);
         }
     }
 
     /**
      * Interacts with the oxygen station.
-     * The station is installed and added to the active actors.
+     * The station is installed and starts burning fuel and providing oxygen.
      *
      * @author Mykola Isaiev
      */
     @Override
     public void interact() {
         installed = true;
-        GameMap.getPlayer().getMap().addActActor(this);
+
+        if (entity != null) {
+            addComponents(entity);
+        }
+    }
+
+    /**
+     * Adds the fuel tank and the oxygen emitter to the station's entity if the station is installed.
+     *
+     * @param entity The entity of the oxygen station.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void addComponents(Entity entity) {
+        if (installed) {
+            entity.add(fuel);
+            entity.add(new OxygenEmitterComponent(OxygenField.STATION_RADIUS));
+        }
     }
 
     /**
@@ -90,4 +141,17 @@ public class OxygenStation extends OxygenModule {
     public boolean isInstalled() {
         return installed;
     }
+
+    /**
+     * Returns the actions offered when the oxygen station is right-clicked in the world.
+     * An installed station can only be refueled, otherwise it can be installed instead of opened.
+     *
+     * @return The table of actions.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public Array<ItemAction> getWorldActions() {
+        return installed ? INSTALLED_ACTIONS : WORLD_ACTIONS;
+    }
 }
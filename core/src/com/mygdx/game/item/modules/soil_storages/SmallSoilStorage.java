@@ -1,8 +1,10 @@
 package com.mygdx.game.item.modules.soil_storages;
 
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.item.ItemAction;
+import com.mygdx.game.item.ItemType;
 
 /**
  * Represents a small soil storage module in the game.
@@ -12,6 +14,11 @@ import com.mygdx.game.inventory.ItemSize;
  * @author Yehor Nesterenko
  */
 public class SmallSoilStorage extends SoilStorage{
+    /**
+     * The actions offered for a small soil storage in the world, it cannot be wrapped.
+     */
+    private static final Array<ItemAction> WORLD_ACTIONS = ItemAction.table(ItemAction.PICK_UP, ItemAction.MOVE);
+
     /**
      * The current amount of soil in the storage.
      */
@@ -25,34 +32,28 @@ public class SmallSoilStorage extends SoilStorage{
     /**
      * Constructor for creating a SmallSoilStorage instance with a DragAndDrop instance.
      *
-     * @param name The name of the small soil storage.
-     * @param weight The weight of the small soil storage.
-     * @param normalTexturePath The path to the normal texture of the small soil storage.
-     * @param size The size of the small soil storage.
+     * @param type The type of the small soil storage.
      * @param dragAndDrop The DragAndDrop instance associated with the small soil storage.
      * @param currentAmount The current amount of soil in the storage.
      *
      * @author Yehor Nesterenko
      */
-    public SmallSoilStorage(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop, int currentAmount) {
-        super(name, weight, normalTexturePath, size, dragAndDrop, currentAmount);
+    public SmallSoilStorage(ItemType type, DragAndDrop dragAndDrop, int currentAmount) {
+        super(type, dragAndDrop, currentAmount);
         capacity = setCapacity();
     }
 
     /**
      * Constructor for creating a SmallSoilStorage instance located in an inventory.
      *
-     * @param name The name of the small soil storage.
-     * @param weight The weight of the small soil storage.
-     * @param normalTexture The normal texture of the small soil storage.
-     * @param size The size of the small soil storage.
+     * @param type The type of the small soil storage.
      * @param inventory The inventory in which the small soil storage is located.
      * @param currentAmount The current amount of soil in the storage.
      *
      * @author Yehor Nesterenko
      */
-    public SmallSoilStorage(String name, float weight, String normalTexture, ItemSize size, Inventory inventory, int currentAmount) {
-        super(name, weight, normalTexture, size, inventory, currentAmount);
+    public SmallSoilStorage(ItemType type, Inventory inventory, int currentAmount) {
+        super(type, inventory, currentAmount);
         capacity = setCapacity();
     }
 
@@ -109,4 +110,15 @@ public class SmallSoilStorage extends SoilStorage{
         return capacity;
     }
 
+    /**
+     * Returns the actions offered when the small soil storage is right-clicked in the world.
+     *
+     * @return The table of actions.
+     *
+     * @author Yehor Nesterenko
+     */
+    @Override
+    public Array<ItemAction> getWorldActions() {
+        return WORLD_ACTIONS;
+    }
 }
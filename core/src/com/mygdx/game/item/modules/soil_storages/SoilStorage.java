@@ -2,7 +2,7 @@ package com.mygdx.game.item.modules.soil_storages;
 
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.Item;
 
 /**
@@ -26,17 +26,14 @@ public abstract class SoilStorage extends Item {
     /**
      * Constructor for creating a SoilStorage instance with a DragAndDrop instance.
      *
-     * @param name The name of the soil storage.
-     * @param weight The weight of the soil storage.
-     * @param normalTexturePath The path to the normal texture of the soil storage.
-     * @param size The size of the soil storage.
+     * @param type The type of the soil storage.
      * @param dragAndDrop The DragAndDrop instance associated with the soil storage.
      * @param currentAmount The current amount of soil in the storage.
      *
      * @author Yehor Nesterenko
      */
-    public SoilStorage(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop, int currentAmount) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public SoilStorage(ItemType type, DragAndDrop dragAndDrop, int currentAmount) {
+        super(type, dragAndDrop);
         this.currentAmount = currentAmount;
         this.capacity = setCapacity();
     }
@@ -44,17 +41,14 @@ public abstract class SoilStorage extends Item {
     /**
      * Constructor for creating a SoilStorage instance located in an inventory.
      *
-     * @param name The name of the soil storage.
-     * @param weight The weight of the soil storage.
-     * @param normalTexture The normal texture of the soil storage.
-     * @param size The size of the soil storage.
+     * @param type The type of the soil storage.
      * @param inventory The inventory in which the soil storage is located.
      * @param currentAmount The current amount of soil in the storage.
      *
      * @author Yehor Nesterenko
      */
-    public SoilStorage(String name, float weight, String normalTexture, ItemSize size, Inventory inventory, int currentAmount) {
-        super(name, weight, normalTexture, size, inventory);
+    public SoilStorage(ItemType type, Inventory inventory, int currentAmount) {
+        super(type, inventory);
         this.currentAmount = currentAmount;
         this.capacity = setCapacity();
     }
@@ -1,12 +1,10 @@
 package com.mygdx.game.item.modules.storages;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.InventorySlot;
 import com.mygdx.game.inventory.ItemSize;
-import com.mygdx.game.world.GameMap;
-import java.util.ArrayList;
+import com.mygdx.game.inventory.SlotLayout;
+import com.mygdx.game.item.ItemType;
 
 /**
  * Represents a big storage module in the game.
@@ -15,52 +13,43 @@ import java.util.ArrayList;
  * @author Mykola Isaiev
  */
 public class BigStorage extends Storage {
+    /**
+     * The slots of every big storage.
+     */
+    private static final SlotLayout LAYOUT = new SlotLayout()
+            .slot(600, 325, ItemSize.SMALL)
+            .slot(720, 325, ItemSize.SMALL)
+            .slot(600, 425, ItemSize.SMALL)
+            .slot(720, 425, ItemSize.SMALL)
+            .slot(600, 525, ItemSize.SMALL)
+            .slot(720, 525, ItemSize.SMALL)
+            .slot(600, 625, ItemSize.SMALL)
+            .slot(720, 625, ItemSize.SMALL);
+
     /**
      * Constructor for creating a BigStorage instance with a DragAndDrop instance.
      * This constructor also sets up the inventory slots of the big storage.
      *
-     * @param name The name of the big storage.
-     * @param weight The weight of the big storage.
-     * @param normalTexturePath The path to the normal texture of the big storage.
-     * @param size The size of the big storage.
+     * @param type The type of the big storage.
      * @param dragAndDrop The DragAndDrop instance associated with the big storage.
      *
      * @author Mykola Isaiev
      */
-    public BigStorage(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
-
-        ArrayList<InventorySlot> inventorySlots = new ArrayList<>();
-
-        inventorySlots.add(new InventorySlot(new Vector2(600, 325), ItemSize.SMALL, dragAndDrop));
-        inventorySlots.add(new InventorySlot(new Vector2(720, 325), ItemSize.SMALL, dragAndDrop));
-
-        inventorySlots.add(new InventorySlot(new Vector2(600, 425), ItemSize.SMALL, dragAndDrop));
-        inventorySlots.add(new InventorySlot(new Vector2(720, 425), ItemSize.SMALL, dragAndDrop));
-
-        inventorySlots.add(new InventorySlot(new Vector2(600, 525), ItemSize.SMALL, dragAndDrop));
-        inventorySlots.add(new InventorySlot(new Vector2(720, 525), ItemSize.SMALL, dragAndDrop));
-
-        inventorySlots.add(new InventorySlot(new Vector2(600, 625), ItemSize.SMALL, dragAndDrop));
-        inventorySlots.add(new InventorySlot(new Vector2(720, 625), ItemSize.SMALL, dragAndDrop));
+    public BigStorage(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
 
-        storageInventory = new Inventory(dragAndDrop, inventorySlots);
-        this.storageInventory.changePosition(50, 10);
-        GameMap.getPlayer().getMap().addActor(storageInventory);
+        setLayout(LAYOUT);
     }
 
     /**
      * Constructor for creating a BigStorage instance located in an inventory.
      *
-     * @param name The name of the big storage.
-     * @param weight The weight of the big storage.
-     * @param normalTexturePath The path to the normal texture of the big storage.
-     * @param size The size of the big storage.
+     * @param type The type of the big storage.
      * @param inventory The inventory in which the big storage is located.
      *
      * @author Mykola Isaiev
      */
-    public BigStorage(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexturePath, size, inventory);
+    public BigStorage(ItemType type, Inventory inventory) {
+        super(type, inventory);
     }
 }
@@ -1,9 +1,15 @@
 package com.mygdx.game.item.modules.storages;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.mygdx.game.ecs.components.StorageComponent;
 import com.mygdx.game.inventory.Inventory;
 import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.inventory.ScrollingInventory;
+import com.mygdx.game.inventory.SlotLayout;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.interfaces.Interactable;
 import com.mygdx.game.item.modules.Module;
 import com.mygdx.game.world.GameMap;
@@ -17,38 +23,108 @@ import com.mygdx.game.world.GameMap;
  */
 public abstract class Storage extends Module implements Interactable {
     /**
-     * The inventory of the storage.
+     * The content of the storage.
      */
-    Inventory storageInventory;
+    private InventoryModel storageModel;
+
+    /**
+     * The number of slots in a row of a storage with a scrolling grid.
+     */
+    private static final int GRID_COLUMNS = 2;
+
+    /**
+     * The number of rows in view of a storage with a scrolling grid.
+     */
+    private static final int GRID_ROWS = 4;
+
+    /**
+     * The slots of the storage, shared by all storages of the same kind, or null if the storage has a scrolling grid.
+     */
+    private SlotLayout layout;
+
+    /**
+     * The view of the storage inventory, created when the storage is opened for the first time.
+     */
+    private Inventory storageInventory;
 
     /**
      * Constructor for creating a Storage instance with a DragAndDrop instance.
      *
-     * @param name The name of the storage.
-     * @param weight The weight of the storage.
-     * @param normalTexturePath The path to the normal texture of the storage.
-     * @param size The size of the storage.
+     * @param type The type of the storage.
      * @param dragAndDrop The DragAndDrop instance associated with the storage.
      *
      * @author Mykola Isaiev
      */
-    public Storage(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public Storage(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
     }
 
     /**
      * Constructor for creating a Storage instance located in an inventory.
      *
-     * @param name The name of the storage.
-     * @param weight The weight of the storage.
-     * @param normalTexturePath The path to the normal texture of the storage.
-     * @param size The size of the storage.
+     * @param type The type of the storage.
      * @param inventory The inventory in which the storage is located.
      *
      * @author Mykola Isaiev
      */
-    public Storage(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexturePath, size, inventory);
+    public Storage(ItemType type, Inventory inventory) {
+        super(type, inventory);
+    }
+
+    /**
+     * Sets the slots of the storage and creates its empty content.
+     *
+     * @param layout The slots of the storage.
+     *
+     * @author Mykola Isaiev
+     */
+    void setLayout(SlotLayout layout) {
+        this.layout = layout;
+        this.storageModel = layout.createModel();
+    }
+
+    /**
+     * Creates empty content of many small slots, shown as a scrolling grid.
+     * Only the slots in view of the grid get actors, so the capacity can be thousands of slots.
+     *
+     * @param capacity The number of slots of the storage.
+     *
+     * @author Mykola Isaiev
+     */
+    void setCapacity(int capacity) {
+        this.layout = null;
+        this.storageModel = new InventoryModel(capacity, ItemSize.SMALL);
+    }
+
+    /**
+     * Returns the view of the storage inventory, creating it on the first call.
+     * Storages which are never opened keep only their model and create no actors.
+     *
+     * @return The view of the storage inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    private Inventory getStorageInventory() {
+        if (storageInventory == null) {
+            storageInventory = layout != null
+                    ? new Inventory(dragAndDrop, storageModel, layout)
+                    : new ScrollingInventory(dragAndDrop, storageModel, 600, 625, GRID_COLUMNS, GRID_ROWS);
+            storageInventory.changePosition(50, 10);
+            GameMap.getPlayer().getMap().addActor(storageInventory);
+        }
+        return storageInventory;
+    }
+
+    /**
+     * Adds the content of the storage to its entity, so the storage counts towards the resources of the player.
+     *
+     * @param entity The entity of the storage.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void addComponents(Entity entity) {
+        entity.add(new StorageComponent(storageModel));
     }
 
     /**
@@ -75,7 +151,7 @@ public abstract class Storage extends Module implements Interactable {
      */
     @Override
     public void interact() {
-        storageInventory.setVisible(true);
+        getStorageInventory().setVisible(true);
         GameMap.getPlayer().getMap().addActActor(this);
     }
 }
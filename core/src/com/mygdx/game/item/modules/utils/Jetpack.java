@@ -2,10 +2,9 @@ package com.mygdx.game.item.modules.utils;
 
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
 import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.interfaces.Refuelable;
-import com.mygdx.game.item.resources.RawResource;
 import com.mygdx.game.world.GameMap;
 
 /**
@@ -28,48 +27,39 @@ public class Jetpack extends Item implements Refuelable {
     /**
      * Constructor for creating a Jetpack instance with a DragAndDrop instance and a current fuel level.
      *
-     * @param name The name of the jetpack.
-     * @param weight The weight of the jetpack.
-     * @param normalTexturePath The path to the normal texture of the jetpack.
-     * @param size The size of the jetpack.
+     * @param type The type of the jetpack.
      * @param dragAndDrop The DragAndDrop instance associated with the jetpack.
      * @param currentFuel The current fuel level of the jetpack.
      *
      * @author Yehor Nesterenko
      */
-    public Jetpack(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop, int currentFuel) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public Jetpack(ItemType type, DragAndDrop dragAndDrop, int currentFuel) {
+        super(type, dragAndDrop);
         this.currentFuel = currentFuel;
     }
 
     /**
      * Constructor for creating a Jetpack instance with a DragAndDrop instance.
      *
-     * @param name The name of the jetpack.
-     * @param weight The weight of the jetpack.
-     * @param normalTexturePath The path to the normal texture of the jetpack.
-     * @param size The size of the jetpack.
+     * @param type The type of the jetpack.
      * @param dragAndDrop The DragAndDrop instance associated with the jetpack.
      *
      * @author Yehor Nesterenko
      */
-    public Jetpack(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop){
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public Jetpack(ItemType type, DragAndDrop dragAndDrop){
+        super(type, dragAndDrop);
     }
 
     /**
      * Constructor for creating a Jetpack instance located in an inventory.
      *
-     * @param name The name of the jetpack.
-     * @param weight The weight of the jetpack.
-     * @param normalTexturePath The path to the normal texture of the jetpack.
-     * @param size The size of the jetpack.
+     * @param type The type of the jetpack.
      * @param inventory The inventory in which the jetpack is located.
      *
      * @author Yehor Nesterenko
      */
-    public Jetpack(String name, float weight, String normalTexturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexturePath, size, inventory);
+    public Jetpack(ItemType type, Inventory inventory) {
+        super(type, inventory);
     }
 
     /**
@@ -110,6 +100,28 @@ public class Jetpack extends Item implements Refuelable {
         return currentFuel > 0;
     }
 
+    /**
+     * Returns the current fuel level of the jetpack.
+     *
+     * @return The current fuel level.
+     *
+     * @author Yehor Nesterenko
+     */
+    public float getFuel() {
+        return currentFuel;
+    }
+
+    /**
+     * Returns the maximum fuel capacity of the jetpack.
+     *
+     * @return The fuel capacity.
+     *
+     * @author Yehor Nesterenko
+     */
+    public float getFuelCapacity() {
+        return fuelCapacity;
+    }
+
     /**
      * Fuels the jetpack using coal from the player's inventory.
      * If the player has coal in their inventory, the jetpack is refueled by 1000 and the coal is removed from the inventory.
@@ -118,10 +130,8 @@ public class Jetpack extends Item implements Refuelable {
      */
     @Override
     public void fuel(){
-        RawResource coal;
-        if ((coal = GameMap.getPlayer().getInventory().getItem(RawResource.class, "Coal")) != null) {
+        if (GameMap.getPlayer().getInventory().removeItems(ItemType.COAL, 1) == 1) {
             this.refuel(1000);
-            GameMap.getPlayer().getInventory().removeItem(coal);
         }
     }
 
@@ -1,29 +1,47 @@
 package com.mygdx.game.item.modules.utils;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
-import com.badlogic.gdx.utils.Timer;
-import com.badlogic.gdx.utils.Timer.Task;
-import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.assets.Assets;
 import com.mygdx.game.MyGdxGame;
 import com.mygdx.game.entities.Player;
 import com.mygdx.game.inventory.Inventory;
 import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.world.GameMap;
 import com.mygdx.game.item.Item;
-import com.mygdx.game.gui.FunctionInterface;
+import com.mygdx.game.item.ItemAction;
+import com.mygdx.game.scheduler.TickSequence;
 import com.mygdx.game.world.TileType;
 
-import java.util.HashMap;
-
 public class Rocket extends Item {
+    /**
+     * Launches an unwrapped rocket with the player.
+     */
+    private static final ItemAction LAUNCH = new ItemAction("Launch") {
+        @Override
+        public boolean isAvailable(Item item) {
+            return !item.isWrapped();
+        }
+
+        @Override
+        public void execute(Item item) {
+            ((Rocket) item).launch(GameMap.getPlayer());
+        }
+    };
+
+    /**
+     * The actions offered for a rocket in the world.
+     */
+    private static final Array<ItemAction> WORLD_ACTIONS = ItemAction.table(ItemAction.PICK_UP, ItemAction.MOVE,
+            ItemAction.WRAP, ItemAction.UNWRAP, LAUNCH);
 
     private static final int ITERATIONS = 600;
     private static final float INTERVALSPEED = 0.02f;
@@ -33,13 +51,13 @@ public class Rocket extends Item {
     private int currentStateIndex = 0;
 
 
-    public Rocket(String name, float weight, String texturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, texturePath, size, dragAndDrop);
+    public Rocket(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
         loadRocketStates();
     }
 
-    public Rocket(String name, float weight, String texturePath, ItemSize size, Inventory inventory) {
-        super(name, weight, texturePath, size, inventory);
+    public Rocket(ItemType type, Inventory inventory) {
+        super(type, inventory);
         loadRocketStates();
     }
 
@@ -47,7 +65,7 @@ public class Rocket extends Item {
     public void setWorldMode(Vector2 position) {
         inventorySlot = null;
         if (wrapped) {
-            setSize(size.getLowerSize().getId() * TileType.TILE_SIZE, size.getLowerSize().getId() * TileType.TILE_SIZE);
+            setSize(getSize().getLowerSize().getId() * TileType.TILE_SIZE, getSize().getLowerSize().getId() * TileType.TILE_SIZE);
         } else {
             setSize( ItemSize.BIG.getWidth() , ItemSize.BIG.getWidth() );
         }
@@ -59,22 +77,22 @@ public class Rocket extends Item {
     private void loadRocketStates() {
         rocketStates = new TextureRegion[8];
         for (int i = 0; i < 8; i++) {
-            rocketStates[i] = new TextureRegion(new Texture(Gdx.files.internal("animations/player/rocket/rocket" + i + ".png")));
+            rocketStates[i] = Assets.getRegion("animations/player/rocket/rocket" + i + ".png");
         }
     }
 
 
+    /**
+     * Returns the actions offered when the rocket is right-clicked in the world.
+     * An unwrapped rocket can be launched.
+     *
+     * @return The table of actions.
+     *
+     * @author Yehor Nesterenko
+     */
     @Override
-    public void handleWorldClick() {
-        super.handleWorldClick();
-        if (!isWrapped()) {
-            HashMap<String, FunctionInterface> labels = new HashMap<>();
-            labels.put("Launch", () -> launch(GameMap.getPlayer()));
-
-            Vector3 vec = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            GameMap.getStage().getViewport().unproject(vec);
-            GameMap.getPlayer().getMap().getActionsPopUpList().addAction(labels, new Vector2(vec.x, vec.y));
-        }
+    public Array<ItemAction> getWorldActions() {
+        return WORLD_ACTIONS;
     }
 
     public boolean isLaunched(){
@@ -87,26 +105,29 @@ public class Rocket extends Item {
         player.setPosition(getX(), getY()); // Set player's position to rocket's position
         player.setInputRestricted(true);
 
-        Timer.schedule(new Task() {
-            private int iterations = 0;
-
-
-            @Override
-            public void run() {
-                if (iterations < ITERATIONS) {
-                    setY(getY() + 3);
+        player.getMap().getScheduler().run(this::launchStep, 0);
+    }
 
-                    player.setVelocityY(100);
-                    iterations++;
-                    currentStateIndex = (currentStateIndex + 1) % rocketStates.length;
-                    setRegion(rocketStates[currentStateIndex]);
-                } else {
-                    isLaunched = false;
-                    cancel();
+    /**
+     * Executes a single step of the launch animation.
+     * The rocket flies up with the player for a fixed number of steps, after which the game ends.
+     *
+     * @param step the index of the step
+     * @return the delay until the next step, or {@link TickSequence#DONE} when the launch is over
+     */
+    private float launchStep(int step) {
+        Player player = GameMap.getPlayer();
+        if (step < ITERATIONS) {
+            setY(getY() + 3);
+
+            player.setVelocityY(100);
+            currentStateIndex = (currentStateIndex + 1) % rocketStates.length;
+            setRegion(rocketStates[currentStateIndex]);
+            return INTERVALSPEED;
+        }
 
-                    player.getMap().clearStage();
-                }
-            }
-        }, 0, INTERVALSPEED);
+        isLaunched = false;
+        player.getMap().clearStage();
+        return TickSequence.DONE;
     }
 }
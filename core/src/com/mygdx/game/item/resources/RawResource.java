@@ -1,10 +1,11 @@
 package com.mygdx.game.item.resources;
 
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Pool;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.item.ItemType;
+import com.mygdx.game.item.Item;
 import com.mygdx.game.item.interfaces.Placeable;
-import com.mygdx.game.world.TileType;
 
 /**
  * Represents a raw resource in the game.
@@ -13,43 +14,78 @@ import com.mygdx.game.world.TileType;
  *
  * @author Mykola Isaiev
  */
-public class RawResource extends Resource implements Placeable {
+public class RawResource extends Resource implements Placeable, Pool.Poolable {
     /**
-     * @deprecated The type of tile that represents the raw resource in the game world.
+     * The pool the raw resource is returned to when it is consumed, or null if it is not pooled.
      */
-    private TileType rawTileType;
+    Pool<RawResource> pool;
 
     /**
      * Constructor for creating a raw resource with a DragAndDrop instance.
      *
-     * @param name The name of the raw resource.
-     * @param weight The weight of the raw resource.
-     * @param normalTexturePath The path to the normal texture of the raw resource.
-     * @param rawTileType The type of tile that represents the raw resource in the game world.
-     * @param size The size of the raw resource.
+     * @param type The type of the raw resource.
      * @param dragAndDrop The DragAndDrop instance associated with the raw resource.
      *
      * @author Mykola Isaiev
      */
-    public RawResource(String name, float weight, String normalTexturePath, TileType rawTileType, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
-        this.rawTileType = rawTileType;
+    public RawResource(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
     }
 
     /**
      * Constructor for creating a raw resource located in an inventory.
      *
-     * @param name The name of the raw resource.
-     * @param weight The weight of the raw resource.
-     * @param normalTexture The normal texture of the raw resource.
-     * @param rawTileType The type of tile that represents the raw resource in the game world.
-     * @param size The size of the raw resource.
+     * @param type The type of the raw resource.
      * @param inventory The inventory in which the raw resource is located.
      *
      * @author Mykola Isaiev
      */
-    public RawResource(String name, float weight, String normalTexture, TileType rawTileType, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexture, size, inventory);
-        this.rawTileType = rawTileType;
+    public RawResource(ItemType type, Inventory inventory) {
+        super(type, inventory);
+    }
+
+    /**
+     * Creates a raw resource of the same type, taken from the same pool if this resource is pooled.
+     *
+     * @return A new raw resource.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    protected Item newStack() {
+        if (pool != null) {
+            return pool.obtain();
+        }
+        return new RawResource(type, dragAndDrop);
+    }
+
+    /**
+     * Returns the raw resource to its pool with its textures and drag source, or releases them if it is not pooled.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void dispose() {
+        if (pool != null) {
+            pool.free(this);
+        } else {
+            super.dispose();
+        }
+    }
+
+    /**
+     * Prepares the raw resource for reuse by removing it from the stage, its inventory slot and the game world.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void reset() {
+        remove();
+        clearActions();
+        inventorySlot = null;
+        entity = null;
+        setPosition(0, 0);
+        setInventoryMode();
+        setCount(1);
     }
 }
@@ -0,0 +1,84 @@
+package com.mygdx.game.item.resources;
+
+import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.game.item.ItemType;
+import com.mygdx.game.world.TileType;
+
+/**
+ * Reuses the raw resources extracted by drilling.
+ * Every mined tile produces a raw resource; consumed resources are returned here instead of being thrown away,
+ * so drilling and crafting do not create new actors once the pool is warmed up.
+ *
+ * @author Mykola Isaiev
+ */
+public class RawResourcePool {
+    /**
+     * The maximum number of free resources kept for each tile type.
+     */
+    private static final int MAX_FREE = 64;
+
+    /**
+     * The pools of resources, by the tile type they are extracted from.
+     */
+    private final ObjectMap<TileType, Pool<RawResource>> pools = new ObjectMap<>();
+
+    /**
+     * The DragAndDrop instance the resources are registered with.
+     */
+    private final DragAndDrop dragAndDrop;
+
+    /**
+     * Constructor for creating a RawResourcePool instance.
+     *
+     * @param dragAndDrop The DragAndDrop instance the resources are registered with.
+     *
+     * @author Mykola Isaiev
+     */
+    public RawResourcePool(DragAndDrop dragAndDrop) {
+        this.dragAndDrop = dragAndDrop;
+    }
+
+    /**
+     * Returns a raw resource extracted from the specified tile type.
+     * The resource should be given back with {@link RawResource#dispose()} when it is consumed.
+     *
+     * @param tileType The type of the mined tile.
+     * @return A raw resource ready to be added to an inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    public RawResource obtain(TileType tileType) {
+        return getPool(tileType).obtain();
+    }
+
+    /**
+     * Returns the pool of resources extracted from the specified tile type, creating it on first use.
+     *
+     * @param tileType The type of the mined tile.
+     * @return The pool of the tile type.
+     */
+    private Pool<RawResource> getPool(TileType tileType) {
+        Pool<RawResource> pool = pools.get(tileType);
+        if (pool == null) {
+            ItemType itemType = ItemType.getByName(tileType.getName());
+            pool = new Pool<RawResource>(16, MAX_FREE) {
+                @Override
+                protected RawResource newObject() {
+                    RawResource resource = new RawResource(itemType, dragAndDrop);
+                    resource.pool = this;
+                    return resource;
+                }
+
+                @Override
+                protected void discard(RawResource resource) {
+                    resource.pool = null;
+                    resource.dispose();
+                }
+            };
+            pools.put(tileType, pool);
+        }
+        return pool;
+    }
+}
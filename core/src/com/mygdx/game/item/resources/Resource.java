@@ -1,8 +1,10 @@
 package com.mygdx.game.item.resources;
 
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Array;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.item.ItemAction;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.Item;
 
 /**
@@ -12,34 +14,44 @@ import com.mygdx.game.item.Item;
  * @author Mykola Isaiev
  */
 public abstract class Resource extends Item {
+    /**
+     * The actions offered for a resource in the world, it cannot be wrapped.
+     */
+    private static final Array<ItemAction> WORLD_ACTIONS = ItemAction.table(ItemAction.PICK_UP, ItemAction.MOVE);
 
     /**
      * Constructor for creating a resource with a DragAndDrop instance.
      *
-     * @param name The name of the resource.
-     * @param weight The weight of the resource.
-     * @param normalTexturePath The path to the normal texture of the resource.
-     * @param size The size of the resource.
+     * @param type The type of the resource.
      * @param dragAndDrop The DragAndDrop instance associated with the resource.
      *
      * @author Mykola Isaiev
      */
-    public Resource(String name, float weight, String normalTexturePath, ItemSize size, DragAndDrop dragAndDrop) {
-        super(name, weight, normalTexturePath, size, dragAndDrop);
+    public Resource(ItemType type, DragAndDrop dragAndDrop) {
+        super(type, dragAndDrop);
     }
 
     /**
      * Constructor for creating a resource located in an inventory.
      *
-     * @param name The name of the resource.
-     * @param weight The weight of the resource.
-     * @param normalTexture The normal texture of the resource.
-     * @param size The size of the resource.
+     * @param type The type of the resource.
      * @param inventory The inventory in which the resource is located.
      *
      * @author Mykola Isaiev
      */
-    public Resource(String name, float weight, String normalTexture, ItemSize size, Inventory inventory) {
-        super(name, weight, normalTexture, size, inventory);
+    public Resource(ItemType type, Inventory inventory) {
+        super(type, inventory);
+    }
+
+    /**
+     * Returns the actions offered when the resource is right-clicked in the world.
+     *
+     * @return The table of actions.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public Array<ItemAction> getWorldActions() {
+        return WORLD_ACTIONS;
     }
 }
@@ -0,0 +1,127 @@
+package com.mygdx.game.pool;
+
+import com.badlogic.gdx.Gdx;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Counts the bytes allocated by the render thread during each frame.
+ * The counter is only active in debug builds, started with the system property {@value #DEBUG_PROPERTY} set to true,
+ * and when the JVM can measure allocations per thread.
+ * The average allocation per frame is logged periodically, a steady-state frame should allocate nothing.
+ *
+ * @author Mykola Isaiev
+ */
+public final class AllocationCounter {
+    /**
+     * The system property enabling the debug tools.
+     */
+    public static final String DEBUG_PROPERTY = "astronee.debug";
+
+    /**
+     * The number of frames between two log messages.
+     */
+    private static final int REPORT_INTERVAL = 300;
+
+    /**
+     * The thread bean measuring allocations, or null if the counter is disabled.
+     */
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    /**
+     * The id of the thread whose allocations are counted.
+     */
+    private long threadId;
+
+    /**
+     * The number of bytes allocated by the thread when the current frame began.
+     */
+    private long frameStart;
+
+    /**
+     * The number of bytes allocated during the frames since the last report.
+     */
+    private long allocated;
+
+    /**
+     * The number of frames since the last report.
+     */
+    private int frames;
+
+    /**
+     * The number of bytes allocated during the last frame.
+     */
+    private long lastFrame;
+
+    /**
+     * Constructor for creating an AllocationCounter instance.
+     *
+     * @author Mykola Isaiev
+     */
+    public AllocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (Boolean.getBoolean(DEBUG_PROPERTY) && bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threadBean = null;
+        }
+    }
+
+    /**
+     * Checks if allocations are counted.
+     *
+     * @return True if the counter is active, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isEnabled() {
+        return threadBean != null;
+    }
+
+    /**
+     * Marks the beginning of a frame. Must be called on the thread whose allocations are counted.
+     *
+     * @author Mykola Isaiev
+     */
+    public void begin() {
+        if (threadBean == null) {
+            return;
+        }
+        threadId = Thread.currentThread().getId();
+        frameStart = threadBean.getThreadAllocatedBytes(threadId);
+    }
+
+    /**
+     * Marks the end of a frame and logs the average allocation per frame every {@value #REPORT_INTERVAL} frames.
+     *
+     * @author Mykola Isaiev
+     */
+    public void end() {
+        if (threadBean == null) {
+            return;
+        }
+        lastFrame = threadBean.getThreadAllocatedBytes(threadId) - frameStart;
+        allocated += lastFrame;
+        frames++;
+
+        if (frames == REPORT_INTERVAL) {
+            Gdx.app.log("Allocations", (allocated / frames) + " bytes per frame");
+            allocated = 0;
+            frames = 0;
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated during the last frame.
+     *
+     * @return The allocated bytes, or 0 if the counter is disabled.
+     *
+     * @author Mykola Isaiev
+     */
+    public long getLastFrame() {
+        return lastFrame;
+    }
+}
@@ -0,0 +1,46 @@
+package com.mygdx.game.pool;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Pools of short-lived math objects used while handling input and updating the world.
+ * An object obtained from a pool must be freed as soon as it is no longer used, and must not be stored.
+ *
+ * @author Mykola Isaiev
+ */
+public final class GamePools {
+    /**
+     * Pool of two-dimensional vectors. Freed vectors are reset to zero.
+     */
+    public static final Pool<Vector2> VECTOR2 = new Pool<Vector2>(16) {
+        @Override
+        protected Vector2 newObject() {
+            return new Vector2();
+        }
+
+        @Override
+        protected void reset(Vector2 vector) {
+            vector.setZero();
+        }
+    };
+
+    /**
+     * Pool of three-dimensional vectors, mostly used to unproject the cursor position. Freed vectors are reset to zero.
+     */
+    public static final Pool<Vector3> VECTOR3 = new Pool<Vector3>(16) {
+        @Override
+        protected Vector3 newObject() {
+            return new Vector3();
+        }
+
+        @Override
+        protected void reset(Vector3 vector) {
+            vector.setZero();
+        }
+    };
+
+    private GamePools() {
+    }
+}
@@ -0,0 +1,62 @@
+package com.mygdx.game.scheduler;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Records changes to the game state which must not happen while the simulation is iterating over it,
+ * and applies them in the order they were recorded at the end of the tick.
+ * Commands can be recorded from any thread, they are always applied on the game thread.
+ *
+ * @author Yehor Nesterenko
+ */
+public class CommandBuffer {
+    /**
+     * The commands recorded since the last time the buffer was applied.
+     */
+    private Array<Runnable> recorded = new Array<>(true, 16);
+
+    /**
+     * The commands being applied, swapped with the recorded commands so new commands can be recorded meanwhile.
+     */
+    private Array<Runnable> applying = new Array<>(true, 16);
+
+    /**
+     * Records a command.
+     *
+     * @param command The command.
+     *
+     * @author Yehor Nesterenko
+     */
+    public synchronized void add(Runnable command) {
+        recorded.add(command);
+    }
+
+    /**
+     * Applies all recorded commands, including the commands recorded by the commands themselves.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void apply() {
+        while (swap()) {
+            for (int i = 0; i < applying.size; i++) {
+                applying.get(i).run();
+            }
+            applying.clear();
+        }
+    }
+
+    /**
+     * Exchanges the recorded commands with the empty list of commands being applied.
+     *
+     * @return True if there are commands to apply, false otherwise.
+     */
+    private synchronized boolean swap() {
+        if (recorded.isEmpty()) {
+            return false;
+        }
+        Array<Runnable> commands = recorded;
+        recorded = applying;
+        applying = commands;
+        return true;
+    }
+}
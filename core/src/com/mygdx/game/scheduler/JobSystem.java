@@ -0,0 +1,137 @@
+package com.mygdx.game.scheduler;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs independent simulation work on a pool of worker threads.
+ * A job over a range of indices is split in halves until the parts are small enough, and idle workers steal
+ * the parts queued by busy ones, so the work is spread over all cores.
+ * The calling thread blocks until the workers have finished the job, so a job finishes within the tick it was started in.
+ * As the game thread is not a worker of the pool it does not run parts itself, which is why the pool has
+ * one worker per core besides it.
+ * Jobs must not touch the stage, the input or the graphics, changes to shared state are recorded
+ * in a {@link CommandBuffer} and applied on the game thread at the end of the tick.
+ *
+ * @author Yehor Nesterenko
+ */
+public class JobSystem {
+    /**
+     * The pool of worker threads.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor for creating a JobSystem instance with one worker per core besides the game thread.
+     *
+     * @author Yehor Nesterenko
+     */
+    public JobSystem() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Constructor for creating a JobSystem instance.
+     *
+     * @param workers The number of worker threads.
+     *
+     * @author Yehor Nesterenko
+     */
+    public JobSystem(int workers) {
+        pool = new ForkJoinPool(workers, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("simulation-worker-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Runs a job over the indices from 0 to a count and waits until it is finished.
+     * A job not larger than the grain runs on the calling thread without creating any garbage.
+     *
+     * @param count The number of indices.
+     * @param grain The largest number of indices executed as one part.
+     * @param job The job.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void parallelFor(int count, int grain, RangeJob job) {
+        if (count <= 0) {
+            return;
+        }
+        if (count <= grain) {
+            job.run(0, count);
+            return;
+        }
+        pool.invoke(new Part(job, 0, count, Math.max(1, grain)));
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return The number of workers.
+     *
+     * @author Yehor Nesterenko
+     */
+    public int getWorkers() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Stops the worker threads, no job can be run afterwards.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void dispose() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Represents a part of a job, split in halves until it is not larger than the grain.
+     */
+    private static class Part extends RecursiveAction {
+        /**
+         * The version of the serialized form, parts are never serialized.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The job the part belongs to.
+         */
+        private final RangeJob job;
+
+        /**
+         * The first index of the part.
+         */
+        private final int from;
+
+        /**
+         * The index after the last index of the part.
+         */
+        private final int to;
+
+        /**
+         * The largest number of indices executed without splitting.
+         */
+        private final int grain;
+
+        Part(RangeJob job, int from, int to, int grain) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                job.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Part(job, from, middle, grain), new Part(job, middle, to, grain));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.mygdx.game.scheduler;
+
+/**
+ * Represents work over a range of indices executed by the {@link JobSystem}.
+ * A job may be split into several ranges which run at the same time on different threads,
+ * so a range must only write to the data of its own indices.
+ *
+ * @author Yehor Nesterenko
+ */
+@FunctionalInterface
+public interface RangeJob {
+    /**
+     * Executes the work for a range of indices.
+     *
+     * @param from The first index of the range.
+     * @param to The index after the last index of the range.
+     */
+    void run(int from, int to);
+}
@@ -0,0 +1,400 @@
+package com.mygdx.game.scheduler;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Schedules tasks which are executed during the simulation tick of the game map.
+ * Delays are measured in simulation time, so scheduled tasks pause together with the game
+ * and run in the same order for the same sequence of ticks.
+ * Task entries are reused and every scheduled task is identified by a primitive handle,
+ * so scheduling and cancelling tasks does not create garbage.
+ * The entries are kept in a timer wheel: a ring of slots, each covering a short span of simulation time.
+ * A tick looks only at the slots its time span passed through, so a task due in an hour costs one look
+ * per turn of the wheel instead of one per tick, and thousands of waiting tasks cost next to nothing.
+ * Tasks due in the same tick run in the order of their slots, and in the order they were scheduled within a slot.
+ *
+ * @author Yehor Nesterenko
+ */
+public class TickScheduler {
+    /**
+     * Handle which never refers to a scheduled task.
+     */
+    public static final long INVALID_HANDLE = 0;
+
+    /**
+     * Repeat count for tasks which are repeated until they are cancelled.
+     */
+    public static final int FOREVER = -1;
+
+    /**
+     * The span of simulation time covered by one slot of the wheel in seconds.
+     */
+    private static final float SLOT_TIME = 1 / 16f;
+
+    /**
+     * The number of slots of the wheel, a power of two. One turn of the wheel covers 16 seconds.
+     */
+    private static final int SLOT_COUNT = 256;
+
+    /**
+     * Represents a task scheduled in the scheduler.
+     */
+    private static class Entry {
+        /**
+         * The index of the entry in the list of all entries.
+         */
+        final int slot;
+
+        /**
+         * The generation of the entry, increased every time the entry is reused.
+         */
+        int generation = 1;
+
+        /**
+         * The task to execute, or null if the entry executes a sequence.
+         */
+        Runnable task;
+
+        /**
+         * The sequence to execute, or null if the entry executes a task.
+         */
+        TickSequence sequence;
+
+        /**
+         * The index of the next step of the sequence.
+         */
+        int step;
+
+        /**
+         * The simulation time when the entry is executed next.
+         */
+        double executeAt;
+
+        /**
+         * The interval between repeated executions of the task.
+         */
+        float interval;
+
+        /**
+         * The number of remaining repetitions of the task.
+         */
+        int repeatCount;
+
+        /**
+         * Indicates whether the entry was cancelled.
+         */
+        boolean cancelled;
+
+        /**
+         * The number of the last tick in which the entry was executed, so it runs at most once per tick.
+         */
+        int executedIn;
+
+        Entry(int slot) {
+            this.slot = slot;
+        }
+
+        void reset() {
+            generation++;
+            task = null;
+            sequence = null;
+            step = 0;
+            interval = 0;
+            repeatCount = 0;
+            cancelled = false;
+            executedIn = 0;
+        }
+    }
+
+    /**
+     * All entries ever created by the scheduler, indexed by their slot.
+     */
+    private final Array<Entry> entries = new Array<>(false, 16);
+
+    /**
+     * The slots of the entries which can be reused.
+     */
+    private final IntArray freeSlots = new IntArray();
+
+    /**
+     * The slots of the wheel, every entry is kept in the slot of the time it is executed next.
+     */
+    private final Array<Array<Entry>> slots = new Array<>(SLOT_COUNT);
+
+    /**
+     * The simulation time elapsed since the scheduler was created.
+     * It is a double, a float clock stops resolving the ticks of a frame after a day of play.
+     */
+    private double time;
+
+    /**
+     * The index of the slot span containing the current simulation time, not wrapped to the wheel.
+     * Entries which are already due are kept in the slot of this span.
+     */
+    private int cursor;
+
+    /**
+     * The number of ticks since the scheduler was created.
+     */
+    private int ticks;
+
+    /**
+     * Constructor for creating an empty TickScheduler instance.
+     *
+     * @author Yehor Nesterenko
+     */
+    public TickScheduler() {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots.add(new Array<>(true, 4));
+        }
+    }
+
+    /**
+     * Schedules a task which is executed once.
+     *
+     * @param task The task to execute.
+     * @param delay The delay in seconds of simulation time.
+     * @return The handle of the scheduled task.
+     *
+     * @author Yehor Nesterenko
+     */
+    public long schedule(Runnable task, float delay) {
+        return schedule(task, delay, 0, 0);
+    }
+
+    /**
+     * Schedules a task which is executed repeatedly.
+     *
+     * @param task The task to execute.
+     * @param delay The delay in seconds of simulation time before the first execution.
+     * @param interval The interval in seconds of simulation time between executions.
+     * @param repeatCount The number of additional executions, or {@link #FOREVER}.
+     * @return The handle of the scheduled task.
+     *
+     * @author Yehor Nesterenko
+     */
+    public long schedule(Runnable task, float delay, float interval, int repeatCount) {
+        Entry entry = obtain();
+        entry.task = task;
+        entry.executeAt = time + delay;
+        entry.interval = interval;
+        entry.repeatCount = repeatCount;
+        insert(entry);
+        return handleOf(entry);
+    }
+
+    /**
+     * Starts a sequence of steps.
+     *
+     * @param sequence The sequence to execute.
+     * @param delay The delay in seconds of simulation time before the first step.
+     * @return The handle of the scheduled sequence.
+     *
+     * @author Yehor Nesterenko
+     */
+    public long run(TickSequence sequence, float delay) {
+        Entry entry = obtain();
+        entry.sequence = sequence;
+        entry.executeAt = time + delay;
+        insert(entry);
+        return handleOf(entry);
+    }
+
+    /**
+     * Cancels a scheduled task or sequence.
+     * Cancelling a task which has already finished has no effect.
+     *
+     * @param handle The handle of the task.
+     * @return True if the task was scheduled and is now cancelled, false otherwise.
+     *
+     * @author Yehor Nesterenko
+     */
+    public boolean cancel(long handle) {
+        Entry entry = resolve(handle);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Checks if a task or sequence is still scheduled.
+     *
+     * @param handle The handle of the task.
+     * @return True if the task is scheduled, false otherwise.
+     *
+     * @author Yehor Nesterenko
+     */
+    public boolean isScheduled(long handle) {
+        return resolve(handle) != null;
+    }
+
+    /**
+     * Advances the simulation time and executes all tasks which are due.
+     * Only the slots between the previous and the current time are visited, at most one turn of the wheel.
+     *
+     * @param delta The time in seconds since the last tick.
+     *
+     * @author Yehor Nesterenko
+     */
+    public void update(float delta) {
+        time += delta;
+        ticks++;
+
+        int from = cursor;
+        cursor = Math.max(spanOf(time), cursor);
+        int to = Math.min(cursor, from + SLOT_COUNT - 1);
+        for (int span = from; span <= to; span++) {
+            visit(span & (SLOT_COUNT - 1));
+        }
+    }
+
+    /**
+     * Returns the simulation time elapsed since the scheduler was created.
+     *
+     * @return The simulation time in seconds.
+     *
+     * @author Yehor Nesterenko
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Executes the due entries of a slot, frees the cancelled ones and moves the rescheduled ones to their new slot.
+     *
+     * @param index The index of the slot.
+     */
+    private void visit(int index) {
+        Array<Entry> slot = slots.get(index);
+        int kept = 0;
+        // tasks may schedule new tasks into this slot while running, so the size is read on every iteration
+        for (int i = 0; i < slot.size; i++) {
+            Entry entry = slot.get(i);
+            if (!entry.cancelled && entry.executeAt <= time && entry.executedIn != ticks) {
+                entry.executedIn = ticks;
+                execute(entry);
+            }
+
+            if (entry.cancelled) {
+                free(entry);
+            } else if (slotOf(entry) == index) {
+                slot.set(kept++, entry);
+            } else {
+                slots.get(slotOf(entry)).add(entry);
+            }
+        }
+        slot.truncate(kept);
+    }
+
+    /**
+     * Adds an entry to the slot of the time it is executed next.
+     *
+     * @param entry The entry.
+     */
+    private void insert(Entry entry) {
+        slots.get(slotOf(entry)).add(entry);
+    }
+
+    /**
+     * Returns the slot of the time an entry is executed next, entries which are already due belong to the current slot.
+     *
+     * @param entry The entry.
+     * @return The index of the slot.
+     */
+    private int slotOf(Entry entry) {
+        return Math.max(spanOf(entry.executeAt), cursor) & (SLOT_COUNT - 1);
+    }
+
+    /**
+     * Returns the index of the slot span containing a simulation time, not wrapped to the wheel.
+     *
+     * @param time The simulation time.
+     * @return The index of the span.
+     */
+    private static int spanOf(double time) {
+        return (int) Math.floor(time / SLOT_TIME);
+    }
+
+    /**
+     * Executes an entry and schedules its next execution if needed.
+     *
+     * @param entry The entry to execute.
+     */
+    private void execute(Entry entry) {
+        if (entry.sequence != null) {
+            float delay = entry.sequence.step(entry.step++);
+            if (delay < 0) {
+                entry.cancelled = true;
+            } else if (!entry.cancelled) {
+                entry.executeAt += delay;
+            }
+            return;
+        }
+
+        if (entry.repeatCount == 0) {
+            entry.cancelled = true;
+        } else {
+            if (entry.repeatCount > 0) {
+                entry.repeatCount--;
+            }
+            entry.executeAt += entry.interval;
+        }
+        entry.task.run();
+    }
+
+    /**
+     * Returns an unused entry, creating a new one only if no entry can be reused.
+     *
+     * @return The unused entry.
+     */
+    private Entry obtain() {
+        if (freeSlots.size > 0) {
+            return entries.get(freeSlots.pop());
+        }
+        Entry entry = new Entry(entries.size);
+        entries.add(entry);
+        return entry;
+    }
+
+    /**
+     * Returns an entry to the list of reusable entries.
+     *
+     * @param entry The entry to free.
+     */
+    private void free(Entry entry) {
+        entry.reset();
+        freeSlots.add(entry.slot);
+    }
+
+    /**
+     * Returns the handle of an entry.
+     *
+     * @param entry The entry.
+     * @return The handle combining the slot and the generation of the entry.
+     */
+    private static long handleOf(Entry entry) {
+        return ((long) entry.generation << 32) | (entry.slot & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the scheduled entry referred to by a handle.
+     *
+     * @param handle The handle of the entry.
+     * @return The entry, or null if the handle does not refer to a scheduled entry.
+     */
+    private Entry resolve(long handle) {
+        int slot = (int) handle;
+        int generation = (int) (handle >>> 32);
+        if (handle == INVALID_HANDLE || slot < 0 || slot >= entries.size) {
+            return null;
+        }
+        Entry entry = entries.get(slot);
+        if (entry.generation != generation || entry.cancelled) {
+            return null;
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,24 @@
+package com.mygdx.game.scheduler;
+
+/**
+ * Represents a multi-step action executed by the {@link TickScheduler}.
+ * Every step returns the delay until the next step, which allows writing timed actions
+ * as a single method instead of a chain of tasks.
+ *
+ * @author Yehor Nesterenko
+ */
+@FunctionalInterface
+public interface TickSequence {
+    /**
+     * Value returned by {@link #step(int)} to finish the sequence.
+     */
+    float DONE = -1;
+
+    /**
+     * Executes a single step of the sequence.
+     *
+     * @param step The index of the step, starting with 0.
+     * @return The delay in seconds of simulation time until the next step, or {@link #DONE} to finish the sequence.
+     */
+    float step(int step);
+}
@@ -0,0 +1,106 @@
+package com.mygdx.game.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.mygdx.game.MyGdxGame;
+import com.mygdx.game.assets.AssetManifest;
+import com.mygdx.game.assets.Assets;
+
+import java.util.function.Supplier;
+
+/**
+ * Screen shown while the assets of the next screen are loaded.
+ * Every frame the loading continues for a limited time, so the window stays responsive and shows the progress.
+ *
+ * @author Mykola Isaiev
+ */
+public class LoadingScreen extends ScreenAdapter {
+    /**
+     * The time in milliseconds spent on loading during one frame.
+     */
+    private static final int FRAME_BUDGET = 12;
+
+    /**
+     * The game whose screen is replaced when the loading is finished.
+     */
+    private final MyGdxGame game;
+
+    /**
+     * The assets which must be loaded before the next screen is shown.
+     */
+    private final AssetManifest manifest;
+
+    /**
+     * Creates the screen shown after loading, called once the assets are loaded.
+     */
+    private final Supplier<Screen> nextScreen;
+
+    /**
+     * Draws the progress bar, created when the screen is shown and disposed with the screen.
+     */
+    private ShapeRenderer shapeRenderer;
+
+    /**
+     * Constructor for creating a LoadingScreen instance.
+     *
+     * @param game The game.
+     * @param manifest The assets which must be loaded before the next screen is shown.
+     * @param nextScreen Creates the screen shown after loading.
+     *
+     * @author Mykola Isaiev
+     */
+    public LoadingScreen(MyGdxGame game, AssetManifest manifest, Supplier<Screen> nextScreen) {
+        this.game = game;
+        this.manifest = manifest;
+        this.nextScreen = nextScreen;
+    }
+
+    @Override
+    public void show() {
+        shapeRenderer = new ShapeRenderer();
+        Assets.queue(manifest);
+    }
+
+    @Override
+    public void render(float delta) {
+        Gdx.gl.glClearColor(.1f, .1f, .15f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        if (Assets.update(FRAME_BUDGET)) {
+            game.setScreen(nextScreen.get());
+            return;
+        }
+
+        float width = Gdx.graphics.getWidth() * 0.5f;
+        float x = (Gdx.graphics.getWidth() - width) / 2;
+        float y = Gdx.graphics.getHeight() / 2f - 10;
+
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(.25f, .25f, .3f, 1);
+        shapeRenderer.rect(x, y, width, 20);
+        shapeRenderer.setColor(.8f, .8f, .85f, 1);
+        shapeRenderer.rect(x, y, width * Assets.getProgress(), 20);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+    }
+
+    @Override
+    public void hide() {
+        dispose();
+    }
+
+    @Override
+    public void dispose() {
+        if (shapeRenderer != null) {
+            shapeRenderer.dispose();
+            shapeRenderer = null;
+        }
+    }
+}
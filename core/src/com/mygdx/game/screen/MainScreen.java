@@ -10,18 +10,24 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Window;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.mygdx.game.MyGdxGame;
+import com.mygdx.game.assets.AssetManifest;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.gui.Hud;
+import com.mygdx.game.pool.AllocationCounter;
 import com.mygdx.game.world.GameMap;
 import com.mygdx.game.world.TiledGameMap;
 
 public class MainScreen implements Screen {
     private MyGdxGame game;
     private GameMap gameMap;
+    private Hud hud;
 
     SpriteBatch batch;
     private Stage pauseStage;
     private Skin skin;
     private Window pauseWindow;
     private boolean isPaused;
+    private final AllocationCounter allocationCounter = new AllocationCounter();
 
     public MainScreen(MyGdxGame game) {
         this.game = game;
@@ -31,10 +37,11 @@ public class MainScreen implements Screen {
     public void show() {
         batch = new SpriteBatch();
         gameMap = new TiledGameMap();
+        hud = new Hud(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         Graphics.DisplayMode displayMode = Gdx.graphics.getDisplayMode();
         Gdx.graphics.setFullscreenMode(displayMode);
 
-        skin = new Skin(Gdx.files.internal("menu/uiskin.json"));
+        skin = Assets.get(AssetManifest.SKIN, Skin.class);
         pauseStage = new Stage();
         createPauseWindow();
         isPaused = false;
@@ -97,6 +104,7 @@ public class MainScreen implements Screen {
 
     @Override
     public void render(float delta) {
+        allocationCounter.begin();
         if(Gdx.input.isKeyJustPressed(Input.Keys.P)) {
             togglePause();
         }
@@ -116,12 +124,15 @@ public class MainScreen implements Screen {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         gameMap.render(batch);
+        hud.draw(GameMap.getStage().getBatch(), GameMap.getPlayer(), gameMap.getMinimap());
 
         if (isPaused) {
             pauseStage.act();
             pauseStage.draw();
         }
 
+        allocationCounter.end();
+
 
 
     }
@@ -129,6 +140,7 @@ public class MainScreen implements Screen {
     @Override
     public void resize(int width, int height) {
         gameMap.resize(width, height);
+        hud.resize(width, height);
     }
 
     @Override
@@ -139,8 +151,15 @@ public class MainScreen implements Screen {
     public void resume() {
     }
 
+    /**
+     * Called when the game leaves this screen.
+     * Releases the world and the assets which were loaded for it.
+     */
     @Override
     public void hide() {
+        gameMap.dipsose();
+        hud.dispose();
+        Assets.unload(AssetManifest.GAME);
     }
 
 
@@ -148,6 +167,6 @@ public class MainScreen implements Screen {
     public void dispose () {
         game.dispose();
         pauseStage.dispose();
-        skin.dispose();
+        Assets.release(AssetManifest.SKIN);
     }
 }
@@ -12,6 +12,8 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.FillViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.mygdx.game.MyGdxGame;
+import com.mygdx.game.assets.AssetManifest;
+import com.mygdx.game.assets.Assets;
 
 public class MenuScreen extends ScreenAdapter {
     private Stage stage;
@@ -32,8 +34,8 @@ public class MenuScreen extends ScreenAdapter {
         viewport.update(755, 442, true);
 
         stage = new Stage(viewport);
-        skin = new Skin(Gdx.files.internal("menu/uiskin.json"));
-        backgroundTexture = new Texture(Gdx.files.internal("menu/BackMenu.jpg"));
+        skin = Assets.get(AssetManifest.SKIN, Skin.class);
+        backgroundTexture = Assets.getTexture(AssetManifest.MENU_BACKGROUND);
 
         TextButton buttonPlay = addButton("Play");
         buttonPlay.setSize(200, 50); // Optional: Set a size for better visibility
@@ -48,7 +50,7 @@ public class MenuScreen extends ScreenAdapter {
                 viewport = new FillViewport(1920, 1080);
                 Gdx.graphics.setWindowedMode(1920, 1080);
 
-                game.setScreen(new MainScreen(game));
+                game.setScreen(new LoadingScreen(game, AssetManifest.GAME, () -> new MainScreen(game)));
 
             }
         });
@@ -93,11 +95,24 @@ public class MenuScreen extends ScreenAdapter {
     }
 
 
+    /**
+     * Called when the game leaves the menu.
+     * Releases the stage and the references to the menu assets, which stay loaded with the menu manifest.
+     */
+    @Override
+    public void hide() {
+        dispose();
+    }
+
     @Override
     public void dispose() {
+        if (stage == null) {
+            return;
+        }
         stage.dispose();
-        skin.dispose();
-        backgroundTexture.dispose();
+        stage = null;
+        Assets.release(AssetManifest.SKIN);
+        Assets.release(AssetManifest.MENU_BACKGROUND);
     }
 
     @Override
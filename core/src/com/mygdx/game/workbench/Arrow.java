@@ -1,11 +1,10 @@
 package com.mygdx.game.workbench;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.mygdx.game.assets.Assets;
 
 /**
  * Represents an arrow for workbench in the game.
@@ -28,11 +27,10 @@ public class Arrow extends Actor {
      * @author Mykola Isaiev
      */
     public Arrow(String path, Vector2 position) {
-        Texture texture = new Texture(Gdx.files.internal(path));
-        this.textureRegion = new TextureRegion(texture);
+        this.textureRegion = Assets.getRegion(path);
 
-        setWidth(texture.getWidth());
-        setHeight(texture.getHeight());
+        setWidth(textureRegion.getRegionWidth());
+        setHeight(textureRegion.getRegionHeight());
         setPosition(position.x, position.y);
 
     }
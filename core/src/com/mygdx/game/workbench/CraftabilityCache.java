@@ -0,0 +1,152 @@
+package com.mygdx.game.workbench;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.inventory.model.CountListener;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.item.ItemType;
+
+import java.util.Arrays;
+
+/**
+ * Remembers for every recipe how many times it can be crafted from the items of one inventory.
+ * When the quantity of an item type changes, only the recipes using this type are marked as changed,
+ * and they are verified again the next time the cache is read. Reading an unchanged cache costs an array lookup.
+ *
+ * @author Mykola Isaiev
+ */
+public class CraftabilityCache implements CountListener {
+    /**
+     * The inventory the recipes are crafted from.
+     */
+    private final InventoryModel inventory;
+
+    /**
+     * The number of times every recipe can be crafted, by the index of the recipe.
+     */
+    private int[] crafts = new int[0];
+
+    /**
+     * The number of times every item can be crafted, by the ID of the item type.
+     */
+    private final int[] itemCrafts = new int[ItemType.getIdCount()];
+
+    /**
+     * Indicates for every recipe whether its ingredients changed since it was last verified.
+     */
+    private boolean[] changed = new boolean[0];
+
+    /**
+     * Indicates whether any recipe has to be verified again.
+     */
+    private boolean anyChanged = true;
+
+    /**
+     * Constructor for creating a CraftabilityCache instance.
+     * The cache follows the item counts of the inventory until it is disposed.
+     *
+     * @param inventory The inventory the recipes are crafted from.
+     *
+     * @author Mykola Isaiev
+     */
+    public CraftabilityCache(InventoryModel inventory) {
+        this.inventory = inventory;
+        inventory.addCountListener(this);
+    }
+
+    /**
+     * Marks the recipes using an item type as changed.
+     *
+     * @param typeId The ID of the item type whose quantity changed.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void countChanged(int typeId) {
+        IntArray using = Recipes.getRecipesUsing(typeId);
+        if (using == null) {
+            return;
+        }
+        for (int i = 0; i < using.size; i++) {
+            int recipe = using.get(i);
+            if (recipe < changed.length) {
+                changed[recipe] = true;
+            }
+        }
+        anyChanged = true;
+    }
+
+    /**
+     * Returns how many times a recipe can be crafted.
+     *
+     * @param recipe The index of the recipe.
+     * @return The number of times the recipe can be crafted.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getCrafts(int recipe) {
+        update();
+        return crafts[recipe];
+    }
+
+    /**
+     * Returns how many times an item can be crafted, using the recipe of the item which can be crafted most often.
+     *
+     * @param item The type of the item.
+     * @return The number of times the item can be crafted.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getCrafts(ItemType item) {
+        update();
+        return itemCrafts[item.getId()];
+    }
+
+    /**
+     * Checks if an item can be crafted at least once.
+     *
+     * @param item The type of the item.
+     * @return True if the item can be crafted, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isCraftable(ItemType item) {
+        return getCrafts(item) > 0;
+    }
+
+    /**
+     * Stops following the item counts of the inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    public void dispose() {
+        inventory.removeCountListener(this);
+    }
+
+    /**
+     * Verifies again the recipes marked as changed and updates the counts of the items.
+     * If recipes were added since the last update, all recipes are verified.
+     */
+    private void update() {
+        int recipeCount = Recipes.getRecipeCount();
+        if (crafts.length != recipeCount) {
+            crafts = new int[recipeCount];
+            changed = new boolean[recipeCount];
+            Arrays.fill(changed, true);
+            anyChanged = true;
+        }
+        if (!anyChanged) {
+            return;
+        }
+
+        Arrays.fill(itemCrafts, 0);
+        for (int i = 0; i < recipeCount; i++) {
+            if (changed[i]) {
+                crafts[i] = Recipes.countCrafts(i, inventory);
+                changed[i] = false;
+            }
+            int result = Recipes.getResultId(i);
+            itemCrafts[result] = Math.max(itemCrafts[result], crafts[i]);
+        }
+        anyChanged = false;
+    }
+}
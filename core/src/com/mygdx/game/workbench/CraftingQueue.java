@@ -0,0 +1,220 @@
+package com.mygdx.game.workbench;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemType;
+import com.mygdx.game.scheduler.TickScheduler;
+import com.mygdx.game.scheduler.TickSequence;
+import com.mygdx.game.world.ResourceLedger;
+
+/**
+ * The crafting orders of one workbench, completed one after another in the simulation tick.
+ * The ingredients of an order are removed from the inventory when the order is queued, in one transaction,
+ * and every craft adds its result when its crafting time has passed. Ingredients the inventory lacks are taken
+ * from the placed storages near the workbench, found through the resource ledger. The queue works on the inventory model only,
+ * so it keeps crafting while the workbench is closed or has never been opened. It is cancelled when the workbench leaves
+ * the world, so it never crafts with storages near a position the workbench no longer has.
+ *
+ * @author Mykola Isaiev
+ */
+public class CraftingQueue implements TickSequence {
+    /**
+     * The delay in seconds before a result which did not fit into the full inventory is added again.
+     */
+    public static final float RETRY_DELAY = 1;
+
+    /**
+     * The maximum distance between the workbench and a storage its ingredients are taken from.
+     */
+    public static final float STORAGE_REACH = 500;
+
+    /**
+     * The inventory the ingredients are taken from and the results are added to.
+     */
+    private final InventoryModel inventory;
+
+    /**
+     * The scheduler advancing the queue.
+     */
+    private final TickScheduler scheduler;
+
+    /**
+     * The ledger finding the storages holding the ingredients.
+     */
+    private final ResourceLedger storages;
+
+    /**
+     * The workbench, the storages near its position supply the ingredients.
+     */
+    private final Actor site;
+
+    /**
+     * The index of the recipe of every order, the first order is being crafted.
+     */
+    private final IntArray orderRecipes = new IntArray();
+
+    /**
+     * The number of crafts left in every order.
+     */
+    private final IntArray orderCounts = new IntArray();
+
+    /**
+     * The simulation time at which the current craft is finished.
+     */
+    private double finishAt;
+
+    /**
+     * The handle of the running sequence, or {@link TickScheduler#INVALID_HANDLE} if the queue is empty.
+     */
+    private long handle = TickScheduler.INVALID_HANDLE;
+
+    /**
+     * Constructor for creating a CraftingQueue instance.
+     *
+     * @param inventory The inventory the ingredients are taken from and the results are added to.
+     * @param scheduler The scheduler advancing the queue.
+     * @param storages The ledger finding the storages holding the ingredients.
+     * @param site The workbench, the storages near its position supply the ingredients.
+     *
+     * @author Mykola Isaiev
+     */
+    public CraftingQueue(InventoryModel inventory, TickScheduler scheduler, ResourceLedger storages, Actor site) {
+        this.inventory = inventory;
+        this.scheduler = scheduler;
+        this.storages = storages;
+        this.site = site;
+    }
+
+    /**
+     * Queues several crafts of an item, at most as many as the ingredients in the inventory and the nearby storages allow.
+     * The ingredients of all queued crafts are removed immediately.
+     *
+     * @param item The type of the item to be crafted.
+     * @param times The requested number of crafts.
+     * @return The number of queued crafts, 0 if the item cannot be crafted.
+     *
+     * @author Mykola Isaiev
+     */
+    public int enqueue(ItemType item, int times) {
+        float x = site.getX();
+        float y = site.getY();
+        int recipe = Recipes.findRecipe(item, inventory, storages, x, y, STORAGE_REACH);
+        if (recipe == Recipes.NO_RECIPE || times <= 0) {
+            return 0;
+        }
+
+        int crafts = Math.min(times, Recipes.countCrafts(recipe, inventory, storages, x, y, STORAGE_REACH));
+        if (!Recipes.consume(recipe, inventory, crafts, storages, x, y, STORAGE_REACH)) {
+            return 0;
+        }
+        orderRecipes.add(recipe);
+        orderCounts.add(crafts);
+
+        if (handle == TickScheduler.INVALID_HANDLE) {
+            float time = Recipes.getTime(recipe);
+            finishAt = scheduler.getTime() + time;
+            handle = scheduler.run(this, time);
+        }
+        return crafts;
+    }
+
+    /**
+     * Returns the number of crafts which are not finished yet.
+     *
+     * @return The number of queued crafts.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getQueuedCount() {
+        int queued = 0;
+        for (int i = 0; i < orderCounts.size; i++) {
+            queued += orderCounts.get(i);
+        }
+        return queued;
+    }
+
+    /**
+     * Checks if the queue has no crafts left.
+     *
+     * @return True if nothing is being crafted, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isEmpty() {
+        return orderRecipes.isEmpty();
+    }
+
+    /**
+     * Finishes every craft whose crafting time has passed.
+     * Several crafts can finish in one step if the tick was longer than their crafting time.
+     * If a result does not fit into the inventory, the queue waits and tries again after {@link #RETRY_DELAY}.
+     *
+     * @param step The index of the step.
+     * @return The delay until the current craft is finished, or {@link #DONE} if the queue is empty.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public float step(int step) {
+        double now = scheduler.getTime();
+        while (!orderRecipes.isEmpty() && finishAt <= now) {
+            if (!finish(orderRecipes.first())) {
+                finishAt = now + RETRY_DELAY;
+                return RETRY_DELAY;
+            }
+
+            int left = orderCounts.first() - 1;
+            if (left == 0) {
+                orderRecipes.removeIndex(0);
+                orderCounts.removeIndex(0);
+            } else {
+                orderCounts.set(0, left);
+            }
+            if (!orderRecipes.isEmpty()) {
+                finishAt += Recipes.getTime(orderRecipes.first());
+            }
+        }
+
+        if (orderRecipes.isEmpty()) {
+            handle = TickScheduler.INVALID_HANDLE;
+            return DONE;
+        }
+        return (float) (finishAt - now);
+    }
+
+    /**
+     * Stops the queue and adds the ingredients of the unfinished crafts back to the inventory.
+     * Ingredients which do not fit into the inventory are lost.
+     *
+     * @author Mykola Isaiev
+     */
+    public void cancel() {
+        scheduler.cancel(handle);
+        handle = TickScheduler.INVALID_HANDLE;
+        for (int i = 0; i < orderRecipes.size; i++) {
+            Recipes.refund(orderRecipes.get(i), inventory, orderCounts.get(i));
+        }
+        orderRecipes.clear();
+        orderCounts.clear();
+    }
+
+    /**
+     * Adds the result of one craft to the inventory.
+     *
+     * @param recipe The index of the recipe.
+     * @return True if the result was added, false if it did not fit.
+     */
+    private boolean finish(int recipe) {
+        Item result = Recipes.createResult(recipe);
+        inventory.begin();
+        if (inventory.add(result)) {
+            inventory.commit();
+            return true;
+        }
+        inventory.rollback();
+        result.dispose();
+        return false;
+    }
+}
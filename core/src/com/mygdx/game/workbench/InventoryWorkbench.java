@@ -1,14 +1,18 @@
 package com.mygdx.game.workbench;
 
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.mygdx.game.assets.Assets;
 import com.mygdx.game.inventory.Inventory;
 import com.mygdx.game.inventory.InventorySlot;
-import com.mygdx.game.inventory.ItemSize;
 import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.modules.crafting_tables.LargeWorkbench;
 import com.mygdx.game.item.modules.crafting_tables.BigWorkbench;
 import com.mygdx.game.item.modules.crafting_tables.MediumWorkbench;
@@ -51,6 +55,21 @@ public class InventoryWorkbench extends Group {
      */
     private Inventory inventory;
 
+    /**
+     * Knows how many times every item can be crafted from the items of the inventory.
+     */
+    private CraftabilityCache craftability;
+
+    /**
+     * The number of times the shown item can be crafted, as it was last drawn.
+     */
+    private int shownCrafts = -1;
+
+    /**
+     * The text showing how many times the shown item can be crafted, rebuilt only when the number changes.
+     */
+    private String craftsLabel = "";
+
     /**
      * Constructor for creating an inventory workbench with a crafting slot, a DragAndDrop instance, and an inventory.
      *
@@ -63,6 +82,7 @@ public class InventoryWorkbench extends Group {
     public InventoryWorkbench(InventorySlot craftingSlot, DragAndDrop dragAndDrop, Inventory inventory) {
         this.craftingSlot = craftingSlot;
         this.inventory = inventory;
+        this.craftability = new CraftabilityCache(inventory.getModel());
         items = new ArrayList<>();
 
         setup();
@@ -87,41 +107,30 @@ public class InventoryWorkbench extends Group {
     private void setup() {
         switch (inventory.hasMaxSize()) {
             case SMALL:
-                items.add(new MediumWorkbench("Medium Workbench", 1, "items/modules/crafting_tables/medium_workbench.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new MediumWorkbench(ItemType.MEDIUM_WORKBENCH, inventory));
 
-                items.add(new OxygenStation("Oxygen Station", 1, "items/modules/oxygen/mobile.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new OxygenStation(ItemType.OXYGEN_STATION, inventory));
 
-                items.add(new SmallSoilStorage("Small Soil Storage", 1, "items/storages/SmallSoilStorage.png",
-                        ItemSize.SMALL, inventory, 0));
+                items.add(new SmallSoilStorage(ItemType.SMALL_SOIL_STORAGE, inventory, 0));
                 break;
             case MEDIUM:
-                items.add(new BigWorkbench("Big Workbench", 1, "items/modules/crafting_tables/big_workbench.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new BigWorkbench(ItemType.BIG_WORKBENCH, inventory));
 
-                items.add(new MediumStorage("Medium Storage", 1, "items/modules/storages/medium_storage.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new MediumStorage(ItemType.MEDIUM_STORAGE, inventory));
 
-                items.add(new Jetpack("Jetpack", 1, "items/modules/utils/jetpack.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new Jetpack(ItemType.JETPACK, inventory));
                 break;
             case BIG:
-                items.add(new LargeWorkbench("Large Workbench", 1, "items/modules/crafting_tables/large_workbench.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new LargeWorkbench(ItemType.LARGE_WORKBENCH, inventory));
 
-                items.add(new BigStorage("Big Storage", 1, "items/modules/storages/big_storage.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new BigStorage(ItemType.BIG_STORAGE, inventory));
                 break;
             case LARGE:
-                items.add(new LargeStorage("Large Storage", 1, "items/modules/storages/large_storage.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new LargeStorage(ItemType.LARGE_STORAGE, inventory));
 
-                items.add(new OxygenMobile("Oxygen Mobile", 1, "items/modules/oxygen/mobile.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new OxygenMobile(ItemType.OXYGEN_MOBILE, inventory));
 
-                items.add(new Rocket("Rocket", 1, "items/modules/utils/rocket.png",
-                        ItemSize.SMALL, inventory));
+                items.add(new Rocket(ItemType.ROCKET, inventory));
                 break;
         }
 
@@ -172,4 +181,32 @@ public class InventoryWorkbench extends Group {
 
         addActor(rightArrow);
     }
+
+    /**
+     * Draws the arrows and, under the crafting slot, how many times the shown item can be crafted.
+     * The number is read from the craftability cache, which verifies recipes only after the inventory changed.
+     *
+     * @param batch The batch used for drawing.
+     * @param parentAlpha The parent's alpha, used for transparency.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void draw(Batch batch, float parentAlpha) {
+        super.draw(batch, parentAlpha);
+        if (items.isEmpty()) {
+            return;
+        }
+
+        int crafts = craftability.getCrafts(items.get(i).getType());
+        if (crafts != shownCrafts) {
+            shownCrafts = crafts;
+            craftsLabel = "x" + crafts;
+        }
+
+        BitmapFont font = Assets.getFont();
+        font.setColor(crafts > 0 ? Color.WHITE : Color.GRAY);
+        font.draw(batch, craftsLabel, craftingSlot.getX() + craftingSlot.getWidth() - 16, craftingSlot.getY() - 4);
+        font.setColor(Color.WHITE);
+    }
 }
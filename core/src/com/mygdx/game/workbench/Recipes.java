@@ -1,35 +1,63 @@
 package com.mygdx.game.workbench;
 
-import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.mygdx.game.inventory.model.InventoryModel;
 import com.mygdx.game.item.Item;
-import com.mygdx.game.item.modules.crafting_tables.BigWorkbench;
-import com.mygdx.game.item.modules.crafting_tables.LargeWorkbench;
-import com.mygdx.game.item.modules.crafting_tables.MediumWorkbench;
-import com.mygdx.game.item.modules.oxygen.OxygenMobile;
-import com.mygdx.game.item.modules.oxygen.OxygenStation;
-import com.mygdx.game.item.modules.soil_storages.SmallSoilStorage;
-import com.mygdx.game.item.modules.storages.BigStorage;
-import com.mygdx.game.item.modules.storages.LargeStorage;
-import com.mygdx.game.item.modules.storages.MediumStorage;
-import com.mygdx.game.item.modules.utils.Jetpack;
-import com.mygdx.game.item.modules.utils.Rocket;
+import com.mygdx.game.item.ItemFactory;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.world.GameMap;
-
-import java.util.ArrayList;
-import java.util.Arrays;
+import com.mygdx.game.world.ResourceLedger;
 
 /**
  * Represents a collection of recipes in the game.
  * This class provides functionality for setting up and crafting items based on recipes.
+ * The recipes are read from a data file; their result items are created only when a craft succeeds.
+ * The recipes are compiled into ingredient count vectors and indexed by their result and by their ingredients,
+ * so checking a recipe takes time proportional to its number of distinct ingredients and does not allocate.
  *
  * @author Mykola Isaiev
  */
 public class Recipes {
+    /**
+     * The path of the recipe definitions.
+     */
+    public static final String RECIPES = "data/recipes.json";
+
+    /**
+     * The index returned when there is no matching recipe.
+     */
+    static final int NO_RECIPE = -1;
+
     /**
      * The list of recipes in the game.
      */
-    private static ArrayList<Recipe> recipes = new ArrayList<>();
+    private static Array<Recipe> recipes = new Array<>();
+
+    /**
+     * The results created by the batch being crafted, disposed if the batch is rolled back.
+     */
+    private static final Array<Item> crafted = new Array<>();
+
+    /**
+     * The storages whose transaction was opened by the ingredients being consumed.
+     */
+    private static final Array<InventoryModel> touchedStorages = new Array<>();
+
+    /**
+     * The recipes, by the ID of the type of their result.
+     */
+    private static IntMap<Array<Recipe>> byResult = new IntMap<>();
+
+    /**
+     * The indexes of the recipes in the list, by the ID of the type of every distinct ingredient.
+     */
+    private static IntMap<IntArray> byIngredient = new IntMap<>();
 
     /**
      * Constructor for creating a Recipes instance.
@@ -42,173 +70,536 @@ public class Recipes {
     }
 
     /**
-     * Sets up the recipes in the game.
+     * Sets up the recipes in the game by reading the recipe definitions.
+     * Every definition names its result and ingredients by their item type, e.g.
+     * <pre>{ "result": "JETPACK", "ingredients": { "ALUMINIUM": 1, "COPPER": 1 }, "wrapped": true, "time": 5 }</pre>
+     * The time is the number of seconds a crafting queue needs for one craft.
      *
      * @author Mykola Isaiev
      */
     public void setup() {
-        recipes = new ArrayList<>();
+        recipes = new Array<>();
+        byResult = new IntMap<>();
+        byIngredient = new IntMap<>();
+
+        JsonValue definitions = new JsonReader().parse(Gdx.files.internal(RECIPES));
+        for (JsonValue definition = definitions.child; definition != null; definition = definition.next) {
+            JsonValue ingredients = definition.get("ingredients");
+            int[] types = new int[ingredients.size];
+            int[] quantities = new int[ingredients.size];
+            int i = 0;
+            for (JsonValue ingredient = ingredients.child; ingredient != null; ingredient = ingredient.next, i++) {
+                types[i] = ItemType.valueOf(ingredient.name).getId();
+                quantities[i] = ingredient.asInt();
+            }
+
+            add(new Recipe(types, quantities, ItemType.valueOf(definition.getString("result")),
+                    definition.getBoolean("wrapped", false), definition.getFloat("time", 0)));
+        }
+    }
+
+    /**
+     * Adds a recipe to the list and to the indexes.
+     *
+     * @param recipe The recipe to add.
+     *
+     * @author Mykola Isaiev
+     */
+    private static void add(Recipe recipe) {
+        recipe.index = recipes.size;
+        recipes.add(recipe);
 
-        recipes.add(new Recipe("Compound",
-                new MediumWorkbench("Medium Workbench", 1, "items/modules/crafting_tables/medium_workbench.png",
-                ItemSize.MEDIUM, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+        Array<Recipe> indexed = byResult.get(recipe.result.getId());
+        if (indexed == null) {
+            indexed = new Array<>();
+            byResult.put(recipe.result.getId(), indexed);
+        }
+        indexed.add(recipe);
 
-        recipes.add(new Recipe(new String[] {"Aluminium", "Aluminium"},
-                new BigWorkbench("Big Workbench", 1, "items/modules/crafting_tables/big_workbench.png",
-                ItemSize.BIG, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+        for (int ingredient : recipe.ingredients) {
+            IntArray using = byIngredient.get(ingredient);
+            if (using == null) {
+                using = new IntArray();
+                byIngredient.put(ingredient, using);
+            }
+            using.add(recipes.size - 1);
+        }
+    }
 
-        recipes.add(new Recipe(new String[] {"Iron", "Iron", "Ruby"},
-                new LargeWorkbench("Large Workbench", 1, "items/modules/crafting_tables/large_workbench.png",
-                ItemSize.LARGE, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+    /**
+     * Checks if an item can be crafted from the items in an inventory.
+     *
+     * @param item The type of the item.
+     * @param inventory The content of the inventory.
+     * @return True if any recipe of the item can be crafted, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public static boolean canCraft(ItemType item, InventoryModel inventory) {
+        return findCraftable(item, inventory) != null;
+    }
+
+    /**
+     * Crafts an item based on a recipe.
+     * A new result item is created for every craft. The ingredients are removed and the result is added
+     * in one transaction of the inventory model, so nothing is consumed if the result does not fit into the inventory.
+     *
+     * @param item The type of the item to be crafted.
+     * @param inventory The content of the inventory where the crafted item will be added.
+     *
+     * @author Mykola Isaiev
+     */
+    public static void craft(ItemType item, InventoryModel inventory) {
+        craft(item, inventory, 1);
+    }
 
-        recipes.add(new Recipe(new String[] {"Resin", "Resin"},
-                new MediumStorage("Medium Storage", 1, "items/modules/storages/medium_storage.png",
-                ItemSize.MEDIUM, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+    /**
+     * Crafts an item several times based on one recipe, at most as many times as its ingredients allow
+     * and the free space of the inventory takes.
+     * The ingredients of all crafts are removed with one call per ingredient type and all results are added
+     * in a single transaction of the inventory model. If some results do not fit, the transaction is rolled back
+     * and the batch is crafted again with the number of results which fitted, so crafting as many as possible
+     * fills the inventory instead of crafting nothing.
+     *
+     * @param item The type of the item to be crafted.
+     * @param inventory The content of the inventory where the crafted items will be added.
+     * @param times The requested number of crafts.
+     * @return The number of crafted items, 0 if the item cannot be crafted or no result fits.
+     *
+     * @author Mykola Isaiev
+     */
+    public static int craft(ItemType item, InventoryModel inventory, int times) {
+        Recipe recipe = findCraftable(item, inventory);
+        if (recipe == null || times <= 0) {
+            return 0;
+        }
 
-        recipes.add(new Recipe(new String[] {"Iron", "Iron", "Resin"},
-                new BigStorage("Big Storage", 1, "items/modules/storages/big_storage.png",
-                ItemSize.BIG, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+        int crafts = Math.min(times, recipe.countCrafts(inventory));
+        while (crafts > 0) {
+            int fitted = craftBatch(recipe, inventory, crafts);
+            if (fitted == crafts) {
+                return crafts;
+            }
+            // fewer crafts consume fewer ingredients and may free fewer slots, so retry until the whole batch fits
+            crafts = fitted;
+        }
+        return 0;
+    }
 
-        recipes.add(new Recipe(new String[] {"Ruby", "Ruby", "Resin", "Resin"},
-                new LargeStorage("Large Storage", 1, "items/modules/storages/large_storage.png",
-                        ItemSize.LARGE, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+    /**
+     * Crafts a batch of a recipe in one transaction, rolling it back if any result does not fit.
+     *
+     * @param recipe The recipe.
+     * @param inventory The content of the inventory.
+     * @param crafts The number of crafts, the ingredients must suffice.
+     * @return The number of results added before one did not fit, equal to the number of crafts if the batch was kept.
+     *
+     * @author Mykola Isaiev
+     */
+    private static int craftBatch(Recipe recipe, InventoryModel inventory, int crafts) {
+        inventory.begin();
+        recipe.consume(inventory, crafts);
+        for (int i = 0; i < crafts; i++) {
+            Item result = recipe.createResult();
+            crafted.add(result);
+            if (!inventory.add(result)) {
+                inventory.rollback();
+                for (Item rejected : crafted) {
+                    rejected.dispose();
+                }
+                crafted.clear();
+                return i;
+            }
+        }
+        inventory.commit();
+        crafted.clear();
+        return crafts;
+    }
 
-        recipes.add(new Recipe(new String[] {"Aluminium", "Copper"},
-                new Jetpack("Jetpack", 1, "items/modules/utils/jetpack.png",
-                ItemSize.SMALL, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+    /**
+     * Checks if any recipe needs items of a type, so changes of their count can change what is craftable.
+     *
+     * @param typeId The ID of the item type.
+     * @return True if the item type is an ingredient of a recipe, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public static boolean isIngredient(int typeId) {
+        return byIngredient.containsKey(typeId);
+    }
 
-        recipes.add(new Recipe("Resin",
-                new OxygenStation("Oxygen Station", 1, "items/modules/oxygen/station.png",
-                ItemSize.MEDIUM, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+    /**
+     * Returns the number of recipes. Recipes are identified by their index in the list, from 0 to this number.
+     *
+     * @return The number of recipes.
+     *
+     * @author Mykola Isaiev
+     */
+    static int getRecipeCount() {
+        return recipes.size;
+    }
 
-        recipes.add(new Recipe(new String[] {"Ruby", "Ruby", "Compound", "Compound"},
-                new OxygenMobile("Oxygen Mobile", 1, "items/modules/oxygen/mobile.png",
-                ItemSize.MEDIUM, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+    /**
+     * Returns the ID of the type of the result of a recipe.
+     *
+     * @param recipe The index of the recipe.
+     * @return The ID of the result type.
+     *
+     * @author Mykola Isaiev
+     */
+    static int getResultId(int recipe) {
+        return recipes.get(recipe).result.getId();
+    }
 
-        recipes.add(new Recipe("Compound",
-                new SmallSoilStorage("Small Soil Storage", 1, "items/storages/SmallSoilStorage.png",
-                ItemSize.SMALL, GameMap.getPlayer().getMap().getDragAndDrop(), 0), true));
+    /**
+     * Returns the recipes which need items of a type.
+     *
+     * @param typeId The ID of the item type.
+     * @return The indexes of the recipes, or null if the type is not an ingredient. The array must not be modified.
+     *
+     * @author Mykola Isaiev
+     */
+    static IntArray getRecipesUsing(int typeId) {
+        return byIngredient.get(typeId);
+    }
 
-        recipes.add(new Recipe(new String[] {"Ruby", "Ruby", "Coal", "Coal"},
-                new Rocket("Rocket", 1, "items/modules/utils/rocket.png",
-                ItemSize.LARGE, GameMap.getPlayer().getMap().getDragAndDrop()), true));
+    /**
+     * Counts how many times a recipe can be crafted from the items in an inventory.
+     *
+     * @param recipe The index of the recipe.
+     * @param inventory The content of the inventory.
+     * @return The number of times the recipe can be crafted.
+     *
+     * @author Mykola Isaiev
+     */
+    static int countCrafts(int recipe, InventoryModel inventory) {
+        return recipes.get(recipe).countCrafts(inventory);
     }
 
     /**
-     * Crafts an item based on a recipe.
+     * Counts how many times a recipe can be crafted from the items in an inventory and in the storages near a position.
      *
-     * @param item The name of the item to be crafted.
-     * @param inventory The inventory where the crafted item will be added.
+     * @param recipe The index of the recipe.
+     * @param inventory The content of the inventory.
+     * @param storages The ledger of the placed storages.
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param reach The maximum distance between the position and a storage.
+     * @return The number of times the recipe can be crafted.
      *
      * @author Mykola Isaiev
      */
-    public static void craft(String item, Inventory inventory) {
-        for (Recipe recipe : recipes) {
-            if (recipe.result.getName().equals(item)) {
-                Item result = recipe.craft(inventory);
-                if (result != null) {
-                    for (String source : recipe.source) {
-                        inventory.removeItem(source);
-                    }
-                    inventory.addItem(result);
-                } else {
-                    return;
-                }
+    static int countCrafts(int recipe, InventoryModel inventory, ResourceLedger storages, float x, float y, float reach) {
+        return recipes.get(recipe).countCrafts(inventory, storages, x, y, reach);
+    }
+
+    /**
+     * Finds the first recipe of an item which can be crafted from the items in an inventory and in the storages near a position.
+     *
+     * @param item The type of the item.
+     * @param inventory The content of the inventory.
+     * @param storages The ledger of the placed storages.
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param reach The maximum distance between the position and a storage.
+     * @return The index of the recipe, or {@link #NO_RECIPE} if no recipe of the item can be crafted.
+     *
+     * @author Mykola Isaiev
+     */
+    static int findRecipe(ItemType item, InventoryModel inventory, ResourceLedger storages, float x, float y, float reach) {
+        Array<Recipe> candidates = byResult.get(item.getId());
+        if (candidates == null) {
+            return NO_RECIPE;
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            if (candidates.get(i).countCrafts(inventory, storages, x, y, reach) > 0) {
+                return candidates.get(i).index;
+            }
+        }
+        return NO_RECIPE;
+    }
+
+    /**
+     * Removes the ingredients of several crafts of a recipe, e.g. when they are queued.
+     * The ingredients are taken from the inventory, the missing quantities from the storages near a position,
+     * the nearest storage first. The inventory and every touched storage change in their own transactions,
+     * which are all committed together, or all rolled back if the ingredients are not complete.
+     *
+     * @param recipe The index of the recipe.
+     * @param inventory The content of the inventory.
+     * @param times The number of crafts.
+     * @param storages The ledger of the placed storages.
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param reach The maximum distance between the position and a storage.
+     * @return True if the ingredients were removed, false if they were not complete and nothing was removed.
+     *
+     * @author Mykola Isaiev
+     */
+    static boolean consume(int recipe, InventoryModel inventory, int times, ResourceLedger storages, float x, float y, float reach) {
+        inventory.begin();
+        boolean complete = recipes.get(recipe).consume(inventory, times, storages, x, y, reach, touchedStorages);
+        if (complete) {
+            inventory.commit();
+        } else {
+            inventory.rollback();
+        }
+        for (int i = 0; i < touchedStorages.size; i++) {
+            if (complete) {
+                touchedStorages.get(i).commit();
+            } else {
+                touchedStorages.get(i).rollback();
+            }
+        }
+        touchedStorages.clear();
+        return complete;
+    }
+
+    /**
+     * Adds the ingredients of several crafts of a recipe back to an inventory, e.g. when queued crafts are cancelled.
+     * Ingredients which do not fit into the inventory are lost.
+     *
+     * @param recipe The index of the recipe.
+     * @param inventory The inventory the ingredients are added to.
+     * @param times The number of crafts.
+     *
+     * @author Mykola Isaiev
+     */
+    static void refund(int recipe, InventoryModel inventory, int times) {
+        recipes.get(recipe).refund(inventory, times);
+    }
+
+    /**
+     * Creates a new result item of a recipe whose ingredients were already consumed.
+     *
+     * @param recipe The index of the recipe.
+     * @return The new result item.
+     *
+     * @author Mykola Isaiev
+     */
+    static Item createResult(int recipe) {
+        return recipes.get(recipe).createResult();
+    }
+
+    /**
+     * Returns the number of seconds a crafting queue needs for one craft of a recipe.
+     *
+     * @param recipe The index of the recipe.
+     * @return The crafting time in seconds.
+     *
+     * @author Mykola Isaiev
+     */
+    static float getTime(int recipe) {
+        return recipes.get(recipe).time;
+    }
+
+    /**
+     * Finds the first recipe of an item which can be crafted from the items in an inventory.
+     *
+     * @param item The type of the item.
+     * @param inventory The content of the inventory.
+     * @return The recipe, or null if no recipe of the item can be crafted.
+     *
+     * @author Mykola Isaiev
+     */
+    private static Recipe findCraftable(ItemType item, InventoryModel inventory) {
+        Array<Recipe> candidates = byResult.get(item.getId());
+        if (candidates == null) {
+            return null;
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            if (candidates.get(i).verify(inventory)) {
+                return candidates.get(i);
             }
         }
+        return null;
     }
 
     /**
      * Represents a recipe in the game.
-     * This class provides functionality for crafting items based on a recipe.
+     * The ingredients are compiled into a count vector: the IDs of the distinct ingredient types and the quantity of each.
      *
      * @author Mykola Isaiev
      */
-    private class Recipe {
+    private static class Recipe {
+        /**
+         * The IDs of the types of the distinct source items required for the recipe.
+         */
+        private final int[] ingredients;
         /**
-         * The list of source items required for the recipe.
+         * The quantity of every distinct source item, in the same order as the ingredients.
          */
-        private ArrayList<String> source;
+        private final int[] quantities;
         /**
-         * The result item of the recipe.
+         * The type of the result item of the recipe.
          */
-        private Item result;
+        private final ItemType result;
+        /**
+         * Indicates whether the result item is wrapped when it is crafted.
+         */
+        private final boolean wrapped;
+        /**
+         * The number of seconds a crafting queue needs for one craft.
+         */
+        private final float time;
+        /**
+         * The index of the recipe in the list.
+         */
+        private int index;
 
         /**
-         * Constructor for creating a Recipe instance with multiple source items.
+         * Constructor for creating a Recipe instance.
          *
-         * @param source The array of source items required for the recipe.
-         * @param result The result item of the recipe.
+         * @param ingredients The IDs of the types of the distinct source items required for the recipe.
+         * @param quantities The quantity of every distinct source item.
+         * @param result The type of the result item of the recipe.
          * @param wrapped A boolean value indicating whether the result item should be wrapped.
+         * @param time The number of seconds a crafting queue needs for one craft.
          *
          * @author Mykola Isaiev
          */
-        public Recipe(String[] source, Item result, boolean wrapped) {
-            this.source = new ArrayList<>();
-            this.source.addAll(Arrays.asList(source));
+        public Recipe(int[] ingredients, int[] quantities, ItemType result, boolean wrapped, float time) {
+            this.ingredients = ingredients;
+            this.quantities = quantities;
             this.result = result;
+            this.wrapped = wrapped;
+            this.time = time;
+        }
 
-            if (wrapped) {
-                this.result.wrap();
-                this.result.setInventoryMode();
+        /**
+         * Removes the ingredients of several crafts, one removal per distinct ingredient.
+         *
+         * @param inventory The inventory the ingredients are taken from.
+         * @param times The number of crafts.
+         *
+         * @author Mykola Isaiev
+         */
+        private void consume(InventoryModel inventory, int times) {
+            for (int i = 0; i < ingredients.length; i++) {
+                inventory.remove(ingredients[i], quantities[i] * times);
             }
         }
 
         /**
-         * Constructor for creating a Recipe instance with a single source item.
+         * Removes the ingredients of several crafts, taking what the inventory lacks from the storages near a position.
          *
-         * @param source The source item required for the recipe.
-         * @param result The result item of the recipe.
-         * @param wrapped A boolean value indicating whether the result item should be wrapped.
+         * @param inventory The inventory the ingredients are taken from first.
+         * @param times The number of crafts.
+         * @param storages The ledger of the placed storages.
+         * @param x The x-coordinate of the position.
+         * @param y The y-coordinate of the position.
+         * @param reach The maximum distance between the position and a storage.
+         * @param touched The storages whose transaction is open, storages touched by the removal are added.
+         * @return True if all ingredients were removed, false if some were missing.
          *
          * @author Mykola Isaiev
          */
-        public Recipe(String source, Item result, boolean wrapped) {
-            this.source = new ArrayList<>();
-            this.source.add(source);
-            this.result = result;
+        private boolean consume(InventoryModel inventory, int times, ResourceLedger storages, float x, float y, float reach,
+                                Array<InventoryModel> touched) {
+            for (int i = 0; i < ingredients.length; i++) {
+                int needed = quantities[i] * times;
+                int removed = inventory.remove(ingredients[i], needed);
+                if (removed < needed && storages.takeNearest(ingredients[i], needed - removed, x, y, reach, touched) < needed - removed) {
+                    return false;
+                }
+            }
+            return true;
+        }
 
-            if (wrapped) {
-                this.result.wrap();
-                this.result.setInventoryMode();
+        /**
+         * Adds new stacks of the ingredients of several crafts to an inventory, disposing the stacks which do not fit.
+         *
+         * @param inventory The inventory the ingredients are added to.
+         * @param times The number of crafts.
+         *
+         * @author Mykola Isaiev
+         */
+        private void refund(InventoryModel inventory, int times) {
+            DragAndDrop dragAndDrop = GameMap.getPlayer().getMap().getDragAndDrop();
+            for (int i = 0; i < ingredients.length; i++) {
+                ItemType type = ItemType.getById(ingredients[i]);
+                int count = quantities[i] * times;
+                while (count > 0) {
+                    Item stack = ItemFactory.create(type, dragAndDrop);
+                    stack.setInventoryMode();
+                    stack.setCount(type.isStackable() ? Math.min(count, InventoryModel.MAX_STACK) : 1);
+                    count -= stack.getCount();
+                    if (!inventory.add(stack)) {
+                        stack.dispose();
+                    }
+                }
             }
         }
 
         /**
-         * Crafts an item based on the recipe.
+         * Creates a new result item, only called when the recipe is crafted.
          *
-         * @param inventory The inventory where the crafted item will be added.
-         * @return The crafted item if the recipe can be crafted, null otherwise.
+         * @return The new result item.
          *
          * @author Mykola Isaiev
          */
-        public Item craft(Inventory inventory) {
-            if (verify(inventory)) {
-                return result;
+        private Item createResult() {
+            Item item = ItemFactory.create(result, GameMap.getPlayer().getMap().getDragAndDrop());
+            if (wrapped) {
+                item.wrap();
             }
-            return null;
+            item.setInventoryMode();
+            return item;
         }
 
         /**
-         * Verifies if the recipe can be crafted based on the items in the inventory.
+         * Verifies if the recipe can be crafted based on the live item counts of the inventory.
          *
          * @param inventory The inventory to be checked.
          * @return A boolean value indicating whether the recipe can be crafted.
          *
          * @author Mykola Isaiev
          */
-        private boolean verify(Inventory inventory) {
-            ArrayList<String> inventoryItems = inventory.getItems();
-
-            for (String item : source) {
-                if (!inventoryItems.contains(item)) {
+        private boolean verify(InventoryModel inventory) {
+            for (int i = 0; i < ingredients.length; i++) {
+                if (inventory.count(ingredients[i]) < quantities[i]) {
                     return false;
-                } else {
-                    inventoryItems.remove(item);
                 }
             }
-
             return true;
         }
+
+        /**
+         * Counts how many times the recipe can be crafted, limited by the scarcest ingredient.
+         *
+         * @param inventory The inventory to be checked.
+         * @return The number of times the recipe can be crafted.
+         *
+         * @author Mykola Isaiev
+         */
+        private int countCrafts(InventoryModel inventory) {
+            int crafts = Integer.MAX_VALUE;
+            for (int i = 0; i < ingredients.length && crafts > 0; i++) {
+                crafts = Math.min(crafts, inventory.count(ingredients[i]) / quantities[i]);
+            }
+            return ingredients.length == 0 ? 0 : crafts;
+        }
+
+        /**
+         * Counts how many times the recipe can be crafted from an inventory and the storages near a position,
+         * limited by the scarcest ingredient.
+         *
+         * @param inventory The inventory to be checked.
+         * @param storages The ledger of the placed storages.
+         * @param x The x-coordinate of the position.
+         * @param y The y-coordinate of the position.
+         * @param reach The maximum distance between the position and a storage.
+         * @return The number of times the recipe can be crafted.
+         *
+         * @author Mykola Isaiev
+         */
+        private int countCrafts(InventoryModel inventory, ResourceLedger storages, float x, float y, float reach) {
+            int crafts = Integer.MAX_VALUE;
+            for (int i = 0; i < ingredients.length && crafts > 0; i++) {
+                int available = inventory.count(ingredients[i]) + storages.countNear(ingredients[i], x, y, reach);
+                crafts = Math.min(crafts, available / quantities[i]);
+            }
+            return ingredients.length == 0 ? 0 : crafts;
+        }
     }
 }
@@ -1,5 +1,7 @@
 package com.mygdx.game.world;
 
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
@@ -12,19 +14,29 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.ecs.components.ItemComponent;
+import com.mygdx.game.ecs.components.TransformComponent;
+import com.mygdx.game.ecs.systems.FuelSystem;
+import com.mygdx.game.ecs.systems.OxygenSystem;
+import com.mygdx.game.ecs.systems.StorageSystem;
 import com.mygdx.game.entities.Player;
 import com.mygdx.game.gui.ActionsPopUpList;
+import com.mygdx.game.gui.Minimap;
 import com.mygdx.game.inventory.Inventory;
-import com.mygdx.game.inventory.ItemSize;
 import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemType;
 import com.mygdx.game.item.modules.crafting_tables.LargeWorkbench;
 import com.mygdx.game.item.modules.oxygen.OxygenStation;
 import com.mygdx.game.item.PlaceableItem;
 import com.mygdx.game.item.resources.RawResource;
+import com.mygdx.game.item.resources.RawResourcePool;
+import com.mygdx.game.scheduler.CommandBuffer;
+import com.mygdx.game.scheduler.JobSystem;
+import com.mygdx.game.scheduler.TickScheduler;
 import com.mygdx.game.workbench.Recipes;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 /**
  * Represents a game map.
@@ -77,6 +89,56 @@ public abstract class GameMap {
      */
     private Animation<TextureRegion> breakAnimation;
 
+    /**
+     * Oxygen coverage of the map produced by the installed oxygen stations.
+     */
+    OxygenField oxygenField;
+
+    /**
+     * Totals of the resources in the inventory of the player and in the placed storages.
+     */
+    ResourceLedger resourceLedger;
+
+    /**
+     * Engine that simulates all entities placed in the game world.
+     */
+    Engine engine;
+
+    /**
+     * Scheduler for timed actions which are executed during the simulation tick.
+     */
+    TickScheduler scheduler;
+
+    /**
+     * Worker pool running independent simulation work in parallel.
+     */
+    JobSystem jobs;
+
+    /**
+     * Changes recorded during the tick which are applied at its end, e.g. changes to the list of active actors.
+     */
+    CommandBuffer commands;
+
+    /**
+     * Indicates whether the active actors are being updated, changes to their list are deferred meanwhile.
+     */
+    private boolean updatingActors = false;
+
+    /**
+     * Pool of the raw resources extracted by drilling.
+     */
+    RawResourcePool rawResourcePool;
+
+    /**
+     * Layer of the stage holding the items placed in the world, it draws only the items in view.
+     */
+    WorldItemLayer worldItems;
+
+    /**
+     * Overview of the tiles of the map, kept up to date with every changed tile.
+     */
+    Minimap minimap;
+
     public static boolean cleared = false;
 
     /**
@@ -85,15 +147,22 @@ public abstract class GameMap {
      */
     public GameMap() {
         dragAndDrop = new DragAndDrop();
+        engine = new Engine();
+        scheduler = new TickScheduler();
+        jobs = new JobSystem();
+        commands = new CommandBuffer();
+        rawResourcePool = new RawResourcePool(dragAndDrop);
 
         stage = new Stage(new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), new OrthographicCamera()));
         player = new Player(2500, 3000, this, new Inventory(dragAndDrop));
+        resourceLedger = new ResourceLedger();
+        resourceLedger.add(player.getInventory().getModel(), null);
 
         recipes = new Recipes();
 
         Gdx.input.setInputProcessor(stage);
 
-        Item oxygenStation = new OxygenStation("Oxygen Station", 1, "items/modules/oxygen/station.png", ItemSize.MEDIUM, dragAndDrop);
+        Item oxygenStation = new OxygenStation(ItemType.OXYGEN_STATION, dragAndDrop);
         oxygenStation.wrap();
         oxygenStation.setInventoryMode();
         player.getInventory().addItem(oxygenStation);
@@ -106,11 +175,29 @@ public abstract class GameMap {
 
         Array<TextureRegion> frames = new Array<>();
         for (int i = 1; i <= 5; i++) {
-            frames.add(new TextureRegion(new Texture(Gdx.files.internal("break" + i + ".png"))));
+            frames.add(Assets.getRegion("break" + i + ".png"));
         }
         breakAnimation = new Animation<>(0.13f, frames, Animation.PlayMode.NORMAL);
     }
 
+    /**
+     * Sets up the simulation of the game world.
+     * This method must be called by the subclass as soon as the size of the map is known and the terrain is generated,
+     * the minimap is filled from the tiles of the map at this point.
+     *
+     * @author Mykola Isaiev
+     */
+    protected void setupSimulation() {
+        oxygenField = new OxygenField((int) getWidth(), (int) getHeight());
+        worldItems = new WorldItemLayer(getPixelWidth(), getPixelHeight());
+        stage.getRoot().addActorAt(0, worldItems);
+        minimap = new Minimap(this);
+
+        engine.addSystem(new FuelSystem(oxygenField, scheduler));
+        engine.addSystem(new OxygenSystem(oxygenField, scheduler, jobs));
+        engine.addSystem(new StorageSystem(resourceLedger));
+    }
+
     /**
      * Returns the animation for the breaking effect in the game.
      *
@@ -152,37 +239,6 @@ public abstract class GameMap {
     }
 
 
-    /**
-     * Calculates the number of tiles in a specified area that can be interacted with.
-     * Interactable tiles are those that are either collidable or extractable.
-     *
-     * @param coordinates The coordinates of the top-left corner of the area.
-     * @param width The width of the area.
-     * @param height The height of the area.
-     * @return The number of interactable tiles in the specified area.
-     *
-     * @author Yehor Nesterenko
-     */
-    public double getInteractableTilesAmount(Vector2 coordinates, int width, int height) {
-        int interactableTiles = 0;
-
-        for (int row = (int) (coordinates.y / TileType.TILE_SIZE); row < Math.ceil((coordinates.y + height) / TileType.TILE_SIZE); row++) {
-            for (int col = (int) (coordinates.x / TileType.TILE_SIZE); col < Math.ceil((coordinates.x + width) / TileType.TILE_SIZE); col++) {
-                for (int layer = 0; layer < getLayers(); layer++) {
-                    TileType type = getTileTypeByCoordinate(layer, col, row);
-                    if (type != null) {
-                        if (type.isCollidable() || type.isExtractable()) {
-                            interactableTiles++;
-                        }
-                    }
-                }
-            }
-        }
-        return interactableTiles;
-    }
-
-
-
     //make method to remove all stage actors
     public void clearStage() {
         cleared = true;
@@ -221,47 +277,6 @@ public abstract class GameMap {
         return placedTiles;
     }
 
-    /**
-     * Sets tiles in a specified area, overlaying existing collidable tiles.
-     * This method will replace all collidable tiles in the specified area with the specified tile type.
-     *
-     * @param coordinates The coordinates of the top-left corner of the area.
-     * @param width The width of the area.
-     * @param height The height of the area.
-     * @param tileType The type of tile to place.
-     * @return The number of tiles that were replaced.
-     *
-     * @author Yehor Nesterenko
-     */
-    public int setTilesWithOverlay(Vector2 coordinates, int width, int height, TileType tileType) {
-        int removedTiles = 0;
-
-        // Check bounds
-        if (coordinates.x < 0 || coordinates.y < 0 || coordinates.x + width > getPixelWidth() || coordinates.y + height > getPixelHeight()) {
-            return removedTiles;
-        }
-
-        int startX = (int) (coordinates.x / TileType.TILE_SIZE);
-        int startY = (int) (coordinates.y / TileType.TILE_SIZE);
-        int endX = (int) Math.ceil((coordinates.x + width) / TileType.TILE_SIZE);
-        int endY = (int) Math.ceil((coordinates.y + height) / TileType.TILE_SIZE);
-
-        for (int row = startY; row < endY; row++) {
-            for (int col = startX; col < endX; col++) {
-                for(int layer = 0; layer < getLayers(); layer++){
-                    TileType currentType = getTileTypeByCoordinate(layer, col, row);
-
-                    if (currentType != null && currentType.isCollidable() ) {
-                        setTileByCoordinate(layer, col, row, tileType);
-                        removedTiles++;
-                    }
-                }
-            }
-        }
-
-        return removedTiles;
-    }
-
     /**
      * Renders the map and all entities on it.
      *
@@ -288,22 +303,31 @@ public abstract class GameMap {
 
     /**
      * Updates the map and all entities on it.
+     * The changes recorded in the command buffer during the tick are applied at its end.
      *
      * @param delta The time since the last update.
      *
      * @author Danylo Kost
      */
     public void update(float delta) {
+        scheduler.update(delta);
+
         player.act(delta);
         player.updateCursorPosition((FitViewport) stage.getViewport());
 
         ((OrthographicCamera)stage.getCamera()).zoom = player.getCamZoom()/100f;
         ((OrthographicCamera)stage.getCamera()).position.set(player.getX(), player.getY(), 0);
 
-        //не менять на сокращенный фор иначе все пиздой накроется
+        // the actors read the input and change the stage, so they stay on the game thread;
+        // actors added or removed by other actors are deferred to the command buffer
+        updatingActors = true;
         for (int i = 0; i < actActors.size(); i++) {
             actActors.get(i).act(delta);
         }
+        updatingActors = false;
+
+        engine.update(delta);
+        commands.apply();
     }
 
     /**
@@ -458,12 +482,17 @@ public abstract class GameMap {
     /**
      * Adds an actor to the list of actors that are currently active in the game.
      * If the actor is a placeable item, it is also added to the stage for rendering and interaction.
+     * While the active actors are updated, the actor is added at the end of the tick.
      *
      * @param item The actor to add.
      *
      * @author Mykola Isaiev
      */
     public void addActActor(Actor item) {
+        if (updatingActors) {
+            commands.add(() -> addActActor(item));
+            return;
+        }
         if (item instanceof PlaceableItem) {
             placeableItemExists = true;
             stage.addActor(item);
@@ -474,12 +503,17 @@ public abstract class GameMap {
     /**
      * Removes an actor from the list of actors that are currently active in the game.
      * If the actor is a placeable item, it is also removed from the stage.
+     * While the active actors are updated, the actor is removed at the end of the tick.
      *
      * @param item The actor to remove.
      *
      * @author Mykola Isaiev
      */
     public void removeActActor(Actor item) {
+        if (updatingActors) {
+            commands.add(() -> removeActActor(item));
+            return;
+        }
         if (item instanceof PlaceableItem) {
             placeableItemExists = false;
             item.remove();
@@ -520,6 +554,134 @@ public abstract class GameMap {
         stage.addActor(actor);
     }
 
+    /**
+     * Adds an item to the game world.
+     * The item is added to the layer of world items for rendering and interaction and an entity is created for its simulation.
+     *
+     * @param item The item to add.
+     *
+     * @author Mykola Isaiev
+     */
+    public void addWorldItem(Item item) {
+        worldItems.addActor(item);
+
+        Entity entity = new Entity();
+        TransformComponent transform = new TransformComponent();
+        transform.set(item.getX(), item.getY(), item.getWidth(), item.getHeight());
+        entity.add(transform);
+        entity.add(new ItemComponent(item));
+        item.setEntity(entity);
+        item.addComponents(entity);
+
+        engine.addEntity(entity);
+    }
+
+    /**
+     * Removes an item from the game world.
+     * The item is removed from the layer of world items, its entity is no longer simulated and the item is notified.
+     *
+     * @param item The item to remove.
+     *
+     * @author Mykola Isaiev
+     */
+    public void removeWorldItem(Item item) {
+        item.remove();
+
+        if (item.getEntity() != null) {
+            engine.removeEntity(item.getEntity());
+            item.setEntity(null);
+        }
+        item.removedFromWorld();
+    }
+
+    /**
+     * Returns the layer of the stage holding the items placed in the world.
+     *
+     * @return The layer of world items.
+     *
+     * @author Mykola Isaiev
+     */
+    public WorldItemLayer getWorldItems() {
+        return worldItems;
+    }
+
+    /**
+     * Returns the overview of the tiles of the map.
+     *
+     * @return The minimap.
+     *
+     * @author Mykola Isaiev
+     */
+    public Minimap getMinimap() {
+        return minimap;
+    }
+
+    /**
+     * Returns the pool of the raw resources extracted by drilling.
+     *
+     * @return The raw resource pool.
+     *
+     * @author Mykola Isaiev
+     */
+    public RawResourcePool getRawResourcePool() {
+        return rawResourcePool;
+    }
+
+    /**
+     * Returns the totals of the resources in the inventory of the player and in the placed storages.
+     *
+     * @return The resource ledger of the game map.
+     *
+     * @author Mykola Isaiev
+     */
+    public ResourceLedger getResourceLedger() {
+        return resourceLedger;
+    }
+
+    /**
+     * Returns the scheduler for timed actions which are executed during the simulation tick.
+     *
+     * @return The scheduler of the game map.
+     *
+     * @author Yehor Nesterenko
+     */
+    public TickScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Returns the worker pool running independent simulation work in parallel.
+     *
+     * @return The job system.
+     *
+     * @author Yehor Nesterenko
+     */
+    public JobSystem getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Returns the buffer of changes which are applied at the end of the tick.
+     *
+     * @return The command buffer.
+     *
+     * @author Yehor Nesterenko
+     */
+    public CommandBuffer getCommands() {
+        return commands;
+    }
+
+    /**
+     * Returns the engine that simulates all entities placed in the game world.
+     *
+     * @return The engine of the game world.
+     *
+     * @author Mykola Isaiev
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+
     /**
      * Removes an actor from the stage.
      *
@@ -553,38 +715,6 @@ public abstract class GameMap {
         return stage;
     }
 
-    /**
-     * Checks and counts the number of extractable resources in a specified area.
-     * This method iterates over all tiles in the specified area and counts the number of each type of extractable resource.
-     *
-     * @param coordinates The coordinates of the top-left corner of the area.
-     * @param width The width of the area.
-     * @param height The height of the area.
-     * @return A HashMap where the keys are the types of extractable resources and the values are the counts of each resource.
-     *
-     * @author Yehor Nesterenko
-     */
-    public HashMap<TileType, Integer> checkHowManyExtractableResourcesInArea(Vector2 coordinates, int width, int height){
-        HashMap<TileType, Integer> extractableTileCounts = new HashMap<>();
-
-        if (coordinates.x < 0 || coordinates.y < 0 || coordinates.x + width > getPixelWidth() || coordinates.y + height > getPixelHeight()) {
-            return extractableTileCounts;
-        }
-
-        for (int row = (int) (coordinates.y / TileType.TILE_SIZE); row < Math.ceil((coordinates.y + height) / TileType.TILE_SIZE); row++) {
-            for (int col = (int) (coordinates.x / TileType.TILE_SIZE); col < Math.ceil((coordinates.x + width) / TileType.TILE_SIZE); col++) {
-                for (int layer = 0; layer < getLayers(); layer++) {
-                    TileType type = getTileTypeByCoordinate(layer, col, row);
-
-                    if (type != null && type.isExtractable()) {
-                        extractableTileCounts.put(type, extractableTileCounts.getOrDefault(type, 0) + 1);
-                    }
-                }
-            }
-        }
-        return extractableTileCounts;
-    }
-
     /**
      * Returns the DragAndDrop instance used for handling drag and drop functionality in the game.
      *
@@ -597,22 +727,13 @@ public abstract class GameMap {
     }
 
     /**
-     * Returns the coordinates of all Oxygen Stations in the game.
-     * This method iterates over all active actors in the game and adds the coordinates of any Oxygen Stations to the list.
+     * Returns the oxygen coverage of the map.
      *
-     * @return An ArrayList of Vector2 objects representing the coordinates of all Oxygen Stations in the game.
+     * @return The oxygen coverage of the map.
      *
      * @author Mykola Isaiev
      */
-    public ArrayList<Vector2> getOxygenStationsCoordinates() {
-        ArrayList<Vector2> oxygenStationsCoordinates = new ArrayList<>();
-
-        for (Actor actor : actActors) {
-            if (actor instanceof OxygenStation) {
-                oxygenStationsCoordinates.add(new Vector2(actor.getX(), actor.getY()));
-            }
-        }
-
-        return oxygenStationsCoordinates;
+    public OxygenField getOxygenField() {
+        return oxygenField;
     }
 }
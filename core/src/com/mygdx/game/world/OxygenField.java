@@ -0,0 +1,165 @@
+package com.mygdx.game.world;
+
+import java.util.Arrays;
+
+/**
+ * Represents the oxygen coverage of the game map.
+ * The map is divided into a grid of cells and every cell stores how many working oxygen stations cover it.
+ * The grid is rebuilt by the oxygen system only when a station is installed, moved, removed, refueled or runs out of fuel,
+ * so checking whether a position has oxygen is a single array lookup.
+ *
+ * @author Mykola Isaiev
+ */
+public class OxygenField {
+    /**
+     * The size of a coverage cell in tiles.
+     */
+    public static final int CELL_SIZE = 1;
+
+    /**
+     * The radius around an oxygen station in which the player receives oxygen.
+     */
+    public static final float STATION_RADIUS = 500;
+
+    /**
+     * The width of the coverage grid in cells.
+     */
+    private final int columns;
+
+    /**
+     * The height of the coverage grid in cells.
+     */
+    private final int rows;
+
+    /**
+     * The number of working oxygen stations covering each cell.
+     */
+    private final short[] coverage;
+
+    /**
+     * Indicates whether the coverage has to be rebuilt.
+     */
+    private boolean dirty = false;
+
+    /**
+     * Constructor for creating an OxygenField instance.
+     *
+     * @param width The width of the map in tiles.
+     * @param height The height of the map in tiles.
+     *
+     * @author Mykola Isaiev
+     */
+    public OxygenField(int width, int height) {
+        this.columns = (width + CELL_SIZE - 1) / CELL_SIZE;
+        this.rows = (height + CELL_SIZE - 1) / CELL_SIZE;
+        this.coverage = new short[columns * rows];
+    }
+
+    /**
+     * Marks the coverage as outdated.
+     * This method should be called when a station was moved, refueled or ran out of fuel.
+     *
+     * @author Mykola Isaiev
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Checks if the coverage has to be rebuilt.
+     *
+     * @return True if the coverage is outdated, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Checks if the specified position in the world is covered by a working oxygen station.
+     *
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @return True if the position has oxygen, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isCovered(float x, float y) {
+        int col = (int) (x / (TileType.TILE_SIZE * CELL_SIZE));
+        int row = (int) (y / (TileType.TILE_SIZE * CELL_SIZE));
+        if (x < 0 || y < 0 || col >= columns || row >= rows) {
+            return false;
+        }
+
+        return coverage[row * columns + col] > 0;
+    }
+
+    /**
+     * Removes the coverage of all stations and marks the coverage as up to date.
+     * The coverage of the working stations should be added back with {@link #stamp(float, float, float)}.
+     *
+     * @author Mykola Isaiev
+     */
+    public void clear() {
+        Arrays.fill(coverage, (short) 0);
+        dirty = false;
+    }
+
+    /**
+     * Returns the height of the coverage grid.
+     *
+     * @return The number of rows of cells.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Adds the circle around the specified station position to the coverage.
+     * A cell is covered if its center is within the station radius.
+     *
+     * @param stationX The x-coordinate of the station.
+     * @param stationY The y-coordinate of the station.
+     * @param radius The radius in which the station provides oxygen.
+     *
+     * @author Mykola Isaiev
+     */
+    public void stamp(float stationX, float stationY, float radius) {
+        stamp(stationX, stationY, radius, 0, rows);
+    }
+
+    /**
+     * Adds the part of the circle around the specified station position within a band of rows to the coverage.
+     * Bands which do not overlap can be stamped at the same time on different threads.
+     *
+     * @param stationX The x-coordinate of the station.
+     * @param stationY The y-coordinate of the station.
+     * @param radius The radius in which the station provides oxygen.
+     * @param fromRow The first row of the band.
+     * @param toRow The row after the last row of the band.
+     *
+     * @author Mykola Isaiev
+     */
+    public void stamp(float stationX, float stationY, float radius, int fromRow, int toRow) {
+        float cellSize = TileType.TILE_SIZE * CELL_SIZE;
+        float radiusSquared = radius * radius;
+
+        int startCol = Math.max(0, (int) ((stationX - radius) / cellSize));
+        int endCol = Math.min(columns - 1, (int) ((stationX + radius) / cellSize));
+        int startRow = Math.max(fromRow, (int) ((stationY - radius) / cellSize));
+        int endRow = Math.min(toRow - 1, (int) ((stationY + radius) / cellSize));
+
+        for (int row = startRow; row <= endRow; row++) {
+            float dy = row * cellSize + cellSize / 2 - stationY;
+            for (int col = startCol; col <= endCol; col++) {
+                float dx = col * cellSize + cellSize / 2 - stationX;
+                if (dx * dx + dy * dy < radiusSquared) {
+                    coverage[row * columns + col]++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.mygdx.game.world;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.ecs.components.TransformComponent;
+import com.mygdx.game.inventory.model.CountListener;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.item.ItemType;
+
+/**
+ * Keeps the total quantity of every item type across the inventory of the player and all placed storages.
+ * Every registered inventory is followed through its count listener, so the totals change together with the inventories,
+ * including when a transaction is rolled back. Items taken from the storages by the ledger are removed inside
+ * transactions of the storages, which the caller commits or rolls back. Besides the totals, the ledger knows for every item type
+ * which inventories hold it, so finding a storage containing an item does not look at the slots of any storage.
+ *
+ * @author Mykola Isaiev
+ */
+public class ResourceLedger {
+    /**
+     * The total quantity of every item type, by the ID of the item type.
+     */
+    private final int[] totals = new int[ItemType.getIdCount()];
+
+    /**
+     * The registered inventories.
+     */
+    private final Array<Account> accounts = new Array<>();
+
+    /**
+     * The registered inventories holding at least one item of a type, by the ID of the item type.
+     */
+    private final Array<Array<Account>> holders = new Array<>(ItemType.getIdCount());
+
+    /**
+     * Constructor for creating a ResourceLedger instance with no registered inventories.
+     *
+     * @author Mykola Isaiev
+     */
+    public ResourceLedger() {
+        for (int i = 0; i < ItemType.getIdCount(); i++) {
+            holders.add(new Array<>(false, 4));
+        }
+    }
+
+    /**
+     * Registers an inventory, its content is added to the totals.
+     *
+     * @param inventory The inventory.
+     * @param transform The position of the storage holding the inventory, or null if it has no position in the world.
+     *
+     * @author Mykola Isaiev
+     */
+    public void add(InventoryModel inventory, TransformComponent transform) {
+        if (find(inventory) != null) {
+            return;
+        }
+
+        Account account = new Account(inventory, transform);
+        accounts.add(account);
+        for (int i = 0; i < totals.length; i++) {
+            account.countChanged(i);
+        }
+        inventory.addCountListener(account);
+    }
+
+    /**
+     * Unregisters an inventory, its content is removed from the totals.
+     *
+     * @param inventory The inventory.
+     *
+     * @author Mykola Isaiev
+     */
+    public void remove(InventoryModel inventory) {
+        Account account = find(inventory);
+        if (account == null) {
+            return;
+        }
+
+        inventory.removeCountListener(account);
+        for (int i = 0; i < totals.length; i++) {
+            account.update(i, 0);
+        }
+        accounts.removeValue(account, true);
+    }
+
+    /**
+     * Returns the total quantity of an item type in all registered inventories.
+     *
+     * @param typeId The ID of the item type.
+     * @return The total quantity.
+     *
+     * @author Mykola Isaiev
+     */
+    public int count(int typeId) {
+        return typeId >= 0 && typeId < totals.length ? totals[typeId] : 0;
+    }
+
+    /**
+     * Returns the total quantity of an item type in all registered inventories.
+     *
+     * @param type The item type.
+     * @return The total quantity.
+     *
+     * @author Mykola Isaiev
+     */
+    public int count(ItemType type) {
+        return totals[type.getId()];
+    }
+
+    /**
+     * Finds a registered inventory holding at least a quantity of an item type.
+     *
+     * @param typeId The ID of the item type.
+     * @param amount The required quantity.
+     * @return The inventory, or null if no inventory holds enough items.
+     *
+     * @author Mykola Isaiev
+     */
+    public InventoryModel find(int typeId, int amount) {
+        Array<Account> holding = holders.get(typeId);
+        for (int i = 0; i < holding.size; i++) {
+            if (holding.get(i).counts[typeId] >= amount) {
+                return holding.get(i).inventory;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the placed storage nearest to a position which holds an item type.
+     * Only the storages holding the item type are compared.
+     *
+     * @param typeId The ID of the item type.
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param maxDistance The maximum distance between the position and the storage.
+     * @return The inventory of the storage, or null if no storage in the distance holds the item type.
+     *
+     * @author Mykola Isaiev
+     */
+    public InventoryModel findNearest(int typeId, float x, float y, float maxDistance) {
+        Array<Account> holding = holders.get(typeId);
+        InventoryModel nearest = null;
+        float nearestDistance2 = maxDistance * maxDistance;
+        for (int i = 0; i < holding.size; i++) {
+            TransformComponent transform = holding.get(i).transform;
+            if (transform == null) {
+                continue;
+            }
+            float dx = transform.x - x;
+            float dy = transform.y - y;
+            float distance2 = dx * dx + dy * dy;
+            if (distance2 <= nearestDistance2) {
+                nearestDistance2 = distance2;
+                nearest = holding.get(i).inventory;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Returns the quantity of an item type in the placed storages near a position.
+     * Only the storages holding the item type are compared.
+     *
+     * @param typeId The ID of the item type.
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param maxDistance The maximum distance between the position and a storage.
+     * @return The total quantity in the storages in the distance.
+     *
+     * @author Mykola Isaiev
+     */
+    public int countNear(int typeId, float x, float y, float maxDistance) {
+        Array<Account> holding = holders.get(typeId);
+        int count = 0;
+        for (int i = 0; i < holding.size; i++) {
+            Account account = holding.get(i);
+            if (account.transform != null && account.isNear(x, y, maxDistance)) {
+                count += account.counts[typeId];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes a quantity of an item type from the placed storages near a position, from the nearest storage first.
+     * The items are removed inside a transaction of every storage: a transaction is opened when a storage is touched
+     * for the first time and the storage is added to the touched storages. The caller must commit or roll back
+     * the transactions of all touched storages, so the removals of several item types can be kept or reverted together.
+     *
+     * @param typeId The ID of the item type.
+     * @param amount The quantity to remove.
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param maxDistance The maximum distance between the position and a storage.
+     * @param touched The storages whose transaction is open, storages touched by this call are added.
+     * @return The quantity which was removed, less than the requested amount if the storages do not hold enough items.
+     *
+     * @author Mykola Isaiev
+     */
+    public int takeNearest(int typeId, int amount, float x, float y, float maxDistance, Array<InventoryModel> touched) {
+        int taken = 0;
+        while (taken < amount) {
+            // a storage which runs out of the type stops holding it, so the next search finds the next storage
+            InventoryModel storage = findNearest(typeId, x, y, maxDistance);
+            if (storage == null) {
+                break;
+            }
+            if (!touched.contains(storage, true)) {
+                storage.begin();
+                touched.add(storage);
+            }
+            int removed = storage.remove(typeId, amount - taken);
+            if (removed == 0) {
+                break;
+            }
+            taken += removed;
+        }
+        return taken;
+    }
+
+    /**
+     * Returns the account of a registered inventory.
+     *
+     * @param inventory The inventory.
+     * @return The account, or null if the inventory is not registered.
+     */
+    private Account find(InventoryModel inventory) {
+        for (int i = 0; i < accounts.size; i++) {
+            if (accounts.get(i).inventory == inventory) {
+                return accounts.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The quantities of one registered inventory, as they were last added to the totals.
+     *
+     * @author Mykola Isaiev
+     */
+    private class Account implements CountListener {
+        /**
+         * The registered inventory.
+         */
+        private final InventoryModel inventory;
+
+        /**
+         * The position of the storage holding the inventory, or null if it has no position in the world.
+         */
+        private final TransformComponent transform;
+
+        /**
+         * The quantity of every item type added to the totals, by the ID of the item type.
+         */
+        private final int[] counts = new int[totals.length];
+
+        /**
+         * Constructor for creating an Account instance.
+         *
+         * @param inventory The registered inventory.
+         * @param transform The position of the storage holding the inventory.
+         *
+         * @author Mykola Isaiev
+         */
+        private Account(InventoryModel inventory, TransformComponent transform) {
+            this.inventory = inventory;
+            this.transform = transform;
+        }
+
+        /**
+         * Checks if the storage holding the inventory is near a position.
+         *
+         * @param x The x-coordinate of the position.
+         * @param y The y-coordinate of the position.
+         * @param maxDistance The maximum distance between the position and the storage.
+         * @return True if the storage is in the distance, false otherwise.
+         *
+         * @author Mykola Isaiev
+         */
+        private boolean isNear(float x, float y, float maxDistance) {
+            float dx = transform.x - x;
+            float dy = transform.y - y;
+            return dx * dx + dy * dy <= maxDistance * maxDistance;
+        }
+
+        /**
+         * Reads the new quantity of an item type from the inventory.
+         *
+         * @param typeId The ID of the item type whose quantity changed.
+         *
+         * @author Mykola Isaiev
+         */
+        @Override
+        public void countChanged(int typeId) {
+            if (typeId >= 0 && typeId < counts.length) {
+                update(typeId, inventory.count(typeId));
+            }
+        }
+
+        /**
+         * Applies the difference to the last known quantity of an item type to the totals and to the holders.
+         *
+         * @param typeId The ID of the item type.
+         * @param count The new quantity.
+         *
+         * @author Mykola Isaiev
+         */
+        private void update(int typeId, int count) {
+            int previous = counts[typeId];
+            if (count == previous) {
+                return;
+            }
+
+            counts[typeId] = count;
+            totals[typeId] += count - previous;
+            if (previous == 0) {
+                holders.get(typeId).add(this);
+            } else if (count == 0) {
+                holders.get(typeId).removeValue(this, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.mygdx.game.world;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Sorts the actors placed in the world into coarse square cells, so the actors in an area are found
+ * without looking at the actors anywhere else.
+ * Every actor is kept in the cell of its bottom left corner, the actors must not be larger than a cell.
+ * A query therefore also looks at the cells left of and below the area, which may hold actors reaching into it.
+ * Actors outside the world are kept in the nearest cell at the border.
+ *
+ * @author Mykola Isaiev
+ */
+public class SpatialGrid {
+    /**
+     * The width and the height of a cell in pixels.
+     */
+    private final float cellSize;
+
+    /**
+     * The number of cells in a row.
+     */
+    private final int columns;
+
+    /**
+     * The number of rows of cells.
+     */
+    private final int rows;
+
+    /**
+     * The actors of every cell, by the index of the cell.
+     */
+    private final Array<Array<Actor>> cells;
+
+    /**
+     * The index of the cell holding every actor of the grid.
+     */
+    private final ObjectIntMap<Actor> cellOf = new ObjectIntMap<>();
+
+    /**
+     * Constructor for creating an empty SpatialGrid instance.
+     *
+     * @param width The width of the world in pixels.
+     * @param height The height of the world in pixels.
+     * @param cellSize The width and the height of a cell in pixels, at least the size of the largest actor.
+     *
+     * @author Mykola Isaiev
+     */
+    public SpatialGrid(float width, float height, float cellSize) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, MathUtils.ceil(width / cellSize));
+        this.rows = Math.max(1, MathUtils.ceil(height / cellSize));
+        this.cells = new Array<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            cells.add(new Array<>(false, 4));
+        }
+    }
+
+    /**
+     * Adds an actor at its current position.
+     *
+     * @param actor The actor.
+     *
+     * @author Mykola Isaiev
+     */
+    public void add(Actor actor) {
+        if (cellOf.containsKey(actor)) {
+            update(actor);
+            return;
+        }
+        int cell = cellAt(actor.getX(), actor.getY());
+        cells.get(cell).add(actor);
+        cellOf.put(actor, cell);
+    }
+
+    /**
+     * Removes an actor.
+     *
+     * @param actor The actor.
+     *
+     * @author Mykola Isaiev
+     */
+    public void remove(Actor actor) {
+        int cell = cellOf.remove(actor, -1);
+        if (cell != -1) {
+            cells.get(cell).removeValue(actor, true);
+        }
+    }
+
+    /**
+     * Moves an actor to the cell of its current position. Must be called whenever an actor of the grid moves.
+     *
+     * @param actor The actor.
+     *
+     * @author Mykola Isaiev
+     */
+    public void update(Actor actor) {
+        int previous = cellOf.get(actor, -1);
+        if (previous == -1) {
+            return;
+        }
+        int cell = cellAt(actor.getX(), actor.getY());
+        if (cell != previous) {
+            cells.get(previous).removeValue(actor, true);
+            cells.get(cell).add(actor);
+            cellOf.put(actor, cell);
+        }
+    }
+
+    /**
+     * Finds the actors whose bounds overlap an area.
+     *
+     * @param x The x-coordinate of the bottom left corner of the area.
+     * @param y The y-coordinate of the bottom left corner of the area.
+     * @param width The width of the area.
+     * @param height The height of the area.
+     * @param result The array the actors are added to, it is not cleared.
+     *
+     * @author Mykola Isaiev
+     */
+    public void query(float x, float y, float width, float height, Array<Actor> result) {
+        int firstColumn = column(x - cellSize);
+        int lastColumn = column(x + width);
+        int firstRow = row(y - cellSize);
+        int lastRow = row(y + height);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                Array<Actor> cell = cells.get(row * columns + column);
+                for (int i = 0; i < cell.size; i++) {
+                    Actor actor = cell.get(i);
+                    if (actor.getX() < x + width && actor.getX() + actor.getWidth() > x
+                            && actor.getY() < y + height && actor.getY() + actor.getHeight() > y) {
+                        result.add(actor);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of actors in the grid.
+     *
+     * @return The number of actors.
+     *
+     * @author Mykola Isaiev
+     */
+    public int size() {
+        return cellOf.size;
+    }
+
+    /**
+     * Returns the index of the cell containing a position.
+     *
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @return The index of the cell.
+     */
+    private int cellAt(float x, float y) {
+        return row(y) * columns + column(x);
+    }
+
+    /**
+     * Returns the column of the cells containing an x-coordinate, clamped to the grid.
+     *
+     * @param x The x-coordinate.
+     * @return The column.
+     */
+    private int column(float x) {
+        return MathUtils.clamp(MathUtils.floor(x / cellSize), 0, columns - 1);
+    }
+
+    /**
+     * Returns the row of the cells containing a y-coordinate, clamped to the grid.
+     *
+     * @param y The y-coordinate.
+     * @return The row.
+     */
+    private int row(float y) {
+        return MathUtils.clamp(MathUtils.floor(y / cellSize), 0, rows - 1);
+    }
+}
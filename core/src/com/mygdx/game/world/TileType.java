@@ -5,71 +5,71 @@ import java.util.HashMap;
 /**
  * Represents the types of tiles that can exist in the game.
  * This enum includes various types of grass, stone, ores, decorations, and sky.
- * Each tile type has an ID, a collidable property, a name, and an extractable property.
+ * Each tile type has an ID, a collidable property, a name, an extractable property and a hardness.
  *
  * @author Mykola Isaiev
  */
 public enum TileType {
 
     //GRASS
-    TOP_GRASS1(1,true, "Top Grass 1"),
-    GRASS1(2,true, "Grass 1"),
-    TOP_GRASS2(3,true, "Top Grass 2"),
-    GRASS2(4,true, "Grass 2"),
-    TOP_GRASS3(5,true, "Top Grass 3"),
-    GRASS3(6,true, "Grass 3"),
-    TOP_GRASS4(7,true, "Top Grass 4"),
-    GRASS4(8,true, "Grass 4"),
-    TOP_GRASS5(9,true, "Top Grass 5"),
-    GRASS5(10,true, "Grass 5"),
+    TOP_GRASS1(1,true, "Top Grass 1", 0.4f),
+    GRASS1(2,true, "Grass 1", 0.4f),
+    TOP_GRASS2(3,true, "Top Grass 2", 0.4f),
+    GRASS2(4,true, "Grass 2", 0.4f),
+    TOP_GRASS3(5,true, "Top Grass 3", 0.4f),
+    GRASS3(6,true, "Grass 3", 0.4f),
+    TOP_GRASS4(7,true, "Top Grass 4", 0.4f),
+    GRASS4(8,true, "Grass 4", 0.4f),
+    TOP_GRASS5(9,true, "Top Grass 5", 0.4f),
+    GRASS5(10,true, "Grass 5", 0.4f),
 
     //STONE
-    STONE(11,true, "Stone"),
-    DEEP_STONE(24,true, "Deep Stone"),
+    STONE(11,true, "Stone", 0.65f),
+    DEEP_STONE(24,true, "Deep Stone", 1f),
 
     //ORES
-    COPPER_SMALL(12,true, "Copper", true),
-    COPPER_BIG(13,true, "Copper", true),
+    COPPER_SMALL(12,true, "Copper", true, 0.8f),
+    COPPER_BIG(13,true, "Copper", true, 1.1f),
 
-    COAL_SMALL(14,true, "Coal", true),
-    COAL_BIG(15,true, "Coal", true),
+    COAL_SMALL(14,true, "Coal", true, 0.8f),
+    COAL_BIG(15,true, "Coal", true, 1.1f),
 
-    ALUMINIUM_SMALL(16,true, "Aluminium", true),
-    ALUMINIUM_BIG(17,true, "Aluminium", true),
+    ALUMINIUM_SMALL(16,true, "Aluminium", true, 0.8f),
+    ALUMINIUM_BIG(17,true, "Aluminium", true, 1.1f),
 
-    RESIN_SMALL(18,true, "Resin", true),
-    RESIN_BIG(19,true, "Resin", true),
+    RESIN_SMALL(18,true, "Resin", true, 0.8f),
+    RESIN_BIG(19,true, "Resin", true, 1.1f),
 
-    IRON_SMALL(20,true, "Iron", true),
-    IRON_BIG(21,true, "Iron", true),
+    IRON_SMALL(20,true, "Iron", true, 0.8f),
+    IRON_BIG(21,true, "Iron", true, 1.1f),
 
-    COMPOUND_SMALL(22,true, "Compound", true),
-    COMPOUND_BIG(23,true, "Compound", true),
+    COMPOUND_SMALL(22,true, "Compound", true, 0.8f),
+    COMPOUND_BIG(23,true, "Compound", true, 1.1f),
 
-    DEEP_RUBY_SMALL(25,true, "Ruby", true),
-    DEEP_RUBY_BIG(26,true, "Ruby", true),
+    DEEP_RUBY_SMALL(25,true, "Ruby", true, 1.3f),
+    DEEP_RUBY_BIG(26,true, "Ruby", true, 1.3f),
 
     //PLAYER`S SOIL
-    PLAYER_SOIL(27,true, "Player Soil"),
+    PLAYER_SOIL(27,true, "Player Soil", 0.3f),
 
     //DECORATIONS
-    FLOWER1(28, true, "Flower2"),
-    FLOWER2(29, true, "Flower2"),
-    FLOWER3(30, true, "Flower3"),
-    FLOWER4(31, true, "Flower4"),
+    FLOWER1(28, true, "Flower2", 0.1f),
+    FLOWER2(29, true, "Flower2", 0.1f),
+    FLOWER3(30, true, "Flower3", 0.1f),
+    FLOWER4(31, true, "Flower4", 0.1f),
 
-    ROCK1(32, true, "Rock1"),
-    ROCK2(33, true, "Rock2"),
+    ROCK1(32, true, "Rock1", 0.5f),
+    ROCK2(33, true, "Rock2", 0.5f),
 
-    ORGANIC1(34, true, "Organic1"),
-    ORGANIC2(35, true, "Organic2"),
-    ORGANIC3(36, true, "Organic3"),
-    ORGANIC4(37, true, "Organic2"),
+    ORGANIC1(34, true, "Organic1", 0.1f),
+    ORGANIC2(35, true, "Organic2", 0.1f),
+    ORGANIC3(36, true, "Organic3", 0.1f),
+    ORGANIC4(37, true, "Organic2", 0.1f),
 
 
     //SKY
-    SKY(38, false, "Sky"),
-    CLOUD(39, false, "Cloud");
+    SKY(38, false, "Sky", 0),
+    CLOUD(39, false, "Cloud", 0);
 
 
     /**
@@ -97,6 +97,11 @@ public enum TileType {
      */
     private boolean extractable;
 
+    /**
+     * The time in seconds a drill of power 1 needs to break a tile of this type.
+     */
+    private float hardness;
+
     /**
      * Returns whether the tile type is extractable.
      *
@@ -115,14 +120,16 @@ public enum TileType {
      * @param collidable Whether the tile type is collidable.
      * @param name The name of the tile type.
      * @param extractable Whether the tile type is extractable.
+     * @param hardness The time in seconds a drill of power 1 needs to break a tile of this type.
      *
      * @author Mykola Isaiev
      */
-    TileType(int id, boolean collidable, String name, boolean extractable){
+    TileType(int id, boolean collidable, String name, boolean extractable, float hardness){
         this.id = id;
         this.collidable = collidable;
         this.name = name;
         this.extractable = extractable;
+        this.hardness = hardness;
     }
 
     /**
@@ -131,13 +138,15 @@ public enum TileType {
      * @param id The ID of the tile type.
      * @param collidable Whether the tile type is collidable.
      * @param name The name of the tile type.
+     * @param hardness The time in seconds a drill of power 1 needs to break a tile of this type.
      *
      * @author Mykola Isaiev
      */
-    TileType(int id, boolean collidable, String name){
+    TileType(int id, boolean collidable, String name, float hardness){
         this.id = id;
         this.collidable = collidable;
         this.name = name;
+        this.hardness = hardness;
         extractable = false;
     }
 
@@ -174,6 +183,17 @@ public enum TileType {
         return collidable;
     }
 
+    /**
+     * Returns the time in seconds a drill of power 1 needs to break a tile of this type.
+     *
+     * @return The hardness of the tile type.
+     *
+     * @author Mykola Isaiev
+     */
+    public float getHardness() {
+        return hardness;
+    }
+
     /**
      * A map from tile type IDs to tile types.
      */
@@ -6,9 +6,11 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
+import com.mygdx.game.assets.AssetManifest;
+import com.mygdx.game.assets.Assets;
 
 import java.util.ArrayList;
 import java.util.Random;
@@ -44,6 +46,24 @@ public class TiledGameMap extends GameMap {
      */
     ExtendViewport viewport;
 
+    /**
+     * Pool of the cells removed from the map, reused when a tile is set on an empty position.
+     */
+    private final Pool<TiledMapTileLayer.Cell> cellPool = new Pool<TiledMapTileLayer.Cell>() {
+        @Override
+        protected TiledMapTileLayer.Cell newObject() {
+            return new TiledMapTileLayer.Cell();
+        }
+
+        @Override
+        protected void reset(TiledMapTileLayer.Cell cell) {
+            cell.setTile(null);
+            cell.setFlipHorizontally(false);
+            cell.setFlipVertically(false);
+            cell.setRotation(TiledMapTileLayer.Cell.ROTATE_0);
+        }
+    };
+
     /**
      * Constructor for creating a TiledGameMap instance.
      * This constructor also sets up the camera, viewport, and renderer, and generates the terrain for the map.
@@ -53,9 +73,7 @@ public class TiledGameMap extends GameMap {
         cam.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         viewport = new ExtendViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), cam);
 
-        tiledmap = new TiledMap();
-        TmxMapLoader mapLoader = new TmxMapLoader();
-        tiledmap = mapLoader.load("map/map.tmx");
+        tiledmap = Assets.get(AssetManifest.MAP, TiledMap.class);
         clearTiles();
 
         int mapWidth = 2001;
@@ -64,12 +82,15 @@ public class TiledGameMap extends GameMap {
         float[][] heightmap = voice.generatePerlinNoise(mapWidth, mapHeight);
         generateTerrain(heightmap);
         tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledmap, 1);
+        setupSimulation();
 
         player.setPosition(2500, findHighestPoint(2500) + 10);
     }
 
     /**
      * Sets the tile at the specified coordinate in the specified layer to the specified type.
+     * The cell already at the coordinate is reused, a new cell is only taken from the pool for an empty position.
+     * Once the simulation is set up, the change is also drawn on the minimap.
      *
      * @param layer The layer of the tile to set.
      * @param col The column of the tile to set.
@@ -79,9 +100,16 @@ public class TiledGameMap extends GameMap {
      * @author Mykola Isaiev
      */
     public void setTileByCoordinate(int layer, int col, int row, TileType type){
-        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        TiledMapTileLayer tileLayer = (TiledMapTileLayer) tiledmap.getLayers().get(layer);
+        TiledMapTileLayer.Cell cell = tileLayer.getCell(col, row);
+        if (cell == null) {
+            cell = cellPool.obtain();
+            tileLayer.setCell(col, row, cell);
+        }
         cell.setTile(tiledmap.getTileSets().getTile(type.getId()));
-        ((TiledMapTileLayer) tiledmap.getLayers().get(layer)).setCell(col, row, cell);
+        if (minimap != null) {
+            minimap.tileChanged(col, row);
+        }
     }
 
     /**
@@ -186,7 +214,9 @@ public class TiledGameMap extends GameMap {
 
     @Override
     public void dipsose() {
-        tiledmap.dispose();
+        minimap.dispose();
+        jobs.dispose();
+        Assets.release(AssetManifest.MAP);
     }
 
     /**
@@ -238,7 +268,11 @@ public class TiledGameMap extends GameMap {
             int layerHeight = layer.getHeight();
             for (int col = 0; col < layerWidth; col++) {
                 for (int row = 0; row < layerHeight; row++) {
-                    layer.setCell(col, row, null);
+                    TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                    if (cell != null) {
+                        cellPool.free(cell);
+                        layer.setCell(col, row, null);
+                    }
                 }
             }
         }
@@ -0,0 +1,211 @@
+package com.mygdx.game.world;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Comparator;
+
+/**
+ * Holds the items placed in the world and draws only those in the view of the camera.
+ * The items are sorted into a spatial grid, so drawing and hit testing look only at the cells around the view
+ * or the pointer, whatever the number of items placed elsewhere in the world.
+ * The items found in the grid are sorted back into the order of the children, so items added later are drawn above
+ * and hit before the items added earlier, as in any group. Items must be added with {@link #addActor(Actor)},
+ * the order of the children must not be changed otherwise.
+ * The layer must stay at the origin of the stage, its children are positioned in world coordinates.
+ *
+ * @author Mykola Isaiev
+ */
+public class WorldItemLayer extends Group {
+    /**
+     * The width and the height of a cell of the grid in pixels, larger than the largest item.
+     */
+    public static final float CELL_SIZE = 256;
+
+    /**
+     * The items sorted by their position.
+     */
+    private final SpatialGrid grid;
+
+    /**
+     * The number stamped on every item when it is added, increasing in the order of the children.
+     */
+    private final ObjectIntMap<Actor> addedOrder = new ObjectIntMap<>();
+
+    /**
+     * Sorts the found items into the order of the children.
+     */
+    private final Comparator<Actor> byAddedOrder = (a, b) -> Integer.compare(addedOrder.get(a, 0), addedOrder.get(b, 0));
+
+    /**
+     * The number stamped on the next added item.
+     */
+    private int nextOrder;
+
+    /**
+     * The items found in the view or under the pointer, reused for every query.
+     */
+    private final Array<Actor> found = new Array<>(false, 64);
+
+    /**
+     * The position of the pointer in the coordinates of an item, reused for every hit test.
+     */
+    private final Vector2 point = new Vector2();
+
+    /**
+     * The number of items drawn in the last frame.
+     */
+    private int drawnCount;
+
+    /**
+     * The number of items skipped in the last frame because they were not in the view.
+     */
+    private int skippedCount;
+
+    /**
+     * Constructor for creating an empty WorldItemLayer instance.
+     *
+     * @param width The width of the world in pixels.
+     * @param height The height of the world in pixels.
+     *
+     * @author Mykola Isaiev
+     */
+    public WorldItemLayer(float width, float height) {
+        grid = new SpatialGrid(width, height, CELL_SIZE);
+        setTransform(false);
+    }
+
+    /**
+     * Adds an item to the layer and to the grid, above the items added before.
+     *
+     * @param actor The item.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void addActor(Actor actor) {
+        super.addActor(actor);
+        grid.add(actor);
+        addedOrder.put(actor, nextOrder++);
+    }
+
+    /**
+     * Removes an item from the layer and from the grid, also when it is added to another group.
+     *
+     * @param actor The item.
+     * @param unfocus True if the item loses the keyboard and scroll focus.
+     * @return True if the item was a child of the layer, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public boolean removeActor(Actor actor, boolean unfocus) {
+        if (!super.removeActor(actor, unfocus)) {
+            return false;
+        }
+        grid.remove(actor);
+        addedOrder.remove(actor, 0);
+        return true;
+    }
+
+    /**
+     * Moves an item to the cell of its new position. Must be called whenever an item of the layer moves.
+     *
+     * @param actor The item.
+     *
+     * @author Mykola Isaiev
+     */
+    public void moved(Actor actor) {
+        grid.update(actor);
+    }
+
+    /**
+     * Returns the number of items drawn in the last frame.
+     *
+     * @return The number of drawn items.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /**
+     * Returns the number of items skipped in the last frame because they were not in the view.
+     *
+     * @return The number of skipped items.
+     *
+     * @author Mykola Isaiev
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Draws the items overlapping the view of the camera of the stage, the zoom of the camera included,
+     * in the order of the children.
+     *
+     * @param batch The batch to draw with.
+     * @param parentAlpha The alpha of the parent.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    protected void drawChildren(Batch batch, float parentAlpha) {
+        OrthographicCamera camera = (OrthographicCamera) getStage().getCamera();
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+
+        found.clear();
+        grid.query(camera.position.x - width / 2, camera.position.y - height / 2, width, height, found);
+        drawnCount = found.size;
+        skippedCount = grid.size() - found.size;
+        found.sort(byAddedOrder);
+
+        parentAlpha *= getColor().a;
+        for (int i = 0; i < found.size; i++) {
+            Actor actor = found.get(i);
+            if (actor.isVisible()) {
+                actor.draw(batch, parentAlpha);
+            }
+        }
+        found.clear();
+    }
+
+    /**
+     * Finds the topmost item under a position, only the items in the cells around the position are tested.
+     *
+     * @param x The x-coordinate of the position.
+     * @param y The y-coordinate of the position.
+     * @param touchable True if only touchable items are hit.
+     * @return The hit actor, or null if there is no item at the position.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public Actor hit(float x, float y, boolean touchable) {
+        if ((touchable && getTouchable() == Touchable.disabled) || !isVisible()) {
+            return null;
+        }
+
+        found.clear();
+        grid.query(x, y, 0, 0, found);
+        found.sort(byAddedOrder);
+        Actor hit = null;
+        for (int i = found.size - 1; i >= 0 && hit == null; i--) {
+            Actor actor = found.get(i);
+            if (actor.isVisible()) {
+                actor.parentToLocalCoordinates(point.set(x, y));
+                hit = actor.hit(point.x, point.y, touchable);
+            }
+        }
+        found.clear();
+        return hit;
+    }
+}
@@ -0,0 +1,297 @@
+package com.mygdx.game.inventory.model;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.mygdx.game.inventory.ItemSize;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the slots, the indexes and the transactions of {@link InventoryModel}.
+ *
+ * @author Mykola Isaiev
+ */
+public class InventoryModelTest {
+    /**
+     * The item type ID of the stacks of coal.
+     */
+    private static final int COAL = 1;
+
+    /**
+     * The item type ID of the stacks of iron.
+     */
+    private static final int IRON = 2;
+
+    /**
+     * A model with three small slots and one big slot.
+     */
+    private InventoryModel model;
+
+    /**
+     * The slots reported to the inventory listener, in the order of the notifications.
+     */
+    private final IntArray changedSlots = new IntArray();
+
+    /**
+     * The item type IDs reported to the count listener, in the order of the notifications.
+     */
+    private final IntArray changedCounts = new IntArray();
+
+    @Before
+    public void setUp() {
+        model = new InventoryModel(ItemSize.SMALL, ItemSize.SMALL, ItemSize.SMALL, ItemSize.BIG);
+        model.setListener((slot, previous) -> changedSlots.add(slot));
+        model.addCountListener(changedCounts::add);
+    }
+
+    @Test
+    public void putStoresStackInEmptySlot() {
+        TestStack coal = new TestStack(COAL, 5);
+
+        assertTrue(model.put(1, coal));
+
+        assertSame(coal, model.get(1));
+        assertEquals(1, model.indexOf(coal));
+        assertEquals(5, model.count(COAL));
+        assertEquals(1, changedSlots.size);
+        assertEquals(1, changedSlots.first());
+        assertTrue(changedCounts.contains(COAL));
+    }
+
+    @Test
+    public void putRejectsOccupiedSmallAndAlreadyStoredSlots() {
+        TestStack coal = new TestStack(COAL, 5);
+        model.put(0, coal);
+
+        assertFalse(model.put(0, new TestStack(IRON, 1)));
+        assertFalse(model.put(1, new TestStack(IRON, 1, ItemSize.BIG, false)));
+        assertFalse(model.put(2, coal));
+        assertEquals(0, model.indexOf(coal));
+    }
+
+    @Test
+    public void wrappedStackFitsIntoSlotOneSizeSmaller() {
+        assertTrue(model.put(0, new TestStack(IRON, 1, ItemSize.MEDIUM, true)));
+    }
+
+    @Test
+    public void takeEmptiesSlotAndForgetsStack() {
+        TestStack coal = new TestStack(COAL, 5);
+        model.put(2, coal);
+
+        assertSame(coal, model.take(2));
+
+        assertNull(model.get(2));
+        assertEquals(InventoryModel.NO_SLOT, model.indexOf(coal));
+        assertEquals(0, model.count(COAL));
+        assertFalse(model.contains(COAL));
+    }
+
+    @Test
+    public void indexOfFollowsStackMovedBetweenSlots() {
+        TestStack coal = new TestStack(COAL, 5);
+        model.put(0, coal);
+
+        model.take(0);
+        model.put(3, coal);
+
+        assertEquals(3, model.indexOf(coal));
+        assertEquals(InventoryModel.NO_SLOT, new InventoryModel(2, ItemSize.SMALL).indexOf(coal));
+    }
+
+    @Test
+    public void addMergesIntoStoredStacksAndDisposesMergedStack() {
+        TestStack stored = new TestStack(COAL, 60);
+        model.put(0, stored);
+        TestStack added = new TestStack(COAL, 3);
+
+        assertTrue(model.add(added));
+
+        assertEquals(63, stored.getCount());
+        assertEquals(0, added.getCount());
+        assertTrue(added.isDisposed());
+        assertEquals(63, model.count(COAL));
+    }
+
+    @Test
+    public void addPutsRestIntoFreeSlot() {
+        TestStack stored = new TestStack(COAL, 60);
+        model.put(0, stored);
+        TestStack added = new TestStack(COAL, 10);
+
+        assertTrue(model.add(added));
+
+        assertEquals(InventoryModel.MAX_STACK, stored.getCount());
+        assertEquals(1, model.indexOf(added));
+        assertEquals(6, added.getCount());
+        assertEquals(70, model.count(COAL));
+    }
+
+    @Test
+    public void addFailsWhenNoSlotIsFree() {
+        for (int i = 0; i < model.getSlotCount(); i++) {
+            model.put(i, new TestStack(IRON, 1, ItemSize.SMALL, true));
+        }
+
+        assertFalse(model.add(new TestStack(COAL, 1)));
+    }
+
+    @Test
+    public void mergeMovesAtMostUpToFullStack() {
+        TestStack target = new TestStack(COAL, 62);
+        model.put(0, target);
+        TestStack source = new TestStack(COAL, 5);
+
+        assertEquals(2, model.merge(0, source));
+
+        assertEquals(InventoryModel.MAX_STACK, target.getCount());
+        assertEquals(3, source.getCount());
+        assertEquals(0, model.merge(0, new TestStack(IRON, 1)));
+    }
+
+    @Test
+    public void splitMovesQuantityToFirstFreeSlot() {
+        TestStack coal = new TestStack(COAL, 10);
+        model.put(1, coal);
+
+        int slot = model.split(1, 4);
+
+        assertEquals(0, slot);
+        assertEquals(6, coal.getCount());
+        assertEquals(4, model.get(0).getCount());
+        assertEquals(10, model.count(COAL));
+        assertEquals(InventoryModel.NO_SLOT, model.split(1, 6));
+    }
+
+    @Test
+    public void removeByTypeTakesLastStacksFirstAndDisposesEmptyOnes() {
+        TestStack first = new TestStack(COAL, 10);
+        TestStack last = new TestStack(COAL, 3);
+        model.put(0, first);
+        model.put(1, last);
+
+        assertEquals(5, model.remove(COAL, 5));
+
+        assertEquals(8, first.getCount());
+        assertNull(model.get(1));
+        assertTrue(last.isDisposed());
+        assertEquals(8, model.count(COAL));
+        assertEquals(8, model.remove(COAL, 20));
+    }
+
+    @Test
+    public void craftingSlotIsNotCounted() {
+        model.setCraftingSlot(3);
+        TestStack shown = new TestStack(IRON, 1);
+
+        model.put(3, shown);
+
+        assertEquals(3, model.indexOf(shown));
+        assertEquals(0, model.count(IRON));
+        assertEquals(InventoryModel.NO_SLOT, model.findFreeSlot(ItemSize.BIG));
+    }
+
+    @Test
+    public void commitKeepsChangesAndDisposesConsumedStacks() {
+        TestStack coal = new TestStack(COAL, 4);
+        model.put(0, coal);
+
+        model.begin();
+        model.remove(COAL, 4);
+        assertFalse(coal.isDisposed());
+        model.commit();
+
+        assertTrue(coal.isDisposed());
+        assertNull(model.get(0));
+        assertEquals(0, model.count(COAL));
+    }
+
+    @Test
+    public void rollbackRestoresStacksAndCounts() {
+        TestStack coal = new TestStack(COAL, 10);
+        TestStack iron = new TestStack(IRON, 2);
+        model.put(0, coal);
+        model.put(1, iron);
+
+        model.begin();
+        model.remove(COAL, 4);
+        model.remove(IRON, 2);
+        TestStack added = new TestStack(IRON, 1);
+        model.put(2, added);
+        model.rollback();
+
+        assertSame(coal, model.get(0));
+        assertSame(iron, model.get(1));
+        assertNull(model.get(2));
+        assertEquals(10, coal.getCount());
+        assertEquals(2, iron.getCount());
+        assertFalse(iron.isDisposed());
+        assertEquals(10, model.count(COAL));
+        assertEquals(2, model.count(IRON));
+        assertEquals(1, model.indexOf(iron));
+        assertEquals(InventoryModel.NO_SLOT, model.indexOf(added));
+    }
+
+    @Test
+    public void rollbackNotifiesListenersOfChangedSlotsAndCounts() {
+        model.put(0, new TestStack(COAL, 10));
+        model.put(1, new TestStack(IRON, 2));
+
+        model.begin();
+        model.remove(COAL, 4);
+        changedSlots.clear();
+        changedCounts.clear();
+        model.rollback();
+
+        assertEquals(1, changedSlots.size);
+        assertEquals(0, changedSlots.first());
+        assertTrue(changedCounts.contains(COAL));
+    }
+
+    @Test
+    public void rollbackNotifiesFinalCountOfTypeAddedInTransaction() {
+        int[] seen = new int[IRON + 1];
+        model.addCountListener(typeId -> seen[typeId] = model.count(typeId));
+        model.put(0, new TestStack(COAL, 10));
+
+        model.begin();
+        model.remove(COAL, 4);
+        model.add(new TestStack(IRON, 3));
+        assertEquals(3, seen[IRON]);
+        model.rollback();
+
+        assertEquals(0, seen[IRON]);
+        assertEquals(10, seen[COAL]);
+    }
+
+    @Test
+    public void transactionCanBeOpenedAgainAfterRollback() {
+        model.begin();
+        model.rollback();
+        model.begin();
+        model.commit();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void beginFailsWhileTransactionIsOpen() {
+        model.begin();
+        model.begin();
+    }
+
+    @Test
+    public void getStacksOfClassFollowsChanges() {
+        TestStack coal = new TestStack(COAL, 1);
+        model.put(0, coal);
+
+        assertEquals(1, model.getStacksOfClass(TestStack.class).size);
+        model.take(0);
+        assertEquals(0, model.getStacksOfClass(TestStack.class).size);
+        model.put(1, new TestStack(IRON, 1, ItemSize.SMALL, true));
+        assertEquals(0, model.getStacksOfClass(TestStack.class).size);
+    }
+}
@@ -0,0 +1,148 @@
+package com.mygdx.game.inventory.model;
+
+import com.mygdx.game.inventory.ItemSize;
+
+/**
+ * A plain stack for the tests of the inventory model and of the classes following it, without actors or textures.
+ * Stacks of the same type ID can be merged unless they are wrapped.
+ *
+ * @author Mykola Isaiev
+ */
+public class TestStack implements ItemStack {
+    /**
+     * The ID of the item type.
+     */
+    private final int typeId;
+
+    /**
+     * The size of the item.
+     */
+    private final ItemSize size;
+
+    /**
+     * Indicates whether the item is wrapped.
+     */
+    private final boolean wrapped;
+
+    /**
+     * The number of items in the stack.
+     */
+    private int count;
+
+    /**
+     * The model storing the stack.
+     */
+    private InventoryModel model;
+
+    /**
+     * The slot storing the stack.
+     */
+    private int slot = InventoryModel.NO_SLOT;
+
+    /**
+     * Indicates whether the stack was disposed.
+     */
+    private boolean disposed;
+
+    /**
+     * Constructor for creating an unwrapped small TestStack instance.
+     *
+     * @param typeId The ID of the item type.
+     * @param count The number of items.
+     *
+     * @author Mykola Isaiev
+     */
+    public TestStack(int typeId, int count) {
+        this(typeId, count, ItemSize.SMALL, false);
+    }
+
+    /**
+     * Constructor for creating a TestStack instance.
+     *
+     * @param typeId The ID of the item type.
+     * @param count The number of items.
+     * @param size The size of the item.
+     * @param wrapped Indicates whether the item is wrapped.
+     *
+     * @author Mykola Isaiev
+     */
+    public TestStack(int typeId, int count, ItemSize size, boolean wrapped) {
+        this.typeId = typeId;
+        this.count = count;
+        this.size = size;
+        this.wrapped = wrapped;
+    }
+
+    /**
+     * Checks if the stack was disposed.
+     *
+     * @return True if the stack was disposed, false otherwise.
+     *
+     * @author Mykola Isaiev
+     */
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    @Override
+    public int getTypeId() {
+        return typeId;
+    }
+
+    @Override
+    public String getName() {
+        return "type " + typeId;
+    }
+
+    @Override
+    public ItemSize getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isWrapped() {
+        return wrapped;
+    }
+
+    @Override
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public InventoryModel getModel() {
+        return model;
+    }
+
+    @Override
+    public int getSlot() {
+        return slot;
+    }
+
+    @Override
+    public void setSlot(InventoryModel model, int slot) {
+        this.model = model;
+        this.slot = slot;
+    }
+
+    @Override
+    public boolean canStackWith(ItemStack other) {
+        return other != this && !wrapped && !other.isWrapped() && other.getTypeId() == typeId;
+    }
+
+    @Override
+    public ItemStack split(int amount) {
+        count -= amount;
+        return new TestStack(typeId, amount, size, wrapped);
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+}
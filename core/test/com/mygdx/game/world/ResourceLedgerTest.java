@@ -0,0 +1,140 @@
+package com.mygdx.game.world;
+
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.game.ecs.components.TransformComponent;
+import com.mygdx.game.inventory.ItemSize;
+import com.mygdx.game.inventory.model.InventoryModel;
+import com.mygdx.game.inventory.model.TestStack;
+import com.mygdx.game.item.ItemType;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the totals of {@link ResourceLedger} and of taking items from the storages it follows.
+ *
+ * @author Mykola Isaiev
+ */
+public class ResourceLedgerTest {
+    /**
+     * The item type ID of the stacks of coal.
+     */
+    private static final int COAL = ItemType.COAL.getId();
+
+    /**
+     * The item type ID of the stacks of aluminium.
+     */
+    private static final int ALUMINIUM = ItemType.ALUMINIUM.getId();
+
+    /**
+     * The ledger under test.
+     */
+    private ResourceLedger ledger;
+
+    /**
+     * The inventory of the player, which has no position.
+     */
+    private InventoryModel player;
+
+    /**
+     * A storage near the origin.
+     */
+    private InventoryModel near;
+
+    /**
+     * A storage further from the origin.
+     */
+    private InventoryModel far;
+
+    /**
+     * The storages whose transaction was opened by {@link ResourceLedger#takeNearest}.
+     */
+    private final Array<InventoryModel> touched = new Array<>();
+
+    @Before
+    public void setUp() {
+        ledger = new ResourceLedger();
+        player = new InventoryModel(4, ItemSize.SMALL);
+        near = new InventoryModel(4, ItemSize.SMALL);
+        far = new InventoryModel(4, ItemSize.SMALL);
+        ledger.add(player, null);
+        ledger.add(near, at(10, 0));
+        ledger.add(far, at(100, 0));
+    }
+
+    @Test
+    public void totalsFollowAllInventories() {
+        player.add(new TestStack(COAL, 2));
+        near.add(new TestStack(COAL, 3));
+        far.add(new TestStack(COAL, 4));
+
+        assertEquals(9, ledger.count(COAL));
+        assertEquals(7, ledger.countNear(COAL, 0, 0, 200));
+        assertEquals(3, ledger.countNear(COAL, 0, 0, 50));
+        assertSame(near, ledger.findNearest(COAL, 0, 0, 200));
+    }
+
+    @Test
+    public void rollbackOfTypeAddedInTransactionResetsTotal() {
+        near.add(new TestStack(COAL, 3));
+
+        near.begin();
+        near.add(new TestStack(ALUMINIUM, 5));
+        assertEquals(5, ledger.count(ALUMINIUM));
+        near.rollback();
+
+        assertEquals(0, ledger.count(ALUMINIUM));
+        assertNull(ledger.find(ALUMINIUM, 1));
+        assertNull(ledger.findNearest(ALUMINIUM, 0, 0, 200));
+        assertEquals(3, ledger.count(COAL));
+    }
+
+    @Test
+    public void takeNearestEmptiesNearestStorageFirstInsideTransactions() {
+        near.add(new TestStack(COAL, 3));
+        far.add(new TestStack(COAL, 4));
+
+        assertEquals(5, ledger.takeNearest(COAL, 5, 0, 0, 200, touched));
+
+        assertEquals(0, near.count(COAL));
+        assertEquals(2, far.count(COAL));
+        assertEquals(2, touched.size);
+        assertTrue(touched.contains(near, true) && touched.contains(far, true));
+        for (InventoryModel storage : touched) {
+            storage.commit();
+        }
+        assertEquals(2, ledger.count(COAL));
+    }
+
+    @Test
+    public void rollbackOfTakenItemsRestoresTotals() {
+        near.add(new TestStack(COAL, 3));
+        far.add(new TestStack(COAL, 4));
+
+        assertEquals(7, ledger.takeNearest(COAL, 10, 0, 0, 200, touched));
+        for (InventoryModel storage : touched) {
+            storage.rollback();
+        }
+
+        assertEquals(7, ledger.count(COAL));
+        assertEquals(7, ledger.countNear(COAL, 0, 0, 200));
+    }
+
+    /**
+     * Creates the position of a storage.
+     *
+     * @param x The x-coordinate of the storage.
+     * @param y The y-coordinate of the storage.
+     * @return The position.
+     */
+    private static TransformComponent at(float x, float y) {
+        TransformComponent transform = new TransformComponent();
+        transform.x = x;
+        transform.y = y;
+        return transform;
+    }
+}
@@ -0,0 +1,61 @@
+package com.mygdx.game.world;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the hit order of {@link WorldItemLayer}.
+ *
+ * @author Mykola Isaiev
+ */
+public class WorldItemLayerTest {
+    /**
+     * A layer of four by four cells.
+     */
+    private WorldItemLayer layer;
+
+    @Before
+    public void setUp() {
+        layer = new WorldItemLayer(4 * WorldItemLayer.CELL_SIZE, 4 * WorldItemLayer.CELL_SIZE);
+    }
+
+    @Test
+    public void itemAddedLaterIsHitFirstWhateverItsCell() {
+        Actor first = item(300, 10, 50);
+        Actor second = item(200, 10, 120);
+
+        assertSame(second, layer.hit(310, 20, true));
+        assertSame(first, layer.hit(340, 20, true));
+    }
+
+    @Test
+    public void removedItemIsNotHit() {
+        Actor first = item(300, 10, 50);
+        Actor second = item(200, 10, 120);
+
+        second.remove();
+
+        assertSame(first, layer.hit(310, 20, true));
+        first.remove();
+        assertNull(layer.hit(310, 20, true));
+    }
+
+    /**
+     * Adds a square item to the layer.
+     *
+     * @param x The x-coordinate of the item.
+     * @param y The y-coordinate of the item.
+     * @param size The width and the height of the item.
+     * @return The item.
+     */
+    private Actor item(float x, float y, float size) {
+        Actor actor = new Actor();
+        actor.setBounds(x, y, size, size);
+        layer.addActor(actor);
+        return actor;
+    }
+}
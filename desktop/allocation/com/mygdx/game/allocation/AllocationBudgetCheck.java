@@ -0,0 +1,410 @@
+package com.mygdx.game.allocation;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.utils.DragAndDrop;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.mygdx.game.assets.AssetManifest;
+import com.mygdx.game.assets.Assets;
+import com.mygdx.game.entities.Player;
+import com.mygdx.game.item.Item;
+import com.mygdx.game.item.ItemType;
+import com.mygdx.game.item.modules.utils.Jetpack;
+import com.mygdx.game.world.GameMap;
+import com.mygdx.game.world.TileType;
+import com.mygdx.game.world.TiledGameMap;
+import com.mygdx.game.workbench.Recipes;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Checks that the steady state of the gameplay does not allocate more than a checked-in budget.
+ * Every scenario plays a new world without a window: the world is updated for a number of warm-up frames,
+ * then the bytes allocated by the game thread during the measured frames are read from the thread bean.
+ * The average allocation per frame of every scenario is compared with its budget from the budget file,
+ * and the check exits with status 1 if any scenario exceeds its budget.
+ * The check also fails if the number of loaded textures changes during the measured frames of a scenario,
+ * e.g. because the items mined or crafted in every frame retain their textures without releasing them,
+ * or if the number of orphaned drag sources grows: sources registered at the drag and drop object of the world
+ * whose item is neither on the stage nor stored in an inventory, e.g. because disposed items keep their drag sources
+ * and stay reachable. Items mined or picked up in the measured frames legitimately add sources and are not counted.
+ * Nothing is drawn, the graphics calls made while the world is created go to an OpenGL stub.
+ * Run it with {@code gradlew desktop:checkAllocations}.
+ *
+ * @author Mykola Isaiev
+ */
+public class AllocationBudgetCheck extends ApplicationAdapter {
+    /**
+     * The width of the simulated screen in pixels.
+     */
+    private static final int SCREEN_WIDTH = 1920;
+
+    /**
+     * The height of the simulated screen in pixels.
+     */
+    private static final int SCREEN_HEIGHT = 1080;
+
+    /**
+     * The time of one frame in seconds.
+     */
+    private static final float DELTA = 1 / 60f;
+
+    /**
+     * The number of frames played before the allocations are measured, so pools fill up and the code is compiled.
+     */
+    private static final int WARMUP_FRAMES = 1200;
+
+    /**
+     * The number of measured frames.
+     */
+    private static final int MEASURED_FRAMES = 600;
+
+    /**
+     * The scenarios of the check.
+     */
+    private static final Scenario[] SCENARIOS = {
+            new Scenario("walking") {
+                @Override
+                public void frame(int frame, GameMap map, ScriptedInput input) {
+                    // two seconds to the right, two seconds back
+                    if (frame % 240 < 120) {
+                        input.release(Input.Keys.A);
+                        input.press(Input.Keys.D);
+                    } else {
+                        input.release(Input.Keys.D);
+                        input.press(Input.Keys.A);
+                    }
+                }
+            },
+            new Scenario("drilling") {
+                @Override
+                public void setup(GameMap map, ScriptedInput input) {
+                    input.press(Input.Keys.E);
+                }
+
+                @Override
+                public void frame(int frame, GameMap map, ScriptedInput input) {
+                    input.release(Input.Keys.E);
+                    input.setButton(Input.Buttons.LEFT, true);
+                    // sweeps a row under the player in steps of three tiles, long enough to break the hardest tile,
+                    // then goes three tiles deeper
+                    int column = frame / 90 % 5 - 2;
+                    int row = frame / 450 % 5;
+                    input.moveTo(SCREEN_WIDTH / 2 + column * TileType.TILE_SIZE * 3,
+                            SCREEN_HEIGHT / 2 + (6 + row * 3) * TileType.TILE_SIZE);
+                }
+            },
+            new Scenario("jetpacking") {
+                @Override
+                public void setup(GameMap map, ScriptedInput input) {
+                    GameMap.getPlayer().getInventory().addItem(new Jetpack(ItemType.JETPACK, map.getDragAndDrop(), 0));
+                }
+
+                @Override
+                public void frame(int frame, GameMap map, ScriptedInput input) {
+                    Player player = GameMap.getPlayer();
+                    Jetpack jetpack = player.getInventory().getItemsOfClass(Jetpack.class).first();
+                    jetpack.refuel(jetpack.getFuelCapacity());
+                    // half a second up, one and a half seconds falling back, so the player stays inside the map
+                    if (frame % 120 < 30) {
+                        input.press(Input.Keys.SPACE);
+                    } else {
+                        input.release(Input.Keys.SPACE);
+                    }
+                }
+            },
+            new Scenario("crafting") {
+                @Override
+                public void frame(int frame, GameMap map, ScriptedInput input) {
+                    // one craft per frame, the result is removed again so the inventory never fills up
+                    Player player = GameMap.getPlayer();
+                    player.getInventory().addItem(map.getRawResourcePool().obtain(TileType.COMPOUND_SMALL));
+                    Recipes.craft(ItemType.MEDIUM_WORKBENCH, player.getInventory().getModel(), 1);
+                    player.getInventory().removeItems(ItemType.MEDIUM_WORKBENCH, 1);
+                }
+            }
+    };
+
+    /**
+     * The path of the budget file.
+     */
+    private final String budgetPath;
+
+    /**
+     * Released when the check has finished.
+     */
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    /**
+     * The input given to the game.
+     */
+    private final ScriptedInput input = new ScriptedInput();
+
+    /**
+     * Indicates whether a scenario exceeded its budget or the check could not run.
+     */
+    private volatile boolean failed = false;
+
+    /**
+     * The change of the number of loaded textures during the measured frames of the last measured scenario.
+     */
+    private int textureChange;
+
+    /**
+     * The change of the number of orphaned drag sources during the measured frames of the last measured scenario.
+     */
+    private int sourceChange;
+
+    /**
+     * Constructor for creating an AllocationBudgetCheck instance.
+     *
+     * @param budgetPath The path of the budget file.
+     *
+     * @author Mykola Isaiev
+     */
+    public AllocationBudgetCheck(String budgetPath) {
+        this.budgetPath = budgetPath;
+    }
+
+    /**
+     * Runs the check. The working directory must be the assets directory.
+     *
+     * @param args The path of the budget file.
+     * @throws InterruptedException If the thread is interrupted while waiting for the check.
+     *
+     * @author Mykola Isaiev
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length != 1) {
+            System.err.println("Usage: AllocationBudgetCheck <budget file>");
+            System.exit(2);
+        }
+
+        AllocationBudgetCheck check = new AllocationBudgetCheck(args[0]);
+        new HeadlessApplication(check, new HeadlessApplicationConfiguration());
+        check.finished.await();
+        System.exit(check.failed ? 1 : 0);
+    }
+
+    /**
+     * Plays all scenarios on the game thread and compares them with their budgets.
+     *
+     * @author Mykola Isaiev
+     */
+    @Override
+    public void create() {
+        try {
+            run();
+        } catch (Throwable e) {
+            e.printStackTrace();
+            failed = true;
+        } finally {
+            Gdx.app.exit();
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Loads the assets, plays the scenarios and prints the report.
+     *
+     * @throws IOException If the budget file cannot be read.
+     */
+    private void run() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream stream = new FileInputStream(budgetPath)) {
+            budgets.load(stream);
+        }
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("The JVM cannot measure the allocations of a thread");
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        Gdx.graphics = new ScreenGraphics();
+        Gdx.gl = Gdx.gl20 = createGl();
+        Gdx.input = input;
+        ShaderProgram.pedantic = false;
+
+        Assets.queue(AssetManifest.MENU);
+        Assets.queue(AssetManifest.GAME);
+        while (!Assets.update(100)) {
+            Thread.yield();
+        }
+
+        boolean overBudget = false;
+        System.out.println(String.format("%-12s %12s %12s", "scenario", "B/frame", "budget"));
+        for (Scenario scenario : SCENARIOS) {
+            long allocated = measure(scenario, threadBean) / MEASURED_FRAMES;
+            if (textureChange != 0) {
+                System.out.println(String.format("%-12s %+d loaded textures  LEAKED", scenario.getName(), textureChange));
+                failed = true;
+            }
+            if (sourceChange != 0) {
+                System.out.println(String.format("%-12s %+d orphaned drag sources  LEAKED", scenario.getName(), sourceChange));
+                failed = true;
+            }
+
+            String budget = budgets.getProperty(scenario.getName());
+            if (budget == null) {
+                System.out.println(String.format("%-12s %12d %12s  FAILED, no budget", scenario.getName(), allocated, "-"));
+                failed = true;
+                overBudget = true;
+                continue;
+            }
+
+            long limit = Long.parseLong(budget.trim());
+            if (allocated > limit) {
+                System.out.println(String.format("%-12s %12d %12d  REGRESSED by %d B/frame", scenario.getName(),
+                        allocated, limit, allocated - limit));
+                failed = true;
+                overBudget = true;
+            } else {
+                System.out.println(String.format("%-12s %12d %12d  ok", scenario.getName(), allocated, limit));
+            }
+        }
+
+        Assets.unload(AssetManifest.GAME);
+        Assets.unload(AssetManifest.MENU);
+        if (overBudget) {
+            System.out.println("Allocation budget exceeded, see " + budgetPath);
+        }
+    }
+
+    /**
+     * Plays a scenario in a new world and measures the bytes the game thread allocates in the measured frames.
+     * The change of the number of loaded textures in the measured frames is kept in {@link #textureChange},
+     * the change of the number of drag sources in {@link #sourceChange}.
+     *
+     * @param scenario The scenario.
+     * @param threadBean The thread bean measuring the allocations.
+     * @return The bytes allocated in all measured frames.
+     */
+    private long measure(Scenario scenario, com.sun.management.ThreadMXBean threadBean) {
+        long threadId = Thread.currentThread().getId();
+        GameMap map = new TiledGameMap();
+        Gdx.input.setInputProcessor(null);
+        input.reset();
+        scenario.setup(map, input);
+
+        long start = 0;
+        int textures = 0;
+        int sources = 0;
+        for (int frame = 0; frame < WARMUP_FRAMES + MEASURED_FRAMES; frame++) {
+            if (frame == WARMUP_FRAMES) {
+                // counting the textures allocates, so it happens before the allocations are measured
+                textures = Assets.getLoadedTextureCount();
+                sources = countOrphanedSources(map.getDragAndDrop());
+                start = threadBean.getThreadAllocatedBytes(threadId);
+            }
+            scenario.frame(frame, map, input);
+            map.update(DELTA);
+            // the camera is otherwise updated when the stage is drawn, the cursor of the next frame depends on it
+            GameMap.getStage().getCamera().update();
+            input.endFrame();
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+        textureChange = Assets.getLoadedTextureCount() - textures;
+        sourceChange = countOrphanedSources(map.getDragAndDrop()) - sources;
+
+        map.dipsose();
+        return allocated;
+    }
+
+    /**
+     * Returns the number of drag sources registered at a drag and drop object whose item is neither on the stage
+     * nor stored in an inventory. Free raw resources waiting in their pool are counted too, their number is steady.
+     * The drag and drop object does not expose its sources, so the map of their listeners is read by reflection.
+     *
+     * @param dragAndDrop The drag and drop object.
+     * @return The number of orphaned sources.
+     */
+    private static int countOrphanedSources(DragAndDrop dragAndDrop) {
+        try {
+            Field listeners = DragAndDrop.class.getDeclaredField("sourceListeners");
+            listeners.setAccessible(true);
+            int orphaned = 0;
+            for (Object source : ((ObjectMap<?, ?>) listeners.get(dragAndDrop)).keys()) {
+                Actor actor = ((DragAndDrop.Source) source).getActor();
+                boolean stored = actor instanceof Item && ((Item) actor).getModel() != null;
+                if (!actor.hasParent() && !stored) {
+                    orphaned++;
+                }
+            }
+            return orphaned;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("The drag sources cannot be counted with this version of libGDX", e);
+        }
+    }
+
+    /**
+     * Creates an OpenGL stub which accepts every call, reports every shader as compiled,
+     * names every created object 1 and returns zero from every other query.
+     *
+     * @return The stub.
+     */
+    private static GL20 createGl() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class}, (proxy, method, args) -> {
+            String name = method.getName();
+            if ((name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) && args[2] instanceof IntBuffer) {
+                int parameter = (Integer) args[1];
+                boolean status = parameter == GL20.GL_COMPILE_STATUS || parameter == GL20.GL_LINK_STATUS;
+                ((IntBuffer) args[2]).put(0, status ? 1 : 0);
+                return null;
+            }
+
+            Class<?> type = method.getReturnType();
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                // shaders, programs, buffers and textures need a name different from 0
+                return name.startsWith("glCreate") || name.startsWith("glGen") ? 1 : 0;
+            } else if (type == String.class) {
+                return "";
+            }
+            return null;
+        });
+    }
+
+    /**
+     * The graphics of the headless backend with the size of a real screen, so the viewports of the world are valid.
+     *
+     * @author Mykola Isaiev
+     */
+    private static class ScreenGraphics extends MockGraphics {
+        @Override
+        public int getWidth() {
+            return SCREEN_WIDTH;
+        }
+
+        @Override
+        public int getHeight() {
+            return SCREEN_HEIGHT;
+        }
+
+        @Override
+        public int getBackBufferWidth() {
+            return SCREEN_WIDTH;
+        }
+
+        @Override
+        public int getBackBufferHeight() {
+            return SCREEN_HEIGHT;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.mygdx.game.allocation;
+
+import com.mygdx.game.world.GameMap;
+
+/**
+ * A way of playing whose steady state is measured by the allocation check, e.g. walking or drilling.
+ * The scenario plays a new world: it is set up once and then gives the input of every frame.
+ *
+ * @author Mykola Isaiev
+ */
+public abstract class Scenario {
+    /**
+     * The name of the scenario, also its key in the budget file.
+     */
+    private final String name;
+
+    /**
+     * Constructor for creating a Scenario instance.
+     *
+     * @param name The name of the scenario, also its key in the budget file.
+     *
+     * @author Mykola Isaiev
+     */
+    protected Scenario(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the scenario.
+     *
+     * @return The name, also the key in the budget file.
+     *
+     * @author Mykola Isaiev
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Prepares a new world before the first frame, e.g. gives items to the player.
+     *
+     * @param map The world.
+     * @param input The scripted input.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setup(GameMap map, ScriptedInput input) {
+    }
+
+    /**
+     * Gives the input of a frame before the world is updated.
+     * This method is called in the measured frames too, so it must not allocate itself.
+     *
+     * @param frame The number of the frame, starting at 0 with the warm-up.
+     * @param map The world.
+     * @param input The scripted input.
+     *
+     * @author Mykola Isaiev
+     */
+    public abstract void frame(int frame, GameMap map, ScriptedInput input);
+}
@@ -0,0 +1,146 @@
+package com.mygdx.game.allocation;
+
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+
+/**
+ * Replaces the keyboard and the mouse while the allocation check drives the game without a window.
+ * A scenario presses and releases keys and buttons and moves the pointer before every frame.
+ * A key pressed during a frame counts as just pressed in this frame only.
+ *
+ * @author Mykola Isaiev
+ */
+public class ScriptedInput extends MockInput {
+    /**
+     * The number of key codes.
+     */
+    private static final int KEY_COUNT = 256;
+
+    /**
+     * The number of mouse buttons.
+     */
+    private static final int BUTTON_COUNT = 5;
+
+    /**
+     * The keys held down, by their key code.
+     */
+    private final boolean[] pressedKeys = new boolean[KEY_COUNT];
+
+    /**
+     * The keys pressed during the current frame, by their key code.
+     */
+    private final boolean[] justPressedKeys = new boolean[KEY_COUNT];
+
+    /**
+     * The mouse buttons held down.
+     */
+    private final boolean[] pressedButtons = new boolean[BUTTON_COUNT];
+
+    /**
+     * The x-coordinate of the pointer in screen coordinates.
+     */
+    private int x;
+
+    /**
+     * The y-coordinate of the pointer in screen coordinates, from the top of the screen.
+     */
+    private int y;
+
+    /**
+     * Presses a key. The key counts as just pressed until the next frame.
+     *
+     * @param key The key code.
+     *
+     * @author Mykola Isaiev
+     */
+    public void press(int key) {
+        justPressedKeys[key] = !pressedKeys[key];
+        pressedKeys[key] = true;
+    }
+
+    /**
+     * Releases a key.
+     *
+     * @param key The key code.
+     *
+     * @author Mykola Isaiev
+     */
+    public void release(int key) {
+        pressedKeys[key] = false;
+    }
+
+    /**
+     * Presses or releases a mouse button.
+     *
+     * @param button The button code.
+     * @param pressed True to press the button, false to release it.
+     *
+     * @author Mykola Isaiev
+     */
+    public void setButton(int button, boolean pressed) {
+        pressedButtons[button] = pressed;
+    }
+
+    /**
+     * Moves the pointer.
+     *
+     * @param x The x-coordinate in screen coordinates.
+     * @param y The y-coordinate in screen coordinates, from the top of the screen.
+     *
+     * @author Mykola Isaiev
+     */
+    public void moveTo(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Ends the current frame, the keys pressed in it are no longer just pressed.
+     *
+     * @author Mykola Isaiev
+     */
+    public void endFrame() {
+        for (int i = 0; i < KEY_COUNT; i++) {
+            justPressedKeys[i] = false;
+        }
+    }
+
+    /**
+     * Releases all keys and buttons.
+     *
+     * @author Mykola Isaiev
+     */
+    public void reset() {
+        for (int i = 0; i < KEY_COUNT; i++) {
+            pressedKeys[i] = false;
+            justPressedKeys[i] = false;
+        }
+        for (int i = 0; i < BUTTON_COUNT; i++) {
+            pressedButtons[i] = false;
+        }
+    }
+
+    @Override
+    public int getX() {
+        return x;
+    }
+
+    @Override
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        return key >= 0 && key < KEY_COUNT && pressedKeys[key];
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        return key >= 0 && key < KEY_COUNT && justPressedKeys[key];
+    }
+
+    @Override
+    public boolean isButtonPressed(int button) {
+        return button >= 0 && button < BUTTON_COUNT && pressedButtons[button];
+    }
+}